@@ -4,6 +4,7 @@ plugins {
     id("org.springframework.boot") version "3.4.2"
     id("io.spring.dependency-management") version "1.1.7"
     id("org.sonarqube") version "4.4.1.3373"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "id.ac.ui.cs.advprog"
@@ -13,6 +14,8 @@ val seleniumJavaVersion = "4.14.1"
 val seleniumJupiterVersion = "5.0.1"
 val webdrivermanagerVersion = "5.6.3"
 val junitJupiterVersion = "5.9.1"
+val resilience4jVersion = "2.2.0"
+val hdrHistogramVersion = "2.2.2"
 
 java {
     toolchain {
@@ -33,11 +36,20 @@ repositories {
 dependencies {
     implementation("org.springframework.boot:spring-boot-starter-thymeleaf")
     implementation("org.springframework.boot:spring-boot-starter-web")
+    // WebClient for the reactive read path; with Spring MVC present the app stays a servlet app.
+    implementation("org.springframework.boot:spring-boot-starter-webflux")
     implementation("org.springframework.boot:spring-boot-starter-security")
     implementation("io.jsonwebtoken:jjwt-api:0.11.5")
     implementation("org.springframework.cloud:spring-cloud-starter-openfeign")
+    implementation("io.github.openfeign:feign-hc5")
+    implementation("io.github.openfeign:feign-micrometer")
+    implementation("io.github.resilience4j:resilience4j-spring-boot3:$resilience4jVersion")
+    implementation("io.github.resilience4j:resilience4j-micrometer:$resilience4jVersion")
+    implementation("io.github.resilience4j:resilience4j-reactor:$resilience4jVersion")
     implementation("org.springframework.boot:spring-boot-starter-actuator")
+    implementation("org.springframework.boot:spring-boot-starter-aop")
     implementation("io.micrometer:micrometer-registry-prometheus")
+    implementation("com.github.ben-manes.caffeine:caffeine")
     runtimeOnly("io.jsonwebtoken:jjwt-impl:0.11.5")
     runtimeOnly("io.jsonwebtoken:jjwt-jackson:0.11.5")
     compileOnly("org.projectlombok:lombok")
@@ -56,7 +68,17 @@ dependencies {
     testImplementation("org.springframework.security:spring-security-test")
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
     implementation("org.postgresql:postgresql")
+    implementation("org.flywaydb:flyway-core")
+    runtimeOnly("org.flywaydb:flyway-database-postgresql")
+    implementation("org.springframework:spring-r2dbc")
+    implementation("io.r2dbc:r2dbc-pool")
+    runtimeOnly("org.postgresql:r2dbc-postgresql")
     testImplementation("com.h2database:h2")
+    testRuntimeOnly("io.r2dbc:r2dbc-h2")
+    testImplementation("io.projectreactor:reactor-test")
+    testImplementation("org.hdrhistogram:HdrHistogram:$hdrHistogramVersion")
+    jmh("org.springframework:spring-test")
+    jmh("org.mockito:mockito-core")
 }
 
 dependencyManagement {
@@ -71,6 +93,8 @@ tasks.register<Test>("unitTest") {
 
     filter {
         excludeTestsMatching("*FunctionalTest")
+        excludeTestsMatching("*Benchmark")
+        excludeTestsMatching("*LoadTest")
     }
 }
 
@@ -83,13 +107,56 @@ tasks.register<Test>("functionalTest") {
     }
 }
 
+tasks.register<Test>("benchmark") {
+    description = "Runs benchmarks"
+    group = "verification"
+
+    filter {
+        includeTestsMatching("*Benchmark")
+    }
+    listOf("benchmark.reviews", "benchmark.jdbc.url", "benchmark.jdbc.username", "benchmark.jdbc.password")
+        .forEach { name -> System.getProperty(name)?.let { systemProperty(name, it) } }
+    testLogging {
+        showStandardStreams = true
+    }
+}
+
+tasks.register<Test>("loadTest") {
+    description = "Runs the load test against WireMock stand-ins for the course and auth services"
+    group = "verification"
+
+    filter {
+        includeTestsMatching("*LoadTest")
+    }
+    System.getProperties().stringPropertyNames()
+        .filter { it.startsWith("loadtest.") }
+        .forEach { name -> systemProperty(name, System.getProperty(name)) }
+    outputs.upToDateWhen { false }
+    testLogging {
+        showStandardStreams = true
+    }
+}
+
 tasks.test {
     filter {
         excludeTestsMatching("*FunctionalTest")
+        excludeTestsMatching("*Benchmark")
+        excludeTestsMatching("*LoadTest")
     }
     finalizedBy(tasks.jacocoTestReport)
 }
 
+jmh {
+    warmupIterations = 3
+    iterations = 5
+    fork = 1
+    profilers = listOf("gc")
+    // Versioned JSON results, so runs of two releases can be diffed.
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("reports/jmh/results-${project.version}.json")
+    (findProperty("jmh.includes") as String?)?.let { includes = listOf(it) }
+}
+
 tasks.jacocoTestReport {
     dependsOn(tasks.test)
     reports {
@@ -0,0 +1,65 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.dto.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of writing a list of {@link ReviewResponse} as JSON with the same Jackson setup
+ * Spring MVC uses, for list sizes from a single review up to a large course.
+ * <p>
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReviewResponseSerializationBenchmark {
+
+    @Param({"1", "20", "100", "1000"})
+    private int size;
+
+    private ObjectWriter writer;
+    private List<ReviewResponse> responses;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, ReviewResponse.class));
+
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+        responses = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            responses.add(ReviewResponse.builder()
+                    .id(UUID.randomUUID())
+                    .courseId("42")
+                    .courseName("Advanced Programming")
+                    .studentId((long) i)
+                    .studentName("Student " + i)
+                    .reviewText("The course covered design patterns, concurrency and testing in depth.")
+                    .rating(1 + i % 5)
+                    .createdAt(now.plusMinutes(i))
+                    .updatedAt(now.plusMinutes(i))
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public byte[] writeAsBytes() throws Exception {
+        return writer.writeValueAsBytes(responses);
+    }
+}
@@ -0,0 +1,46 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.factory;
+
+import id.ac.ui.cs.advprog.udehnihreviewrating.model.Review;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of building one review in {@link ReviewFactoryImpl}, including id generation, next
+ * to the bare id generators it used before and uses now.
+ * <p>
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ReviewFactoryBenchmark {
+
+    private final ReviewFactory reviewFactory = new ReviewFactoryImpl();
+
+    @Benchmark
+    public Review createBasicReview() {
+        return reviewFactory.createBasicReview(1L, 2L, "Great course!", 5);
+    }
+
+    @Benchmark
+    public Review createRatingOnlyReview() {
+        return reviewFactory.createRatingOnlyReview(1L, 2L, 4);
+    }
+
+    @Benchmark
+    public UUID randomUuid() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    public UUID timeOrderedUuid() {
+        return TimeOrderedUuids.next();
+    }
+}
@@ -0,0 +1,121 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.security.Key;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of authenticating one request with {@link JwtAuthenticationFilter}.
+ * <p>
+ * {@code legacyDoubleParse} reproduces the previous filter, which decoded the secret and
+ * verified the signature twice per request. The other benchmarks run the current filter
+ * with the verified-token cache disabled, with a warm cache, and on a public route.
+ * <p>
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET_KEY = "dGhpc2lzYXZlcnlsb25nc2VjcmV0a2V5Zm9ydGVzdGluZ2p3dHRva2Vuczk4NzY1NDMyMTA=";
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    private String token;
+    private JwtAuthenticationFilter uncachedFilter;
+    private JwtAuthenticationFilter cachedFilter;
+    private MockHttpServletRequest authenticatedRequest;
+    private MockHttpServletRequest publicRequest;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() throws Exception {
+        token = Jwts.builder()
+                .setClaims(Map.of("roles", List.of("STUDENT"), "email", "student@example.com"))
+                .setSubject("456")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                .signWith(signingKey(), SignatureAlgorithm.HS256)
+                .compact();
+
+        uncachedFilter = new JwtAuthenticationFilter(SECRET_KEY, 0, Duration.ofMinutes(10), null);
+        cachedFilter = new JwtAuthenticationFilter(SECRET_KEY, 10_000, Duration.ofMinutes(10), null);
+
+        authenticatedRequest = request("GET", "/api/reviews/course/1/page");
+        authenticatedRequest.addHeader("Authorization", "Bearer " + token);
+        publicRequest = request("GET", "/api/reviews/course/1/average-rating");
+        publicRequest.addHeader("Authorization", "Bearer " + token);
+        response = new MockHttpServletResponse();
+
+        cachedFilter.doFilter(authenticatedRequest, response, NO_OP_CHAIN);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public void legacyDoubleParse(Blackhole blackhole) {
+        String header = authenticatedRequest.getHeader("Authorization");
+        String jwt = header.substring(7);
+
+        Jwts.parserBuilder().setSigningKey(signingKey()).build().parseClaimsJws(jwt);
+        Claims claims = Jwts.parserBuilder().setSigningKey(signingKey()).build().parseClaimsJws(jwt).getBody();
+
+        List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_STUDENT"));
+        StudentDetails studentDetails = new StudentDetails(
+                Long.parseLong(claims.getSubject()), claims.get("email", String.class), authorities);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(studentDetails, jwt, authorities));
+        blackhole.consume(studentDetails);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public void singleParse() throws Exception {
+        uncachedFilter.doFilter(authenticatedRequest, response, NO_OP_CHAIN);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public void cachedToken() throws Exception {
+        cachedFilter.doFilter(authenticatedRequest, response, NO_OP_CHAIN);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public void publicRoute() throws Exception {
+        cachedFilter.doFilter(publicRequest, response, NO_OP_CHAIN);
+        SecurityContextHolder.clearContext();
+    }
+
+    private static MockHttpServletRequest request(String method, String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setServletPath(path);
+        return request;
+    }
+
+    private static Key signingKey() {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_KEY));
+    }
+}
@@ -0,0 +1,145 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.service;
+
+import id.ac.ui.cs.advprog.udehnihreviewrating.client.CourseClient;
+import id.ac.ui.cs.advprog.udehnihreviewrating.client.StudentClient;
+import id.ac.ui.cs.advprog.udehnihreviewrating.config.EnrichmentProperties;
+import id.ac.ui.cs.advprog.udehnihreviewrating.config.ReviewPageProperties;
+import id.ac.ui.cs.advprog.udehnihreviewrating.config.ReviewStreamProperties;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.course.CourseDetailDTO;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.response.ReviewResponse;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.student.StudentDTO;
+import id.ac.ui.cs.advprog.udehnihreviewrating.factory.ReviewFactoryImpl;
+import id.ac.ui.cs.advprog.udehnihreviewrating.model.Review;
+import id.ac.ui.cs.advprog.udehnihreviewrating.repository.ReviewRepository;
+import id.ac.ui.cs.advprog.udehnihreviewrating.repository.ReviewView;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Cost of turning reviews into {@link ReviewResponse}s in {@link ReviewServiceImpl}, with
+ * course and student clients that answer immediately. With {@code snapshots} the rows
+ * carry their names and skip enrichment entirely; without, every call resolves names
+ * through {@link EnrichmentExecutor} as it would on a cold request.
+ * <p>
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReviewServiceConversionBenchmark {
+
+    private static final long COURSE_ID = 42L;
+
+    @Param({"1", "20", "100"})
+    private int reviews;
+
+    @Param({"true", "false"})
+    private boolean snapshots;
+
+    private ReviewService reviewService;
+    private UUID singleReviewId;
+
+    @Setup
+    public void setUp() {
+        List<ReviewView> views = new ArrayList<>(reviews);
+        Review first = null;
+        for (int i = 0; i < reviews; i++) {
+            Review review = review(i);
+            first = first == null ? review : first;
+            views.add(ReviewView.of(review));
+        }
+        singleReviewId = first.getId();
+
+        ReviewRepository reviewRepository = mock(ReviewRepository.class);
+        when(reviewRepository.findViewsByCourseId(COURSE_ID)).thenReturn(views);
+        when(reviewRepository.findById(singleReviewId)).thenReturn(Optional.of(first));
+
+        EnrichmentProperties enrichmentProperties = new EnrichmentProperties();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        reviewService = new ReviewServiceImpl(reviewRepository, new ReviewFactoryImpl(),
+                new StubCourseClient(), new StubStudentClient(),
+                new EnrichmentExecutor(enrichmentProperties), new LookupContextProvider(meterRegistry),
+                mock(CourseRatingStatsService.class),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                new ReviewPageProperties(), new ReviewStreamProperties(),
+                new LastKnownLookups(enrichmentProperties, meterRegistry));
+    }
+
+    @Benchmark
+    public ReviewResponse convertOne() {
+        return reviewService.getReviewById(singleReviewId);
+    }
+
+    @Benchmark
+    public List<ReviewResponse> convertCourseList() {
+        return reviewService.getReviewsByCourse(COURSE_ID);
+    }
+
+    private Review review(int i) {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 12, 0).plusMinutes(i);
+        return Review.builder()
+                .id(UUID.randomUUID())
+                .courseId(COURSE_ID)
+                .studentId((long) i)
+                .reviewText("Synthetic review " + i)
+                .rating(1 + i % 5)
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .courseTitle(snapshots ? "Advanced Programming" : null)
+                .studentName(snapshots ? "Student " + i : null)
+                .build();
+    }
+
+    private static class StubCourseClient implements CourseClient {
+
+        @Override
+        public CourseDetailDTO getCourseById(Long courseId) {
+            return course(courseId);
+        }
+
+        @Override
+        public List<CourseDetailDTO> getCoursesByIds(List<Long> courseIds) {
+            return courseIds.stream().map(StubCourseClient::course).toList();
+        }
+
+        private static CourseDetailDTO course(Long courseId) {
+            return CourseDetailDTO.builder().id(courseId).title("Advanced Programming").build();
+        }
+    }
+
+    private static class StubStudentClient implements StudentClient {
+
+        @Override
+        public StudentDTO getStudentById(Long studentId) {
+            return student(studentId);
+        }
+
+        @Override
+        public List<StudentDTO> getStudentsByIds(List<Long> studentIds) {
+            return studentIds.stream().map(StubStudentClient::student).toList();
+        }
+
+        private static StudentDTO student(Long studentId) {
+            return StudentDTO.builder().studentId(studentId).name("Student " + studentId).build();
+        }
+    }
+}
@@ -2,10 +2,14 @@ package id.ac.ui.cs.advprog.udehnihreviewrating;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
 @EnableFeignClients
+@EnableScheduling
 public class UdehnihReviewRatingApplication {
     public static void main(String[] args) {
         SpringApplication.run(UdehnihReviewRatingApplication.class, args);
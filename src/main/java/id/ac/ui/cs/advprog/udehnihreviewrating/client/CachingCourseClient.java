@@ -0,0 +1,45 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.client;
+
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import id.ac.ui.cs.advprog.udehnihreviewrating.config.LookupCacheProperties;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.course.CourseDetailDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * {@link CourseClient} that keeps course metadata in a bounded in-process cache and only
+ * calls the course service on misses. Batch lookups fetch the missing ids in one call.
+ */
+public class CachingCourseClient implements CourseClient {
+
+    static final String CACHE_NAME = "course-lookup";
+
+    private final LoadingCache<Long, CourseDetailDTO> cache;
+
+    public CachingCourseClient(CourseClient delegate, LookupCacheProperties.Spec spec, MeterRegistry meterRegistry) {
+        this(delegate, spec, meterRegistry, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param refreshExecutor runs the background refreshes of entries past {@code refresh-after-write}
+     */
+    public CachingCourseClient(CourseClient delegate, LookupCacheProperties.Spec spec, MeterRegistry meterRegistry,
+                               Executor refreshExecutor) {
+        this.cache = LookupCaches.build(spec,
+                LookupCaches.loader(delegate::getCourseById, delegate::getCoursesByIds, CourseDetailDTO::getId),
+                meterRegistry, CACHE_NAME, refreshExecutor);
+    }
+
+    @Override
+    public CourseDetailDTO getCourseById(Long courseId) {
+        return cache.get(courseId);
+    }
+
+    @Override
+    public List<CourseDetailDTO> getCoursesByIds(List<Long> courseIds) {
+        return LookupCaches.getAll(cache, courseIds);
+    }
+}
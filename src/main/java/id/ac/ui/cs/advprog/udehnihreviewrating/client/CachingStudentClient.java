@@ -0,0 +1,45 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.client;
+
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import id.ac.ui.cs.advprog.udehnihreviewrating.config.LookupCacheProperties;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.student.StudentDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * {@link StudentClient} that keeps student profiles in a bounded in-process cache and only
+ * calls the auth service on misses. Batch lookups fetch the missing ids in one call.
+ */
+public class CachingStudentClient implements StudentClient {
+
+    static final String CACHE_NAME = "student-lookup";
+
+    private final LoadingCache<Long, StudentDTO> cache;
+
+    public CachingStudentClient(StudentClient delegate, LookupCacheProperties.Spec spec, MeterRegistry meterRegistry) {
+        this(delegate, spec, meterRegistry, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param refreshExecutor runs the background refreshes of entries past {@code refresh-after-write}
+     */
+    public CachingStudentClient(StudentClient delegate, LookupCacheProperties.Spec spec, MeterRegistry meterRegistry,
+                                Executor refreshExecutor) {
+        this.cache = LookupCaches.build(spec,
+                LookupCaches.loader(delegate::getStudentById, delegate::getStudentsByIds, StudentDTO::getStudentId),
+                meterRegistry, CACHE_NAME, refreshExecutor);
+    }
+
+    @Override
+    public StudentDTO getStudentById(Long studentId) {
+        return cache.get(studentId);
+    }
+
+    @Override
+    public List<StudentDTO> getStudentsByIds(List<Long> studentIds) {
+        return LookupCaches.getAll(cache, studentIds);
+    }
+}
@@ -0,0 +1,19 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.client;
+
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.util.function.Predicate;
+
+/**
+ * Matches 4xx answers to WebClient calls, which the circuit breakers ignore for the same
+ * reason they ignore {@code FeignClientException}: the service is up. Referenced from
+ * {@code resilience4j.circuitbreaker.configs.default.ignore-exception-predicate}.
+ */
+public class ClientErrorResponsePredicate implements Predicate<Throwable> {
+
+    @Override
+    public boolean test(Throwable throwable) {
+        return throwable instanceof WebClientResponseException response
+                && response.getStatusCode().is4xxClientError();
+    }
+}
@@ -5,14 +5,22 @@ import id.ac.ui.cs.advprog.udehnihreviewrating.dto.course.CourseDetailDTO;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
 
 @FeignClient(
         name = "course-service",
         url = "${course-service.url}",
-        configuration = FeignConfig.class
+        configuration = FeignConfig.class,
+        qualifiers = "courseFeignClient",
+        primary = false
 )
 public interface CourseClient {
 
     @GetMapping("/api/courses/public/{courseId}")
     CourseDetailDTO getCourseById(@PathVariable("courseId") Long courseId);
-}
\ No newline at end of file
+
+    @GetMapping("/api/courses/public/batch")
+    List<CourseDetailDTO> getCoursesByIds(@RequestParam("ids") List<Long> courseIds);
+}
@@ -0,0 +1,85 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.client;
+
+import feign.FeignException;
+import feign.RetryableException;
+import id.ac.ui.cs.advprog.udehnihreviewrating.config.RequestTimings;
+import id.ac.ui.cs.advprog.udehnihreviewrating.exception.DownstreamUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.function.Supplier;
+
+/**
+ * Guards the calls to one downstream service with a semaphore bulkhead around a circuit
+ * breaker. The bulkhead caps how many request threads can be blocked on the service at
+ * once; the breaker stops calling it while it keeps failing and lets a few probe calls
+ * through once it has been open for a while.
+ * <p>
+ * Rejected calls, timeouts and 5xx responses surface as
+ * {@link DownstreamUnavailableException}, so callers can tell an unavailable service apart
+ * from a 4xx answer, which passes through unchanged and does not count as a failure.
+ * <p>
+ * Every call is timed as {@code review.downstream.calls}, tagged with the service, the
+ * client method and the outcome: {@code success}, {@code client_error} for a 4xx answer,
+ * {@code unavailable} for the cases above, or {@code error} for anything else. The same
+ * duration is added to the current request's {@link RequestTimings} under the service name.
+ */
+public class DownstreamGuard {
+
+    private final String service;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final MeterRegistry meterRegistry;
+
+    public DownstreamGuard(String service, CircuitBreaker circuitBreaker, Bulkhead bulkhead,
+                           MeterRegistry meterRegistry) {
+        this.service = service;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.meterRegistry = meterRegistry;
+
+        circuitBreaker.getEventPublisher().onStateTransition(event ->
+                Counter.builder("review.downstream.circuit.transitions")
+                        .description("Circuit breaker state transitions per downstream service")
+                        .tag("service", service)
+                        .tag("from", event.getStateTransition().getFromState().name())
+                        .tag("to", event.getStateTransition().getToState().name())
+                        .register(meterRegistry)
+                        .increment());
+    }
+
+    /**
+     * Runs {@code call} through the bulkhead and the breaker. {@code method} names the
+     * client method being called and only tags the timer.
+     */
+    public <T> T call(String method, Supplier<T> call) {
+        Supplier<T> guarded = Bulkhead.decorateSupplier(bulkhead, CircuitBreaker.decorateSupplier(circuitBreaker, call));
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            T result = guarded.get();
+            outcome = "success";
+            return result;
+        } catch (CallNotPermittedException | BulkheadFullException
+                 | RetryableException | FeignException.FeignServerException e) {
+            outcome = "unavailable";
+            throw new DownstreamUnavailableException(service, e);
+        } catch (FeignException.FeignClientException e) {
+            outcome = "client_error";
+            throw e;
+        } finally {
+            long nanos = sample.stop(Timer.builder("review.downstream.calls")
+                    .description("Calls to downstream services, including calls rejected by the guard")
+                    .tag("service", service)
+                    .tag("method", method)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+            RequestTimings.record(service, nanos);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.client;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+/**
+ * Carries the caller's token to the WebClient lookups, as {@code FeignRequestInterceptor}
+ * does for Feign. Reactive lookups run on event-loop threads that see neither the
+ * security context nor the servlet request, so the header is captured on the request
+ * thread into the Reactor {@link Context} and read back from there by {@link #filter()}.
+ */
+public final class ForwardedAuthorization {
+
+    private static final String CONTEXT_KEY = ForwardedAuthorization.class.getName();
+
+    private ForwardedAuthorization() {
+    }
+
+    /**
+     * Captures the current request's token. Must be called on the request thread, while
+     * assembling the reactive pipeline; returns an empty context when there is no token.
+     */
+    public static Context capture() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getCredentials() instanceof String token) {
+            return Context.of(CONTEXT_KEY, "Bearer " + token);
+        }
+
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            HttpServletRequest request = attributes.getRequest();
+            String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
+            if (authHeader != null && !authHeader.isEmpty()) {
+                return Context.of(CONTEXT_KEY, authHeader);
+            }
+        }
+        return Context.empty();
+    }
+
+    /**
+     * Adds the captured token, if any, as the {@code Authorization} header of each call.
+     */
+    public static ExchangeFilterFunction filter() {
+        return (request, next) -> Mono.deferContextual(context -> {
+            ClientRequest forwarded = context.<String>getOrEmpty(CONTEXT_KEY)
+                    .map(authHeader -> ClientRequest.from(request)
+                            .header(HttpHeaders.AUTHORIZATION, authHeader)
+                            .build())
+                    .orElse(request);
+            return next.exchange(forwarded);
+        });
+    }
+}
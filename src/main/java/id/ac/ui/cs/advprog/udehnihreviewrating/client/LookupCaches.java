@@ -0,0 +1,91 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.client;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import id.ac.ui.cs.advprog.udehnihreviewrating.config.LookupCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+final class LookupCaches {
+
+    private LookupCaches() {
+    }
+
+    /**
+     * Builds a size-bounded, TTL-evicting loading cache and registers its statistics
+     * (hits, misses, evictions, load time) with the given registry under {@code cacheName}.
+     * Concurrent misses for the same key share a single load. Background refreshes run
+     * with the security context of the request that triggered them, so the forwarded
+     * token is still available to {@code FeignRequestInterceptor}. Refreshes block on a
+     * remote call, so {@code refreshExecutor} should not be a small CPU-bound pool when
+     * lookups are slow.
+     */
+    static <V> LoadingCache<Long, V> build(LookupCacheProperties.Spec spec, CacheLoader<Long, V> loader,
+                                           MeterRegistry meterRegistry, String cacheName, Executor refreshExecutor) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .maximumSize(spec.getMaximumSize())
+                .expireAfterWrite(spec.getExpireAfterWrite())
+                .executor(new DelegatingSecurityContextExecutor(refreshExecutor))
+                .recordStats();
+
+        if (spec.getRefreshAfterWrite() != null
+                && spec.getRefreshAfterWrite().compareTo(spec.getExpireAfterWrite()) < 0) {
+            builder.refreshAfterWrite(spec.getRefreshAfterWrite());
+        }
+
+        LoadingCache<Long, V> cache = builder.build(loader);
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, cacheName);
+    }
+
+    /**
+     * Adapts a client's single and batch lookups to a {@link CacheLoader}. Batch results
+     * are keyed by {@code idOf}; entries without an id are dropped, so their keys stay
+     * missing.
+     */
+    static <V> CacheLoader<Long, V> loader(Function<Long, V> load, Function<List<Long>, List<V>> loadAll,
+                                           Function<V, Long> idOf) {
+        return new CacheLoader<>() {
+            @Override
+            public V load(Long key) {
+                return load.apply(key);
+            }
+
+            @Override
+            public Map<Long, V> loadAll(Set<? extends Long> keys) {
+                Map<Long, V> values = new HashMap<>();
+                for (V value : loadAll.apply(new ArrayList<>(keys))) {
+                    if (value != null && idOf.apply(value) != null) {
+                        values.put(idOf.apply(value), value);
+                    }
+                }
+                return values;
+            }
+        };
+    }
+
+    /**
+     * Looks up all {@code keys}, loading the missing ones in one batch, and returns the
+     * values found in the order of {@code keys}.
+     */
+    static <V> List<V> getAll(LoadingCache<Long, V> cache, List<Long> keys) {
+        Map<Long, V> values = cache.getAll(keys);
+        List<V> result = new ArrayList<>(values.size());
+        for (Long key : keys) {
+            V value = values.get(key);
+            if (value != null) {
+                result.add(value);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,66 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.client;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import id.ac.ui.cs.advprog.udehnihreviewrating.config.LookupCacheProperties;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.course.CourseDetailDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Non-blocking lookups against the course service, for the reactive read path. Covers the
+ * same endpoints as {@link CourseClient}, stacked the same way: cache, then
+ * {@link ReactiveDownstreamGuard}, then WebClient.
+ */
+public class ReactiveCourseClient {
+
+    static final String CACHE_NAME = "course-lookup-reactive";
+
+    private static final ParameterizedTypeReference<List<CourseDetailDTO>> COURSE_LIST =
+            new ParameterizedTypeReference<>() {
+            };
+
+    private final WebClient webClient;
+    private final ReactiveDownstreamGuard guard;
+    private final AsyncCache<Long, CourseDetailDTO> cache;
+
+    public ReactiveCourseClient(WebClient webClient, ReactiveDownstreamGuard guard, LookupCacheProperties.Spec spec,
+                                MeterRegistry meterRegistry) {
+        this.webClient = webClient;
+        this.guard = guard;
+        this.cache = ReactiveLookupCaches.build(spec, meterRegistry, CACHE_NAME);
+    }
+
+    public Mono<CourseDetailDTO> getCourseById(Long courseId) {
+        return ReactiveLookupCaches.get(cache, courseId, id -> guard.call("getCourseById", webClient.get()
+                .uri("/api/courses/public/{courseId}", id)
+                .retrieve()
+                .bodyToMono(CourseDetailDTO.class)));
+    }
+
+    /**
+     * Returns the courses found, keyed by id.
+     */
+    public Mono<Map<Long, CourseDetailDTO>> getCoursesByIds(List<Long> courseIds) {
+        return ReactiveLookupCaches.getAll(cache, courseIds, ids -> guard.call("getCoursesByIds", webClient.get()
+                        .uri(uri -> uri.path("/api/courses/public/batch").queryParam("ids", ids).build())
+                        .retrieve()
+                        .bodyToMono(COURSE_LIST))
+                .map(ReactiveCourseClient::byId));
+    }
+
+    private static Map<Long, CourseDetailDTO> byId(List<CourseDetailDTO> courses) {
+        Map<Long, CourseDetailDTO> byId = new HashMap<>();
+        for (CourseDetailDTO course : courses) {
+            if (course != null && course.getId() != null) {
+                byId.put(course.getId(), course);
+            }
+        }
+        return byId;
+    }
+}
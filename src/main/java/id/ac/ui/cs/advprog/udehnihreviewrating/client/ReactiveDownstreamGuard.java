@@ -0,0 +1,93 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.client;
+
+import id.ac.ui.cs.advprog.udehnihreviewrating.exception.DownstreamUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * The non-blocking counterpart of {@link DownstreamGuard}, for WebClient calls. It uses the
+ * same circuit breaker and bulkhead instances, so both read paths see one breaker state
+ * per service and share its concurrency cap; the bulkhead rejects at once instead of
+ * waiting for a permit.
+ * <p>
+ * Calls longer than {@code totalTimeout} fail, which {@code TotalTimeoutClient} enforces on
+ * the Feign side. Rejected calls, timeouts, connection failures and 5xx responses surface as
+ * {@link DownstreamUnavailableException}; 4xx responses pass through unchanged. Calls are
+ * timed as {@code review.downstream.calls} with the same tags as the blocking guard. The
+ * state transition counter is left to {@link DownstreamGuard}, which registers it once per
+ * breaker.
+ */
+public class ReactiveDownstreamGuard {
+
+    private final String service;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final Duration totalTimeout;
+    private final MeterRegistry meterRegistry;
+
+    public ReactiveDownstreamGuard(String service, CircuitBreaker circuitBreaker, Bulkhead bulkhead,
+                                   Duration totalTimeout, MeterRegistry meterRegistry) {
+        this.service = service;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.totalTimeout = totalTimeout;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Subscribes to {@code call} through the bulkhead and the breaker. {@code method} names
+     * the client method being called and only tags the timer.
+     */
+    public <T> Mono<T> call(String method, Mono<T> call) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            Mono<T> timed = totalTimeout.isZero() ? call : call.timeout(totalTimeout);
+            return timed
+                    .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                    .transformDeferred(BulkheadOperator.of(bulkhead))
+                    .onErrorMap(ReactiveDownstreamGuard::isUnavailable,
+                            e -> new DownstreamUnavailableException(service, e))
+                    .doOnSuccess(result -> record(sample, method, "success"))
+                    .doOnError(e -> record(sample, method, outcome(e)));
+        });
+    }
+
+    private void record(Timer.Sample sample, String method, String outcome) {
+        sample.stop(Timer.builder("review.downstream.calls")
+                .description("Calls to downstream services, including calls rejected by the guard")
+                .tag("service", service)
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+
+    private static boolean isUnavailable(Throwable e) {
+        return e instanceof CallNotPermittedException
+                || e instanceof BulkheadFullException
+                || e instanceof TimeoutException
+                || e instanceof WebClientRequestException
+                || (e instanceof WebClientResponseException response && response.getStatusCode().is5xxServerError());
+    }
+
+    private static String outcome(Throwable e) {
+        if (e instanceof DownstreamUnavailableException) {
+            return "unavailable";
+        }
+        if (e instanceof WebClientResponseException response && response.getStatusCode().is4xxClientError()) {
+            return "client_error";
+        }
+        return "error";
+    }
+}
@@ -0,0 +1,58 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.client;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import id.ac.ui.cs.advprog.udehnihreviewrating.config.LookupCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+final class ReactiveLookupCaches {
+
+    private ReactiveLookupCaches() {
+    }
+
+    /**
+     * Builds the asynchronous counterpart of {@link LookupCaches#build}: same size bound,
+     * TTL and statistics, but entries are futures, so concurrent misses for a key share
+     * one in-flight call without blocking anyone. Background refresh is not used; expired
+     * entries are loaded again on the next miss.
+     */
+    static <V> AsyncCache<Long, V> build(LookupCacheProperties.Spec spec, MeterRegistry meterRegistry,
+                                         String cacheName) {
+        AsyncCache<Long, V> cache = Caffeine.newBuilder()
+                .maximumSize(spec.getMaximumSize())
+                .expireAfterWrite(spec.getExpireAfterWrite())
+                .recordStats()
+                .buildAsync();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, cacheName);
+    }
+
+    /**
+     * Looks up {@code key}, calling {@code loader} on a miss with the subscriber's context,
+     * so the forwarded token reaches the call. An empty result is not cached. Cancelling
+     * the returned {@code Mono} leaves a running load alone, as other callers may share it.
+     */
+    static <V> Mono<V> get(AsyncCache<Long, V> cache, Long key, Function<Long, Mono<V>> loader) {
+        return Mono.deferContextual(context -> Mono.fromFuture(
+                cache.get(key, (id, executor) -> loader.apply(id).contextWrite(context).toFuture()), true));
+    }
+
+    /**
+     * Looks up all {@code keys}, loading the missing ones with one call to {@code loader}.
+     * Keys the loader does not return are left out of the result.
+     */
+    static <V> Mono<Map<Long, V>> getAll(AsyncCache<Long, V> cache, List<Long> keys,
+                                         Function<List<Long>, Mono<Map<Long, V>>> loader) {
+        return Mono.deferContextual(context -> Mono.fromFuture(
+                cache.getAll(keys, (missing, executor) -> loader.apply(new ArrayList<>(missing))
+                        .defaultIfEmpty(Map.of())
+                        .contextWrite(context)
+                        .toFuture()), true));
+    }
+}
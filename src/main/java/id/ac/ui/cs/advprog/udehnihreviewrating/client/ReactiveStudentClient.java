@@ -0,0 +1,66 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.client;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import id.ac.ui.cs.advprog.udehnihreviewrating.config.LookupCacheProperties;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.student.StudentDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Non-blocking lookups against the auth service, for the reactive read path. Covers the
+ * same endpoints as {@link StudentClient}, stacked the same way: cache, then
+ * {@link ReactiveDownstreamGuard}, then WebClient.
+ */
+public class ReactiveStudentClient {
+
+    static final String CACHE_NAME = "student-lookup-reactive";
+
+    private static final ParameterizedTypeReference<List<StudentDTO>> STUDENT_LIST =
+            new ParameterizedTypeReference<>() {
+            };
+
+    private final WebClient webClient;
+    private final ReactiveDownstreamGuard guard;
+    private final AsyncCache<Long, StudentDTO> cache;
+
+    public ReactiveStudentClient(WebClient webClient, ReactiveDownstreamGuard guard, LookupCacheProperties.Spec spec,
+                                 MeterRegistry meterRegistry) {
+        this.webClient = webClient;
+        this.guard = guard;
+        this.cache = ReactiveLookupCaches.build(spec, meterRegistry, CACHE_NAME);
+    }
+
+    public Mono<StudentDTO> getStudentById(Long studentId) {
+        return ReactiveLookupCaches.get(cache, studentId, id -> guard.call("getStudentById", webClient.get()
+                .uri("/api/users/{studentId}", id)
+                .retrieve()
+                .bodyToMono(StudentDTO.class)));
+    }
+
+    /**
+     * Returns the students found, keyed by id.
+     */
+    public Mono<Map<Long, StudentDTO>> getStudentsByIds(List<Long> studentIds) {
+        return ReactiveLookupCaches.getAll(cache, studentIds, ids -> guard.call("getStudentsByIds", webClient.get()
+                        .uri(uri -> uri.path("/api/users/batch").queryParam("ids", ids).build())
+                        .retrieve()
+                        .bodyToMono(STUDENT_LIST))
+                .map(ReactiveStudentClient::byId));
+    }
+
+    private static Map<Long, StudentDTO> byId(List<StudentDTO> students) {
+        Map<Long, StudentDTO> byId = new HashMap<>();
+        for (StudentDTO student : students) {
+            if (student != null && student.getStudentId() != null) {
+                byId.put(student.getStudentId(), student);
+            }
+        }
+        return byId;
+    }
+}
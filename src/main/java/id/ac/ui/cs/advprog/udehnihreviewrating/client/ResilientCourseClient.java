@@ -0,0 +1,29 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.client;
+
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.course.CourseDetailDTO;
+
+import java.util.List;
+
+/**
+ * {@link CourseClient} that routes every remote call through a {@link DownstreamGuard}.
+ */
+public class ResilientCourseClient implements CourseClient {
+
+    private final CourseClient delegate;
+    private final DownstreamGuard guard;
+
+    public ResilientCourseClient(CourseClient delegate, DownstreamGuard guard) {
+        this.delegate = delegate;
+        this.guard = guard;
+    }
+
+    @Override
+    public CourseDetailDTO getCourseById(Long courseId) {
+        return guard.call("getCourseById", () -> delegate.getCourseById(courseId));
+    }
+
+    @Override
+    public List<CourseDetailDTO> getCoursesByIds(List<Long> courseIds) {
+        return guard.call("getCoursesByIds", () -> delegate.getCoursesByIds(courseIds));
+    }
+}
@@ -0,0 +1,29 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.client;
+
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.student.StudentDTO;
+
+import java.util.List;
+
+/**
+ * {@link StudentClient} that routes every remote call through a {@link DownstreamGuard}.
+ */
+public class ResilientStudentClient implements StudentClient {
+
+    private final StudentClient delegate;
+    private final DownstreamGuard guard;
+
+    public ResilientStudentClient(StudentClient delegate, DownstreamGuard guard) {
+        this.delegate = delegate;
+        this.guard = guard;
+    }
+
+    @Override
+    public StudentDTO getStudentById(Long studentId) {
+        return guard.call("getStudentById", () -> delegate.getStudentById(studentId));
+    }
+
+    @Override
+    public List<StudentDTO> getStudentsByIds(List<Long> studentIds) {
+        return guard.call("getStudentsByIds", () -> delegate.getStudentsByIds(studentIds));
+    }
+}
@@ -5,9 +5,16 @@ import id.ac.ui.cs.advprog.udehnihreviewrating.dto.student.StudentDTO;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 
-@FeignClient(name = "auth-service", url = "${auth-service.url}", configuration = FeignConfig.class)
+import java.util.List;
+
+@FeignClient(name = "auth-service", url = "${auth-service.url}", configuration = FeignConfig.class,
+        qualifiers = "studentFeignClient", primary = false)
 public interface StudentClient {
     @GetMapping("/api/users/{studentId}")
     StudentDTO getStudentById(@PathVariable("studentId") Long studentId);
-}
\ No newline at end of file
+
+    @GetMapping("/api/users/batch")
+    List<StudentDTO> getStudentsByIds(@RequestParam("ids") List<Long> studentIds);
+}
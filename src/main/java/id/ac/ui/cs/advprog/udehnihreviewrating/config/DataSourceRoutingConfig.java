@@ -0,0 +1,64 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replaces the single auto-configured pool with a primary pool plus one pool per replica
+ * when {@code datasource-routing.enabled} is set. The primary keeps the usual
+ * {@code spring.datasource} settings; Flyway and all read-write transactions use it.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "datasource-routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName(ReplicaRoutingDataSource.PRIMARY);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             DataSourceRoutingProperties properties,
+                                                             MeterRegistry meterRegistry) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<DataSourceRoutingProperties.Replica> configured = properties.getReplicas();
+        for (int i = 0; i < configured.size(); i++) {
+            DataSourceRoutingProperties.Replica replica = configured.get(i);
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("replica-" + (i + 1));
+            dataSource.setJdbcUrl(replica.getUrl());
+            dataSource.setUsername(replica.getUsername());
+            dataSource.setPassword(replica.getPassword());
+            dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+            dataSource.setReadOnly(true);
+            dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.put(dataSource.getPoolName(), dataSource);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, properties, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
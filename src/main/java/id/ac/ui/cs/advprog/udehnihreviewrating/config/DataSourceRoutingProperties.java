@@ -0,0 +1,49 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "datasource-routing")
+public class DataSourceRoutingProperties {
+
+    /**
+     * Sends read-only transactions to the replicas below. When disabled, the single
+     * {@code spring.datasource} is used for everything.
+     */
+    private boolean enabled = false;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * Replicas lagging further behind the primary are taken out of rotation. A user who
+     * wrote within this window reads from the primary, so they always see their own writes.
+     */
+    private Duration maxReplicationLag = Duration.ofSeconds(5);
+
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    /**
+     * Returns a replica's lag in seconds. Blank runs a plain {@code SELECT 1} and assumes
+     * no lag, for databases without replication functions such as H2.
+     */
+    private String lagQuery = "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+
+    /**
+     * Users remembered as recent writers at once.
+     */
+    private long recentWritersMaximumSize = 100_000;
+
+    @Data
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
@@ -0,0 +1,50 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "enrichment")
+public class EnrichmentProperties {
+
+    /**
+     * Maximum number of remote lookups a single request may have in flight at once.
+     */
+    private int maxParallelism = 8;
+
+    /**
+     * Maximum number of remote lookups in flight across all requests, including those
+     * still finishing in the background after their read budget. Lookups that cannot
+     * start within their deadline or budget are not run.
+     */
+    private int maxInFlight = 256;
+
+    /**
+     * Upper bound on how long one enrichment stage may take before the request fails.
+     */
+    private Duration deadline = Duration.ofSeconds(5);
+
+    /**
+     * Maximum number of ids sent in one batch lookup; larger pages are split into
+     * several batches that run concurrently.
+     */
+    private int batchSize = 100;
+
+    /**
+     * Longest a read waits for course and student details. Lookups still running after
+     * that finish in the background, and the response uses last known values instead.
+     */
+    private Duration readBudget = Duration.ofMillis(800);
+
+    /**
+     * Course and student details remembered for degraded reads, per kind.
+     */
+    private long lastKnownMaximumSize = 100_000;
+
+    /**
+     * How long a remembered course title or student name may still be served.
+     */
+    private Duration lastKnownTtl = Duration.ofHours(24);
+}
@@ -1,6 +1,21 @@
 package id.ac.ui.cs.advprog.udehnihreviewrating.config;
 
+import feign.Client;
 import feign.RequestInterceptor;
+import feign.hc5.ApacheHttp5Client;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -8,8 +23,49 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class FeignConfig {
 
+    static final String CLIENT_NAME_PROPERTY = "spring.cloud.openfeign.client.name";
+
     @Bean
     public RequestInterceptor requestInterceptor() {
         return new FeignRequestInterceptor();
     }
-}
\ No newline at end of file
+
+    /**
+     * Gives every Feign client its own pooled, keep-alive Apache HttpClient, so a slow
+     * downstream can only exhaust its own connections. Only created inside the per-client
+     * contexts, where OpenFeign sets {@value #CLIENT_NAME_PROPERTY}. Pool occupancy is
+     * published as {@code httpcomponents.httpclient.pool.*} tagged with the client name.
+     */
+    @Bean
+    @ConditionalOnProperty(CLIENT_NAME_PROPERTY)
+    public Client pooledFeignClient(@Value("${" + CLIENT_NAME_PROPERTY + "}") String clientName,
+                                    FeignTransportProperties properties,
+                                    ObjectProvider<MeterRegistry> meterRegistry) {
+        FeignTransportProperties.Pool pool = properties.forClient(clientName);
+        TimeValue keepAlive = TimeValue.ofMilliseconds(pool.getKeepAlive().toMillis());
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(pool.getMaxConnections())
+                .setMaxConnPerRoute(pool.getMaxConnections())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(
+                                Timeout.ofMilliseconds(pool.getConnectionRequestTimeout().toMillis()))
+                        .build())
+                .setKeepAliveStrategy((response, context) -> keepAlive)
+                .evictExpiredConnections()
+                .evictIdleConnections(keepAlive)
+                .build();
+
+        meterRegistry.ifAvailable(registry ->
+                new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, clientName).bindTo(registry));
+
+        return new TotalTimeoutClient(new ApacheHttp5Client(httpClient), pool.getTotalTimeout(), httpClient);
+    }
+}
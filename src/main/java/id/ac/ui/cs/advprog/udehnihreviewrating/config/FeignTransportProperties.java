@@ -0,0 +1,45 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Connection pool settings for the Feign clients, keyed by Feign client name
+ * ({@code course-service}, {@code auth-service}). Connect and read timeouts are set per
+ * client under {@code spring.cloud.openfeign.client.config}.
+ */
+@Data
+@ConfigurationProperties(prefix = "feign-transport")
+public class FeignTransportProperties {
+
+    private Map<String, Pool> clients = new HashMap<>();
+
+    public Pool forClient(String clientName) {
+        return clients.getOrDefault(clientName, new Pool());
+    }
+
+    @Data
+    public static class Pool {
+        /**
+         * Connections kept open to the downstream service.
+         */
+        private int maxConnections = 50;
+        /**
+         * How long a call waits for a free pooled connection before failing.
+         */
+        private Duration connectionRequestTimeout = Duration.ofMillis(500);
+        /**
+         * How long an idle connection is kept alive for reuse before it is closed.
+         */
+        private Duration keepAlive = Duration.ofSeconds(30);
+        /**
+         * Upper bound on one call, from borrowing a connection to receiving the response
+         * headers. Zero disables it.
+         */
+        private Duration totalTimeout = Duration.ofSeconds(4);
+    }
+}
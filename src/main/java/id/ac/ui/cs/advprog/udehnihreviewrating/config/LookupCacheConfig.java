@@ -0,0 +1,69 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.config;
+
+import id.ac.ui.cs.advprog.udehnihreviewrating.client.CachingCourseClient;
+import id.ac.ui.cs.advprog.udehnihreviewrating.client.CachingStudentClient;
+import id.ac.ui.cs.advprog.udehnihreviewrating.client.CourseClient;
+import id.ac.ui.cs.advprog.udehnihreviewrating.client.DownstreamGuard;
+import id.ac.ui.cs.advprog.udehnihreviewrating.client.ResilientCourseClient;
+import id.ac.ui.cs.advprog.udehnihreviewrating.client.ResilientStudentClient;
+import id.ac.ui.cs.advprog.udehnihreviewrating.client.StudentClient;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Stacks the lookup clients as cache, then circuit breaker and bulkhead, then Feign, so
+ * cache hits never touch the guards and only real remote calls are counted by them.
+ */
+@Configuration
+public class LookupCacheConfig {
+
+    static final String COURSE_SERVICE = "course-service";
+    static final String AUTH_SERVICE = "auth-service";
+
+    @Bean
+    @Primary
+    public CourseClient cachingCourseClient(@Qualifier("courseFeignClient") CourseClient courseFeignClient,
+                                            LookupCacheProperties properties, MeterRegistry meterRegistry,
+                                            CircuitBreakerRegistry circuitBreakerRegistry,
+                                            BulkheadRegistry bulkheadRegistry, Environment environment) {
+        DownstreamGuard guard = new DownstreamGuard(COURSE_SERVICE,
+                circuitBreakerRegistry.circuitBreaker(COURSE_SERVICE),
+                bulkheadRegistry.bulkhead(COURSE_SERVICE), meterRegistry);
+        return new CachingCourseClient(new ResilientCourseClient(courseFeignClient, guard),
+                properties.getCourse(), meterRegistry, refreshExecutor(environment));
+    }
+
+    @Bean
+    @Primary
+    public StudentClient cachingStudentClient(@Qualifier("studentFeignClient") StudentClient studentFeignClient,
+                                              LookupCacheProperties properties, MeterRegistry meterRegistry,
+                                              CircuitBreakerRegistry circuitBreakerRegistry,
+                                              BulkheadRegistry bulkheadRegistry, Environment environment) {
+        DownstreamGuard guard = new DownstreamGuard(AUTH_SERVICE,
+                circuitBreakerRegistry.circuitBreaker(AUTH_SERVICE),
+                bulkheadRegistry.bulkhead(AUTH_SERVICE), meterRegistry);
+        return new CachingStudentClient(new ResilientStudentClient(studentFeignClient, guard),
+                properties.getStudent(), meterRegistry, refreshExecutor(environment));
+    }
+
+    /**
+     * Cache refreshes block on Feign calls. They get a virtual thread each when
+     * {@code spring.threads.virtual.enabled} is set, and share the common pool otherwise.
+     */
+    private static Executor refreshExecutor(Environment environment) {
+        return Threading.VIRTUAL.isActive(environment)
+                ? new VirtualThreadTaskExecutor("lookup-refresh-")
+                : ForkJoinPool.commonPool();
+    }
+}
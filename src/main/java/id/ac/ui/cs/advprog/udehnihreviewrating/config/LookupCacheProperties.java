@@ -0,0 +1,26 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "lookup-cache")
+public class LookupCacheProperties {
+
+    private Spec course = new Spec();
+    private Spec student = new Spec();
+
+    @Data
+    public static class Spec {
+        private long maximumSize = 10_000;
+        private Duration expireAfterWrite = Duration.ofMinutes(30);
+        /**
+         * Entries older than this are reloaded in the background on their next read,
+         * while the current value keeps being served. Must be shorter than
+         * {@link #expireAfterWrite} to have any effect.
+         */
+        private Duration refreshAfterWrite = Duration.ofMinutes(10);
+    }
+}
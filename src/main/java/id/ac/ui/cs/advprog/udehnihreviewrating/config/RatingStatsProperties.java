@@ -0,0 +1,47 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "rating-stats")
+public class RatingStatsProperties {
+
+    /**
+     * Recompute every course's rating totals from the reviews table at startup. The totals
+     * are always rebuilt when the stats table is still empty but reviews already exist.
+     */
+    private boolean rebuildOnStartup = false;
+
+    /**
+     * Largest number of course ids accepted by one batch rating summary request.
+     */
+    private int maxCoursesPerRequest = 300;
+
+    private Leaderboard leaderboard = new Leaderboard();
+
+    @Data
+    public static class Leaderboard {
+        /**
+         * Rating a course is assumed to have before its first review. Courses are ranked by
+         * {@code (prior-weight * prior-mean + rating sum) / (prior-weight + review count)}.
+         */
+        private double priorMean = 3.0;
+
+        /**
+         * How many reviews the prior counts as. The higher it is, the more reviews a course
+         * needs before its own ratings outweigh the prior.
+         */
+        private double priorWeight = 10;
+
+        /**
+         * Courses returned when the request does not ask for a number.
+         */
+        private int defaultSize = 10;
+
+        /**
+         * Largest number of courses returned by one request; larger requests are capped.
+         */
+        private int maxSize = 100;
+    }
+}
@@ -0,0 +1,100 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.config;
+
+import id.ac.ui.cs.advprog.udehnihreviewrating.client.ForwardedAuthorization;
+import id.ac.ui.cs.advprog.udehnihreviewrating.client.ReactiveCourseClient;
+import id.ac.ui.cs.advprog.udehnihreviewrating.client.ReactiveDownstreamGuard;
+import id.ac.ui.cs.advprog.udehnihreviewrating.client.ReactiveStudentClient;
+import id.ac.ui.cs.advprog.udehnihreviewrating.repository.ReactiveReviewRepository;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.util.StringUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * Wires the non-blocking read path: an R2DBC pool for the review tables and WebClient
+ * lookups for the course and auth services. The lookups share their circuit breakers and
+ * bulkheads with the Feign clients of {@link LookupCacheConfig}, and their total timeout
+ * with {@code feign-transport}.
+ * <p>
+ * Spring Boot's own R2DBC auto-configuration is excluded in {@code application.yml}: it
+ * would require a URL even when this path is off, and its reactive transaction manager
+ * would make the JPA one back off.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "review-reactive", name = "enabled", havingValue = "true")
+public class ReactiveReadConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool reviewConnectionPool(ReactiveReadProperties properties) {
+        ReactiveReadProperties.R2dbc r2dbc = properties.getR2dbc();
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(r2dbc.getUrl()).mutate();
+        if (StringUtils.hasText(r2dbc.getUsername())) {
+            options.option(ConnectionFactoryOptions.USER, r2dbc.getUsername());
+        }
+        if (StringUtils.hasText(r2dbc.getPassword())) {
+            options.option(ConnectionFactoryOptions.PASSWORD, r2dbc.getPassword());
+        }
+
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options.build()))
+                .name("review-reactive")
+                .maxSize(r2dbc.getMaxPoolSize())
+                .maxAcquireTime(r2dbc.getAcquireTimeout())
+                .build());
+    }
+
+    @Bean
+    public ReactiveReviewRepository reactiveReviewRepository(ConnectionPool reviewConnectionPool) {
+        return new ReactiveReviewRepository(DatabaseClient.create(reviewConnectionPool));
+    }
+
+    @Bean
+    public ReactiveCourseClient reactiveCourseClient(WebClient.Builder webClientBuilder,
+                                                     @Value("${course-service.url}") String baseUrl,
+                                                     LookupCacheProperties cacheProperties,
+                                                     FeignTransportProperties transportProperties,
+                                                     CircuitBreakerRegistry circuitBreakerRegistry,
+                                                     BulkheadRegistry bulkheadRegistry, MeterRegistry meterRegistry) {
+        String service = LookupCacheConfig.COURSE_SERVICE;
+        ReactiveDownstreamGuard guard = new ReactiveDownstreamGuard(service,
+                circuitBreakerRegistry.circuitBreaker(service), bulkheadRegistry.bulkhead(service),
+                transportProperties.forClient(service).getTotalTimeout(), meterRegistry);
+        return new ReactiveCourseClient(webClient(webClientBuilder, baseUrl), guard, cacheProperties.getCourse(),
+                meterRegistry);
+    }
+
+    @Bean
+    public ReactiveStudentClient reactiveStudentClient(WebClient.Builder webClientBuilder,
+                                                       @Value("${auth-service.url}") String baseUrl,
+                                                       LookupCacheProperties cacheProperties,
+                                                       FeignTransportProperties transportProperties,
+                                                       CircuitBreakerRegistry circuitBreakerRegistry,
+                                                       BulkheadRegistry bulkheadRegistry, MeterRegistry meterRegistry) {
+        String service = LookupCacheConfig.AUTH_SERVICE;
+        ReactiveDownstreamGuard guard = new ReactiveDownstreamGuard(service,
+                circuitBreakerRegistry.circuitBreaker(service), bulkheadRegistry.bulkhead(service),
+                transportProperties.forClient(service).getTotalTimeout(), meterRegistry);
+        return new ReactiveStudentClient(webClient(webClientBuilder, baseUrl), guard, cacheProperties.getStudent(),
+                meterRegistry);
+    }
+
+    /**
+     * Each injection point gets a fresh builder carrying Spring Boot's codecs and the
+     * {@code http.client.requests} observation.
+     */
+    private static WebClient webClient(WebClient.Builder webClientBuilder, String baseUrl) {
+        return webClientBuilder
+                .baseUrl(baseUrl)
+                .filter(ForwardedAuthorization.filter())
+                .build();
+    }
+}
@@ -0,0 +1,41 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "review-reactive")
+public class ReactiveReadProperties {
+
+    /**
+     * Serves the non-blocking read endpoints under {@code /api/reactive/reviews}, next to
+     * the default ones.
+     */
+    private boolean enabled = false;
+
+    private R2dbc r2dbc = new R2dbc();
+
+    @Data
+    public static class R2dbc {
+        /**
+         * R2DBC URL of the review database, e.g. {@code r2dbc:postgresql://host:5432/db}.
+         */
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        /**
+         * Connections kept by the reactive pool, separate from the JDBC pool.
+         */
+        private int maxPoolSize = 10;
+
+        /**
+         * How long a query waits for a free connection before failing.
+         */
+        private Duration acquireTimeout = Duration.ofSeconds(1);
+    }
+}
@@ -0,0 +1,172 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Routes connections of read-only transactions to a healthy replica, round robin, and
+ * everything else to the primary. A replica is healthy while it answers the lag query and
+ * lags no more than {@code datasource-routing.max-replication-lag}; replicas start out
+ * unhealthy until their first check. Users who ran a read-write transaction within that
+ * same window keep reading from the primary, so they see what they just wrote.
+ * <p>
+ * Routing happens when a connection is acquired, so this must sit behind a
+ * {@code LazyConnectionDataSourceProxy}: otherwise the connection is fetched before the
+ * transaction is marked read-only.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    static final String PRIMARY = "primary";
+
+    private final List<Replica> replicas = new ArrayList<>();
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final Cache<String, Boolean> recentWriters;
+    private final DataSourceRoutingProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicaDataSources,
+                                    DataSourceRoutingProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(properties.getRecentWritersMaximumSize())
+                .expireAfterWrite(properties.getMaxReplicationLag())
+                .build();
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        replicaDataSources.forEach((name, dataSource) -> {
+            Replica replica = new Replica(name, dataSource);
+            replicas.add(replica);
+            targets.put(name, dataSource);
+            Gauge.builder("review.datasource.replica.lag", replica, r -> r.lagSeconds)
+                    .description("Replication lag measured by the last health check")
+                    .baseUnit("seconds")
+                    .tag("replica", name)
+                    .register(meterRegistry);
+            Gauge.builder("review.datasource.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                    .description("Whether the replica currently receives read-only transactions")
+                    .tag("replica", name)
+                    .register(meterRegistry);
+        });
+
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String user = currentUser();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (user != null && TransactionSynchronizationManager.isActualTransactionActive()) {
+                recentWriters.put(user, Boolean.TRUE);
+            }
+            return route(PRIMARY);
+        }
+
+        if (user != null && recentWriters.getIfPresent(user) != null) {
+            return route(PRIMARY);
+        }
+
+        for (int attempt = 0; attempt < replicas.size(); attempt++) {
+            Replica replica = replicas.get(Math.floorMod(nextReplica.getAndIncrement(), replicas.size()));
+            if (replica.healthy) {
+                return route(replica.name);
+            }
+        }
+        return route(PRIMARY);
+    }
+
+    @Scheduled(fixedDelayString = "${datasource-routing.health-check-interval:PT5S}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            boolean wasHealthy = replica.healthy;
+            try {
+                replica.lagSeconds = measureLag(replica.dataSource);
+                replica.healthy = replica.lagSeconds <= properties.getMaxReplicationLag().toMillis() / 1000.0;
+                if (!replica.healthy && wasHealthy) {
+                    log.warn("Replica {} lags {} s behind the primary, routing its reads to the primary",
+                            replica.name, replica.lagSeconds);
+                }
+            } catch (SQLException e) {
+                replica.healthy = false;
+                if (wasHealthy) {
+                    log.warn("Replica {} failed its health check, routing its reads to the primary: {}",
+                            replica.name, e.getMessage());
+                }
+            }
+            if (replica.healthy && !wasHealthy) {
+                log.info("Replica {} is healthy, routing read-only transactions to it", replica.name);
+            }
+        }
+    }
+
+    private double measureLag(DataSource dataSource) throws SQLException {
+        String lagQuery = properties.getLagQuery();
+        boolean measure = lagQuery != null && !lagQuery.isBlank();
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(measure ? lagQuery : "SELECT 1")) {
+            return measure && resultSet.next() ? resultSet.getDouble(1) : 0;
+        }
+    }
+
+    private String route(String target) {
+        Counter.builder("review.datasource.connections")
+                .description("Connections handed out, by the database they were routed to")
+                .tag("target", target)
+                .register(meterRegistry)
+                .increment();
+        return target;
+    }
+
+    private String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null || !authentication.isAuthenticated() ? null : authentication.getName();
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private static class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy;
+        private volatile double lagSeconds;
+
+        Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
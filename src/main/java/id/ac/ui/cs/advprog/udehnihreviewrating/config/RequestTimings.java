@@ -0,0 +1,140 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Time spent per phase of one request, such as {@code auth}, {@code db} or a downstream
+ * service. Phases are cumulative: three queries add up under {@code db}, and lookups run
+ * in parallel can together exceed the wall-clock time of the request.
+ * <p>
+ * Stored as a request attribute. Enrichment threads do not see the request, so they are
+ * handed the caller's timings through {@link #callWith}, which stops recording once the
+ * caller has stopped waiting. Recording outside a timed request is a no-op.
+ */
+public final class RequestTimings {
+
+    static final String ATTRIBUTE = RequestTimings.class.getName();
+
+    private static final ThreadLocal<AtomicReference<RequestTimings>> BOUND = new ThreadLocal<>();
+
+    private final long startedAt;
+    private final Map<String, Phase> phases = new LinkedHashMap<>();
+
+    RequestTimings(long startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    static RequestTimings start(HttpServletRequest request) {
+        RequestTimings timings = new RequestTimings(System.nanoTime());
+        request.setAttribute(ATTRIBUTE, timings);
+        return timings;
+    }
+
+    /**
+     * The timings of the request bound to the current thread, or {@code null}.
+     */
+    public static RequestTimings current() {
+        AtomicReference<RequestTimings> bound = BOUND.get();
+        if (bound != null) {
+            return bound.get();
+        }
+
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        try {
+            return (RequestTimings) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        } catch (IllegalStateException e) {
+            // Request attributes used after the request completed.
+            return null;
+        }
+    }
+
+    /**
+     * Runs {@code task} with {@link #current()} returning whatever {@code timings} holds at
+     * the time, so the owner can detach a task that outlives it by clearing the reference.
+     */
+    public static <T> T callWith(AtomicReference<RequestTimings> timings, Callable<T> task) throws Exception {
+        AtomicReference<RequestTimings> previous = BOUND.get();
+        BOUND.set(timings);
+        try {
+            return task.call();
+        } finally {
+            if (previous == null) {
+                BOUND.remove();
+            } else {
+                BOUND.set(previous);
+            }
+        }
+    }
+
+    public static void record(String phase, long nanos) {
+        RequestTimings timings = current();
+        if (timings != null) {
+            timings.add(phase, nanos);
+        }
+    }
+
+    public static void record(HttpServletRequest request, String phase, long nanos) {
+        if (request.getAttribute(ATTRIBUTE) instanceof RequestTimings timings) {
+            timings.add(phase, nanos);
+        }
+    }
+
+    synchronized void add(String phase, long nanos) {
+        phases.computeIfAbsent(phase, name -> new Phase()).add(nanos);
+    }
+
+    long elapsedNanos() {
+        return System.nanoTime() - startedAt;
+    }
+
+    /**
+     * The phases in milliseconds, in the order they were first recorded, followed by the
+     * request's {@code total} so far.
+     */
+    synchronized Map<String, Double> toMillis() {
+        Map<String, Double> millis = new LinkedHashMap<>();
+        phases.forEach((name, phase) -> millis.put(name, toMillis(phase.nanos)));
+        millis.put("total", toMillis(elapsedNanos()));
+        return millis;
+    }
+
+    /**
+     * Formats the phases as a {@code Server-Timing} header value, e.g.
+     * {@code db;dur=3.1;desc="2 calls", total;dur=12.4}.
+     */
+    synchronized String toServerTiming() {
+        StringJoiner header = new StringJoiner(", ");
+        phases.forEach((name, phase) -> header.add(String.format(Locale.ROOT, "%s;dur=%.1f;desc=\"%d %s\"",
+                name, toMillis(phase.nanos), phase.count, phase.count == 1 ? "call" : "calls")));
+        header.add(String.format(Locale.ROOT, "total;dur=%.1f", toMillis(elapsedNanos())));
+        return header.toString();
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    private static final class Phase {
+
+        private long nanos;
+        private int count;
+
+        void add(long nanos) {
+            this.nanos += nanos;
+            this.count++;
+        }
+    }
+}
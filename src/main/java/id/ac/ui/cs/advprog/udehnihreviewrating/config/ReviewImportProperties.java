@@ -0,0 +1,28 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "review-import")
+public class ReviewImportProperties {
+
+    /**
+     * Largest number of reviews accepted in one import request.
+     */
+    private int maxRows = 10000;
+
+    /**
+     * Reviews persisted per transaction. A failing chunk is retried row by row, so this
+     * also bounds how much work one bad row can force to be redone.
+     */
+    private int chunkSize = 500;
+
+    /**
+     * Upper bound on the course and student lookups that validate one import. Imports
+     * resolve far more ids than a read, so they do not share {@code enrichment.deadline}.
+     */
+    private Duration validationTimeout = Duration.ofSeconds(60);
+}
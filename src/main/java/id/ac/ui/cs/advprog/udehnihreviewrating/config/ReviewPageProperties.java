@@ -0,0 +1,19 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "review-page")
+public class ReviewPageProperties {
+
+    /**
+     * Page size used when the client does not ask for one.
+     */
+    private int defaultSize = 20;
+
+    /**
+     * Hard upper bound on the page size; larger requests are clamped to it.
+     */
+    private int maxSize = 100;
+}
@@ -0,0 +1,43 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "review-snapshot")
+public class ReviewSnapshotProperties {
+
+    /**
+     * Whether the background job that backfills and refreshes name snapshots runs.
+     */
+    private boolean refreshEnabled = true;
+
+    /**
+     * Delay after startup before the first run, which also backfills rows that were
+     * created before snapshots existed.
+     */
+    private Duration initialDelay = Duration.ofSeconds(30);
+
+    /**
+     * Delay between the end of one refresh run and the start of the next.
+     */
+    private Duration refreshInterval = Duration.ofMinutes(5);
+
+    /**
+     * Age after which a course title or student name snapshot is fetched again.
+     */
+    private Duration maxAge = Duration.ofHours(24);
+
+    /**
+     * Course or student ids resolved with one batch lookup during a refresh.
+     */
+    private int batchSize = 200;
+
+    /**
+     * Token the job presents to the auth service, which rejects anonymous student
+     * lookups. Without one, student name snapshots are not refreshed.
+     */
+    private String serviceToken;
+}
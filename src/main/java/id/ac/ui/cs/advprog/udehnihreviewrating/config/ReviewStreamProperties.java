@@ -0,0 +1,15 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "review-stream")
+public class ReviewStreamProperties {
+
+    /**
+     * Rows the JDBC driver fetches per round trip while streaming reviews. Bounds the
+     * number of rows buffered in memory regardless of how many reviews a course has.
+     */
+    private int fetchSize = 500;
+}
@@ -1,9 +1,12 @@
 package id.ac.ui.cs.advprog.udehnihreviewrating.config;
 
 import id.ac.ui.cs.advprog.udehnihreviewrating.security.JwtAuthenticationFilter;
+import id.ac.ui.cs.advprog.udehnihreviewrating.security.PublicEndpoints;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -29,8 +32,11 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers("/", "/health").permitAll()
-                        .requestMatchers("/api/reviews/course/*/average-rating").permitAll() // Allow public access to average ratings
+                        // Streamed and reactive responses finish on an async dispatch that the JWT filter does not see.
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                        .requestMatchers(PublicEndpoints.PATHS).permitAll()
+                        .requestMatchers(HttpMethod.GET, PublicEndpoints.GET_PATHS).permitAll() // Allow public access to average ratings
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
                         .anyRequest().authenticated()
                 );
 
@@ -0,0 +1,65 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times the phases of every {@code /api/reviews} request. Token verification, repository
+ * calls, downstream calls and response serialization each record into the request's
+ * {@link RequestTimings}; see {@link ServerTimingFilter} and
+ * {@link ServerTimingJacksonConverter} for what happens with them.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "server-timing", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ServerTimingConfig {
+
+    static final String DB_PHASE = "db";
+
+    @Bean
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(ServerTimingProperties properties) {
+        FilterRegistrationBean<ServerTimingFilter> registration =
+                new FilterRegistrationBean<>(new ServerTimingFilter(properties));
+        registration.addUrlPatterns("/api/reviews/*");
+        // Ahead of the security filter chain and of the request context filter.
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 10);
+        return registration;
+    }
+
+    /**
+     * Replaces Spring Boot's Jackson converter, which backs off when one is defined.
+     */
+    @Bean
+    public MappingJackson2HttpMessageConverter serverTimingJacksonConverter(ObjectMapper objectMapper,
+                                                                            ServerTimingProperties properties) {
+        return new ServerTimingJacksonConverter(objectMapper, properties.isHeader(),
+                properties.getMaxBufferedBody().toBytes());
+    }
+
+    /**
+     * Adds every repository call's duration to the {@code db} phase, using the same
+     * invocation listener hook as Spring Boot's repository metrics.
+     */
+    @Bean
+    public static BeanPostProcessor repositoryTimingPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> repositoryFactory) {
+                    repositoryFactory.addRepositoryFactoryCustomizer(factory -> factory.addInvocationListener(
+                            invocation -> RequestTimings.record(DB_PHASE,
+                                    invocation.getDuration(TimeUnit.NANOSECONDS))));
+                }
+                return bean;
+            }
+        };
+    }
+}
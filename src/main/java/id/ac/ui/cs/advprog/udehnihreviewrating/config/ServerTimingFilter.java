@@ -0,0 +1,98 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.config;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts the {@link RequestTimings} of each review request and logs the phase breakdown
+ * of requests slower than {@code server-timing.slow-request-threshold} as one event with
+ * {@code method}, {@code path}, {@code status}, {@code durationMs} and {@code phases}
+ * key-values. Streamed responses are logged once the stream completes.
+ * <p>
+ * Runs ahead of the security filter chain, so token verification is part of the timing.
+ */
+@Slf4j
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    private final ServerTimingProperties properties;
+
+    public ServerTimingFilter(ServerTimingProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestTimings timings = RequestTimings.start(request);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new LogWhenComplete(request, response, timings));
+            } else {
+                logIfSlow(request, response, timings);
+            }
+        }
+    }
+
+    private void logIfSlow(HttpServletRequest request, HttpServletResponse response, RequestTimings timings) {
+        long elapsedNanos = timings.elapsedNanos();
+        if (elapsedNanos < properties.getSlowRequestThreshold().toNanos()) {
+            return;
+        }
+        long durationMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        Map<String, Double> phases = timings.toMillis();
+        log.atWarn()
+                .addKeyValue("method", request.getMethod())
+                .addKeyValue("path", request.getRequestURI())
+                .addKeyValue("status", response.getStatus())
+                .addKeyValue("durationMs", durationMillis)
+                .addKeyValue("phases", phases)
+                .log("Slow request {} {} took {} ms: {}", request.getMethod(), request.getRequestURI(),
+                        durationMillis, phases);
+    }
+
+    private final class LogWhenComplete implements AsyncListener {
+
+        private final HttpServletRequest request;
+        private final HttpServletResponse response;
+        private final RequestTimings timings;
+
+        LogWhenComplete(HttpServletRequest request, HttpServletResponse response, RequestTimings timings) {
+            this.request = request;
+            this.response = response;
+            this.timings = timings;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            logIfSlow(request, response, timings);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            // onComplete follows.
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            // onComplete follows.
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // Keep listening to the restarted request.
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+/**
+ * Jackson converter that records the time spent writing each response body of a timed
+ * request as the {@code serialization} phase. With {@code server-timing.header} on, the
+ * body is serialized into a buffer first so the {@code Server-Timing} header, which must
+ * precede the body, can include the serialization time itself. Bodies that outgrow
+ * {@code server-timing.max-buffered-body} are streamed instead, under a header sent
+ * without the serialization phase.
+ */
+public class ServerTimingJacksonConverter extends MappingJackson2HttpMessageConverter {
+
+    static final String SERVER_TIMING = "Server-Timing";
+
+    private final boolean header;
+    private final long maxBufferedBytes;
+
+    public ServerTimingJacksonConverter(ObjectMapper objectMapper, boolean header, long maxBufferedBytes) {
+        super(objectMapper);
+        this.header = header;
+        this.maxBufferedBytes = maxBufferedBytes;
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        // Feign also encodes request bodies with this converter; only time our responses.
+        RequestTimings timings = outputMessage instanceof ServerHttpResponse ? RequestTimings.current() : null;
+        if (timings == null) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        if (!header) {
+            try {
+                super.writeInternal(object, type, outputMessage);
+            } finally {
+                timings.add("serialization", System.nanoTime() - startedAt);
+            }
+            return;
+        }
+
+        HeaderFirstBody body = new HeaderFirstBody(outputMessage, timings, maxBufferedBytes);
+        HttpHeaders headers = outputMessage.getHeaders();
+        super.writeInternal(object, type, new HttpOutputMessage() {
+            @Override
+            public OutputStream getBody() {
+                return body;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return headers;
+            }
+        });
+        timings.add("serialization", System.nanoTime() - startedAt);
+        body.finish();
+    }
+
+    /**
+     * Holds the body back until it outgrows the limit. At that point the header goes out
+     * with the phases recorded so far, and the rest of the body is streamed.
+     */
+    private static final class HeaderFirstBody extends OutputStream {
+
+        private final HttpOutputMessage target;
+        private final RequestTimings timings;
+        private final long limit;
+        private ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private OutputStream streaming;
+
+        HeaderFirstBody(HttpOutputMessage target, RequestTimings timings, long limit) {
+            this.target = target;
+            this.timings = timings;
+            this.limit = limit;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            if (streaming == null && buffer.size() + (long) length > limit) {
+                target.getHeaders().set(SERVER_TIMING, timings.toServerTiming());
+                streaming = target.getBody();
+                buffer.writeTo(streaming);
+                buffer = null;
+            }
+            if (streaming != null) {
+                streaming.write(bytes, offset, length);
+            } else {
+                buffer.write(bytes, offset, length);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (streaming != null) {
+                streaming.flush();
+            }
+        }
+
+        /**
+         * Sends a body that stayed within the limit, under a header that now includes its
+         * serialization.
+         */
+        void finish() throws IOException {
+            if (streaming != null) {
+                return;
+            }
+            target.getHeaders().set(SERVER_TIMING, timings.toServerTiming());
+            target.getHeaders().setContentLength(buffer.size());
+            buffer.writeTo(target.getBody());
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "server-timing")
+public class ServerTimingProperties {
+
+    /**
+     * Whether review requests are timed per phase at all.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Whether JSON responses carry the phases as a {@code Server-Timing} header. Off by
+     * default because it tells every client how long the internals took.
+     */
+    private boolean header = false;
+
+    /**
+     * Largest JSON body held back so the {@code Server-Timing} header can include its
+     * serialization. Larger bodies are streamed once they outgrow this; their header then
+     * covers the phases before serialization, which still shows up in the slow log.
+     */
+    private DataSize maxBufferedBody = DataSize.ofKilobytes(256);
+
+    /**
+     * Requests that take at least this long have their phases logged.
+     */
+    private Duration slowRequestThreshold = Duration.ofSeconds(1);
+}
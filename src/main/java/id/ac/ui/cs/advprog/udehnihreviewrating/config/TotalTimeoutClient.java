@@ -0,0 +1,94 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.config;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Feign {@link Client} that bounds a whole call, which the per-phase connect, read and
+ * pool timeouts of the underlying transport cannot do on their own. The call runs on a
+ * virtual thread; when the deadline passes that thread is interrupted, which aborts its
+ * blocking socket I/O, and the caller gets a {@link SocketTimeoutException} that Feign
+ * reports like any other timeout.
+ */
+public class TotalTimeoutClient implements Client, Closeable {
+
+    private final Client delegate;
+    private final Duration totalTimeout;
+    private final Closeable transport;
+    private final ExecutorService calls = Executors.newVirtualThreadPerTaskExecutor();
+
+    public TotalTimeoutClient(Client delegate, Duration totalTimeout, Closeable transport) {
+        this.delegate = delegate;
+        this.totalTimeout = totalTimeout;
+        this.transport = transport;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        if (totalTimeout == null || totalTimeout.isZero() || totalTimeout.isNegative()) {
+            return delegate.execute(request, options);
+        }
+
+        Future<Response> call = calls.submit(() -> delegate.execute(request, options));
+        try {
+            return call.get(totalTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            if (!call.cancel(true)) {
+                // Completed just as the deadline passed; hand the response over so it gets closed.
+                return completed(call);
+            }
+            throw new SocketTimeoutException(request.httpMethod() + " " + request.url()
+                    + " exceeded the total timeout of " + totalTimeout.toMillis() + " ms");
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (InterruptedException e) {
+            call.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while calling " + request.url());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        calls.shutdownNow();
+        transport.close();
+    }
+
+    private Response completed(Future<Response> call) throws IOException {
+        try {
+            return call.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        }
+    }
+
+    private IOException unwrap(ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof IOException ioException) {
+            return ioException;
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IOException(cause);
+    }
+}
@@ -0,0 +1,123 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reports virtual threads that stay pinned to their carrier thread, usually because they
+ * block inside a {@code synchronized} block or a native frame. While pinned, a blocked
+ * virtual thread holds a whole carrier, so a pin on a hot path caps throughput at the
+ * number of carriers.
+ * <p>
+ * Listens to the JDK Flight Recorder {@code jdk.VirtualThreadPinned} event in-process.
+ * Every pin longer than {@code virtual-threads.pinning-threshold} is timed as
+ * {@code review.virtualthreads.pinned}, and the stack trace of each distinct pinning site
+ * is logged once. Only active when {@code spring.threads.virtual.enabled} is set.
+ */
+@Component
+@Slf4j
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private static final String APPLICATION_PACKAGE = "id.ac.ui.cs.advprog.udehnihreviewrating";
+
+    private final VirtualThreadProperties properties;
+    private final Timer pinned;
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(VirtualThreadProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.pinned = Timer.builder("review.virtualthreads.pinned")
+                .description("Virtual threads pinned to their carrier for longer than the threshold")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (stream != null) {
+            return;
+        }
+        try {
+            RecordingStream recording = new RecordingStream();
+            recording.enable(PINNED_EVENT)
+                    .withThreshold(properties.getPinningThreshold())
+                    .withStackTrace();
+            recording.onEvent(PINNED_EVENT, this::onPinned);
+            recording.startAsync();
+            stream = recording;
+            log.info("Watching for virtual threads pinned longer than {} ms",
+                    properties.getPinningThreshold().toMillis());
+        } catch (RuntimeException e) {
+            log.warn("Flight Recorder is unavailable, pinned virtual threads will not be reported: {}",
+                    e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    void onPinned(RecordedEvent event) {
+        pinned.record(event.getDuration());
+
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace == null) {
+            return;
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        String site = pinningSite(frames);
+        if (reportedSites.size() < properties.getMaxReportedSites() && reportedSites.add(site)) {
+            log.warn("Virtual thread pinned for {} ms at {}:{}", event.getDuration().toMillis(), site,
+                    format(frames));
+        }
+    }
+
+    /**
+     * The innermost application frame, which is where a fix usually goes, or the top
+     * frame when the pin happened entirely inside a library.
+     */
+    private static String pinningSite(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            if (frame.isJavaFrame() && frame.getMethod().getType().getName().startsWith(APPLICATION_PACKAGE)) {
+                return describe(frame);
+            }
+        }
+        return frames.isEmpty() ? "unknown" : describe(frames.get(0));
+    }
+
+    private static String format(List<RecordedFrame> frames) {
+        StringBuilder trace = new StringBuilder();
+        for (RecordedFrame frame : frames) {
+            trace.append(System.lineSeparator()).append("\tat ").append(describe(frame));
+        }
+        return trace.toString();
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + "(line " + frame.getLineNumber() + ")";
+    }
+}
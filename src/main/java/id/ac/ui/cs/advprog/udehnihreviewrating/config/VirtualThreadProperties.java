@@ -0,0 +1,22 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "virtual-threads")
+public class VirtualThreadProperties {
+
+    /**
+     * Pinned virtual threads are reported once they have been pinned at least this long.
+     * Short pins, such as an uncontended {@code synchronized} block, are harmless.
+     */
+    private Duration pinningThreshold = Duration.ofMillis(20);
+
+    /**
+     * Distinct pinning sites whose stack trace is logged; further ones are only counted.
+     */
+    private int maxReportedSites = 100;
+}
@@ -0,0 +1,26 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.controller;
+
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.request.ReviewImportRequest;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.response.ReviewImportResponse;
+import id.ac.ui.cs.advprog.udehnihreviewrating.service.ReviewImportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/reviews")
+public class AdminReviewController {
+
+    private final ReviewImportService reviewImportService;
+
+    @Autowired
+    public AdminReviewController(ReviewImportService reviewImportService) {
+        this.reviewImportService = reviewImportService;
+    }
+
+    @PostMapping("/import")
+    public ResponseEntity<ReviewImportResponse> importReviews(@RequestBody ReviewImportRequest request) {
+        ReviewImportResponse response = reviewImportService.importReviews(request.getReviews());
+        return ResponseEntity.ok(response);
+    }
+}
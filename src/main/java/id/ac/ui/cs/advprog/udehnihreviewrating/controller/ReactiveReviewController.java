@@ -0,0 +1,50 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.controller;
+
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.response.ReviewResponse;
+import id.ac.ui.cs.advprog.udehnihreviewrating.service.ReactiveReviewService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The read endpoints of {@link ReviewController}, served without holding a request thread
+ * while the database and the downstream services answer. Spring MVC subscribes to the
+ * returned {@code Mono} and completes the response on an async dispatch.
+ */
+@RestController
+@RequestMapping("/api/reactive/reviews")
+@ConditionalOnProperty(prefix = "review-reactive", name = "enabled", havingValue = "true")
+public class ReactiveReviewController {
+
+    private final ReactiveReviewService reviewService;
+
+    public ReactiveReviewController(ReactiveReviewService reviewService) {
+        this.reviewService = reviewService;
+    }
+
+    @GetMapping("/{reviewId}")
+    public Mono<ReviewResponse> getReviewById(@PathVariable UUID reviewId) {
+        return reviewService.getReviewById(reviewId);
+    }
+
+    @GetMapping("/course/{courseId}")
+    public Mono<List<ReviewResponse>> getReviewsByCourse(@PathVariable Long courseId) {
+        return reviewService.getReviewsByCourse(courseId);
+    }
+
+    @GetMapping("/student/{studentId}")
+    public Mono<List<ReviewResponse>> getReviewsByStudent(@PathVariable Long studentId) {
+        return reviewService.getReviewsByStudent(studentId);
+    }
+
+    @GetMapping("/course/{courseId}/average-rating")
+    public Mono<Double> getAverageRatingForCourse(@PathVariable Long courseId) {
+        return reviewService.getAverageRatingForCourse(courseId);
+    }
+}
@@ -1,16 +1,26 @@
 package id.ac.ui.cs.advprog.udehnihreviewrating.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import id.ac.ui.cs.advprog.udehnihreviewrating.dto.request.CreateReviewRequest;
 import id.ac.ui.cs.advprog.udehnihreviewrating.dto.request.UpdateReviewRequest;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.response.CourseRatingSummaryResponse;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.response.ReviewPageResponse;
 import id.ac.ui.cs.advprog.udehnihreviewrating.dto.response.ReviewResponse;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.response.TopRatedCourseResponse;
+import id.ac.ui.cs.advprog.udehnihreviewrating.model.ReviewSort;
 import id.ac.ui.cs.advprog.udehnihreviewrating.security.StudentDetails;
 import id.ac.ui.cs.advprog.udehnihreviewrating.service.ReviewService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.UUID;
 
@@ -19,10 +29,12 @@ import java.util.UUID;
 public class ReviewController {
 
     private final ReviewService reviewService;
+    private final ObjectMapper objectMapper;
 
     @Autowired
-    public ReviewController(ReviewService reviewService) {
+    public ReviewController(ReviewService reviewService, ObjectMapper objectMapper) {
         this.reviewService = reviewService;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
@@ -46,12 +58,43 @@ public class ReviewController {
         return ResponseEntity.ok(responses);
     }
 
+    @GetMapping(value = "/course/{courseId}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamReviewsByCourse(@PathVariable Long courseId) {
+        StreamingResponseBody body = outputStream ->
+                reviewService.streamReviewsByCourse(courseId, chunk -> writeLines(outputStream, chunk));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @GetMapping("/course/{courseId}/page")
+    public ResponseEntity<ReviewPageResponse> getReviewPageByCourse(
+            @PathVariable Long courseId,
+            @RequestParam(defaultValue = "newest") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        ReviewPageResponse response = reviewService.getReviewPageByCourse(
+                courseId, ReviewSort.fromParameter(sort), cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/student/{studentId}")
     public ResponseEntity<List<ReviewResponse>> getReviewsByStudent(@PathVariable Long studentId) {
         List<ReviewResponse> responses = reviewService.getReviewsByStudent(studentId);
         return ResponseEntity.ok(responses);
     }
 
+    @GetMapping("/student/{studentId}/page")
+    public ResponseEntity<ReviewPageResponse> getReviewPageByStudent(
+            @PathVariable Long studentId,
+            @RequestParam(defaultValue = "newest") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        ReviewPageResponse response = reviewService.getReviewPageByStudent(
+                studentId, ReviewSort.fromParameter(sort), cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
     @PutMapping("/{reviewId}")
     public ResponseEntity<ReviewResponse> updateReview(
             @PathVariable UUID reviewId,
@@ -76,4 +119,30 @@ public class ReviewController {
         double averageRating = reviewService.getAverageRatingForCourse(courseId);
         return ResponseEntity.ok(averageRating);
     }
+
+    @GetMapping("/course/average-ratings")
+    public ResponseEntity<List<CourseRatingSummaryResponse>> getRatingSummariesForCourses(
+            @RequestParam List<Long> courseIds) {
+        List<CourseRatingSummaryResponse> responses = reviewService.getRatingSummariesForCourses(courseIds);
+        return ResponseEntity.ok(responses);
+    }
+
+    @GetMapping("/course/top-rated")
+    public ResponseEntity<List<TopRatedCourseResponse>> getTopRatedCourses(
+            @RequestParam(required = false) Integer size) {
+        List<TopRatedCourseResponse> responses = reviewService.getTopRatedCourses(size);
+        return ResponseEntity.ok(responses);
+    }
+
+    private void writeLines(OutputStream outputStream, List<ReviewResponse> chunk) {
+        try {
+            for (ReviewResponse response : chunk) {
+                outputStream.write(objectMapper.writeValueAsBytes(response));
+                outputStream.write('\n');
+            }
+            outputStream.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewImportItem {
+    private Long courseId;
+    private Long studentId;
+    private String reviewText;
+    private int rating;
+    private LocalDateTime createdAt;
+}
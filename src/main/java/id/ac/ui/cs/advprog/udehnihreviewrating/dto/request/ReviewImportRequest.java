@@ -0,0 +1,16 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewImportRequest {
+    private List<ReviewImportItem> reviews;
+}
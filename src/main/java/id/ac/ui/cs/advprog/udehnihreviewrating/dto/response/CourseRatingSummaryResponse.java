@@ -0,0 +1,19 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourseRatingSummaryResponse {
+    private Long courseId;
+    private double averageRating;
+    private long reviewCount;
+    private Map<Integer, Long> ratingDistribution;
+}
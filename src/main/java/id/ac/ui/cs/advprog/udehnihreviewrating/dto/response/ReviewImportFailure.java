@@ -0,0 +1,17 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewImportFailure {
+    private int index;
+    private Long courseId;
+    private Long studentId;
+    private String reason;
+}
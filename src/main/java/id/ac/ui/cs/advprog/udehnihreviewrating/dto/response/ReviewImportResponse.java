@@ -0,0 +1,19 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewImportResponse {
+    private int received;
+    private int imported;
+    private int failed;
+    private List<ReviewImportFailure> failures;
+}
@@ -0,0 +1,19 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewPageResponse {
+    private List<ReviewResponse> reviews;
+    private String nextCursor;
+    private boolean hasNext;
+    private int size;
+}
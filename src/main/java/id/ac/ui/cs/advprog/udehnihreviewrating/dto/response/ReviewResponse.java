@@ -22,4 +22,5 @@ public class ReviewResponse {
     private int rating;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private boolean degraded;
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TopRatedCourseResponse {
+    private int rank;
+    private Long courseId;
+    private double bayesianRating;
+    private double averageRating;
+    private long reviewCount;
+}
@@ -0,0 +1,11 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class DownstreamUnavailableException extends RuntimeException {
+    public DownstreamUnavailableException(String service, Throwable cause) {
+        super("Service " + service + " is currently unavailable", cause);
+    }
+}
@@ -0,0 +1,45 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.exception;
+
+import org.hibernate.exception.ConstraintViolationException;
+
+import java.util.Locale;
+
+/**
+ * Tells a violation of the one-review-per-student-and-course rule apart from the other
+ * integrity violations a write can hit, such as NOT NULL or length limits.
+ */
+public final class DuplicateReviews {
+
+    /**
+     * The unique index on {@code reviews (course_id, student_id)}, see the V2 migration.
+     */
+    public static final String CONSTRAINT_NAME = "ux_reviews_course_student";
+
+    private DuplicateReviews() {
+    }
+
+    /**
+     * Whether {@code failure}, or any of its causes, was raised by the unique index. Looks
+     * at the constraint name Hibernate extracted and, for plain JDBC writes, at the driver
+     * message, which names the violated constraint on PostgreSQL and H2 alike.
+     */
+    public static boolean isDuplicateReview(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation
+                    && mentionsConstraint(violation.getConstraintName())) {
+                return true;
+            }
+            if (mentionsConstraint(cause.getMessage())) {
+                return true;
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    private static boolean mentionsConstraint(String text) {
+        return text != null && text.toLowerCase(Locale.ROOT).contains(CONSTRAINT_NAME);
+    }
+}
@@ -0,0 +1,11 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.GATEWAY_TIMEOUT)
+public class EnrichmentTimeoutException extends RuntimeException {
+    public EnrichmentTimeoutException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidPageRequestException extends RuntimeException {
+    public InvalidPageRequestException(String message) {
+        super(message);
+    }
+}
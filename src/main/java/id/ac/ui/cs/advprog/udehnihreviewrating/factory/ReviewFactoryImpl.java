@@ -4,7 +4,6 @@ import id.ac.ui.cs.advprog.udehnihreviewrating.model.Review;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
-import java.util.UUID;
 
 @Component
 public class ReviewFactoryImpl implements ReviewFactory {
@@ -14,7 +13,7 @@ public class ReviewFactoryImpl implements ReviewFactory {
         validateRating(rating);
 
         return Review.builder()
-                .id(UUID.randomUUID())
+                .id(TimeOrderedUuids.next())
                 .courseId(courseId)
                 .studentId(studentId)
                 .reviewText(reviewText)
@@ -29,7 +28,7 @@ public class ReviewFactoryImpl implements ReviewFactory {
         validateRating(rating);
 
         return Review.builder()
-                .id(UUID.randomUUID())
+                .id(TimeOrderedUuids.next())
                 .courseId(courseId)
                 .studentId(studentId)
                 .reviewText("")
@@ -46,7 +45,7 @@ public class ReviewFactoryImpl implements ReviewFactory {
         Long actualStudentId = isAnonymous ? null : studentId;
 
         return Review.builder()
-                .id(UUID.randomUUID())
+                .id(TimeOrderedUuids.next())
                 .courseId(courseId)
                 .studentId(actualStudentId)
                 .reviewText(reviewText)
@@ -0,0 +1,63 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Running rating totals for one course, kept in step with the {@code reviews} table so the
+ * average can be served from a single primary-key read.
+ */
+@Entity
+@Table(name = "course_rating_stats")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class CourseRatingStats {
+    @Id
+    @EqualsAndHashCode.Include
+    private Long courseId;
+    private long reviewCount;
+    private long ratingSum;
+    @Column(name = "one_star_count")
+    private long oneStarCount;
+    @Column(name = "two_star_count")
+    private long twoStarCount;
+    @Column(name = "three_star_count")
+    private long threeStarCount;
+    @Column(name = "four_star_count")
+    private long fourStarCount;
+    @Column(name = "five_star_count")
+    private long fiveStarCount;
+    private LocalDateTime lastUpdated;
+
+    public static CourseRatingStats empty(Long courseId) {
+        return CourseRatingStats.builder()
+                .courseId(courseId)
+                .lastUpdated(LocalDateTime.now())
+                .build();
+    }
+
+    public void addRating(int rating, long count) {
+        reviewCount += count;
+        ratingSum += (long) rating * count;
+        switch (rating) {
+            case 1 -> oneStarCount += count;
+            case 2 -> twoStarCount += count;
+            case 3 -> threeStarCount += count;
+            case 4 -> fourStarCount += count;
+            case 5 -> fiveStarCount += count;
+            default -> throw new IllegalArgumentException("Rating harus antara 1 and 5");
+        }
+    }
+
+    public double getAverageRating() {
+        return reviewCount == 0 ? 0.0 : (double) ratingSum / reviewCount;
+    }
+}
@@ -25,4 +25,11 @@ public class Review {
     private int rating;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+
+    // Names as they were when last resolved, so reads need no remote lookups.
+    // ReviewSnapshotRefresher keeps them current.
+    private String courseTitle;
+    private String studentName;
+    private LocalDateTime courseSnapshotAt;
+    private LocalDateTime studentSnapshotAt;
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.model;
+
+import id.ac.ui.cs.advprog.udehnihreviewrating.exception.InvalidPageRequestException;
+
+import java.util.Locale;
+
+/**
+ * Orderings supported by the paginated review listings. Every ordering ends with the
+ * review id so that it is total, which keyset pagination relies on. Rating orderings
+ * break ties by newest first.
+ */
+public enum ReviewSort {
+    NEWEST(false, true),
+    OLDEST(false, false),
+    HIGHEST(true, true),
+    LOWEST(true, false);
+
+    private final boolean byRating;
+    private final boolean descending;
+
+    ReviewSort(boolean byRating, boolean descending) {
+        this.byRating = byRating;
+        this.descending = descending;
+    }
+
+    public boolean isByRating() {
+        return byRating;
+    }
+
+    public boolean isDescending() {
+        return descending;
+    }
+
+    public static ReviewSort fromParameter(String value) {
+        try {
+            return ReviewSort.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new InvalidPageRequestException("Unsupported sort: " + value);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.repository;
+
+/**
+ * Number of reviews a course received for one star value.
+ */
+public interface CourseRatingCount {
+    Long getCourseId();
+    int getRating();
+    long getReviewCount();
+}
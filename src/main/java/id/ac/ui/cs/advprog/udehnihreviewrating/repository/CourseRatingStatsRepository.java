@@ -0,0 +1,51 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.repository;
+
+import id.ac.ui.cs.advprog.udehnihreviewrating.model.CourseRatingStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface CourseRatingStatsRepository extends JpaRepository<CourseRatingStats, Long> {
+
+    /**
+     * Applies a delta to the course's totals in a single statement, so concurrent writers
+     * never overwrite each other's increments. Returns 0 when the course has no row yet.
+     */
+    @Modifying
+    @Query("update CourseRatingStats s set "
+            + "s.reviewCount = s.reviewCount + :countDelta, "
+            + "s.ratingSum = s.ratingSum + :sumDelta, "
+            + "s.oneStarCount = s.oneStarCount + :oneStarDelta, "
+            + "s.twoStarCount = s.twoStarCount + :twoStarDelta, "
+            + "s.threeStarCount = s.threeStarCount + :threeStarDelta, "
+            + "s.fourStarCount = s.fourStarCount + :fourStarDelta, "
+            + "s.fiveStarCount = s.fiveStarCount + :fiveStarDelta, "
+            + "s.lastUpdated = :lastUpdated "
+            + "where s.courseId = :courseId")
+    int applyDelta(@Param("courseId") Long courseId,
+                   @Param("countDelta") long countDelta,
+                   @Param("sumDelta") long sumDelta,
+                   @Param("oneStarDelta") long oneStarDelta,
+                   @Param("twoStarDelta") long twoStarDelta,
+                   @Param("threeStarDelta") long threeStarDelta,
+                   @Param("fourStarDelta") long fourStarDelta,
+                   @Param("fiveStarDelta") long fiveStarDelta,
+                   @Param("lastUpdated") LocalDateTime lastUpdated);
+
+    /**
+     * Creates the course's row with zero totals unless it already exists, in the caller's
+     * transaction. A concurrent insert of the same course is waited for instead of failing
+     * the transaction.
+     */
+    @Modifying
+    @Query(value = "insert into course_rating_stats (course_id, review_count, rating_sum, one_star_count, "
+            + "two_star_count, three_star_count, four_star_count, five_star_count, last_updated) "
+            + "values (:courseId, 0, 0, 0, 0, 0, 0, 0, :lastUpdated) on conflict do nothing",
+            nativeQuery = true)
+    int insertEmptyIfAbsent(@Param("courseId") Long courseId, @Param("lastUpdated") LocalDateTime lastUpdated);
+}
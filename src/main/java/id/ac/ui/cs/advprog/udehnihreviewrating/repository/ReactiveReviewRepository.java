@@ -0,0 +1,76 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.repository;
+
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Non-blocking reads of the {@code reviews} and {@code course_rating_stats} tables over
+ * R2DBC, for the reactive read path. Selects the same columns as the {@link ReviewView}
+ * queries of {@link ReviewRepository}, with plain SQL since JPA has no reactive driver.
+ */
+public class ReactiveReviewRepository {
+
+    private static final String VIEW_COLUMNS = "id, course_id, student_id, review_text, rating, "
+            + "created_at, updated_at, course_title, student_name";
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveReviewRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Mono<ReviewView> findViewById(UUID id) {
+        return databaseClient.sql("SELECT " + VIEW_COLUMNS + " FROM reviews WHERE id = :id")
+                .bind("id", id)
+                .map(ReactiveReviewRepository::toView)
+                .one();
+    }
+
+    public Flux<ReviewView> findViewsByCourseId(Long courseId) {
+        return databaseClient.sql("SELECT " + VIEW_COLUMNS + " FROM reviews WHERE course_id = :courseId")
+                .bind("courseId", courseId)
+                .map(ReactiveReviewRepository::toView)
+                .all();
+    }
+
+    public Flux<ReviewView> findViewsByStudentId(Long studentId) {
+        return databaseClient.sql("SELECT " + VIEW_COLUMNS + " FROM reviews WHERE student_id = :studentId")
+                .bind("studentId", studentId)
+                .map(ReactiveReviewRepository::toView)
+                .all();
+    }
+
+    /**
+     * Reads the average from the running totals, like
+     * {@code CourseRatingStatsService.getAverageRating}; zero when the course has no reviews.
+     */
+    public Mono<Double> findAverageRating(Long courseId) {
+        return databaseClient.sql("SELECT review_count, rating_sum FROM course_rating_stats WHERE course_id = :courseId")
+                .bind("courseId", courseId)
+                .map(row -> {
+                    long reviewCount = row.get("review_count", Long.class);
+                    long ratingSum = row.get("rating_sum", Long.class);
+                    return reviewCount == 0 ? 0.0 : (double) ratingSum / reviewCount;
+                })
+                .one()
+                .defaultIfEmpty(0.0);
+    }
+
+    private static ReviewView toView(Readable row) {
+        return new ReviewView(
+                row.get("id", UUID.class),
+                row.get("course_id", Long.class),
+                row.get("student_id", Long.class),
+                row.get("review_text", String.class),
+                row.get("rating", Integer.class),
+                row.get("created_at", LocalDateTime.class),
+                row.get("updated_at", LocalDateTime.class),
+                row.get("course_title", String.class),
+                row.get("student_name", String.class));
+    }
+}
@@ -0,0 +1,22 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Sort key of the last review on a page; the next page starts strictly after it.
+ */
+@Data
+@AllArgsConstructor
+public class ReviewKeyset {
+    private int rating;
+    private LocalDateTime createdAt;
+    private UUID id;
+
+    public static ReviewKeyset of(ReviewView review) {
+        return new ReviewKeyset(review.getRating(), review.getCreatedAt(), review.getId());
+    }
+}
@@ -1,15 +1,90 @@
 package id.ac.ui.cs.advprog.udehnihreviewrating.repository;
 
 import id.ac.ui.cs.advprog.udehnihreviewrating.model.Review;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface ReviewRepository extends JpaRepository<Review, UUID> {
-    List<Review> findByCourseId(Long courseId);
-    List<Review> findByStudentId(Long studentId);
+public interface ReviewRepository extends JpaRepository<Review, UUID>, ReviewRepositoryCustom {
     Review findByCourseIdAndStudentId(Long courseId, Long studentId);
+
+    /**
+     * Loads the review and locks its row until the surrounding transaction ends, so a
+     * concurrent update or delete of the same review waits and sees this one's result.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from Review r where r.id = :id")
+    Optional<Review> findForUpdateById(@Param("id") UUID id);
+
+    /**
+     * Returns the number of rows removed, so callers only adjust totals for a review
+     * that was actually deleted.
+     */
+    @Modifying
+    @Query("delete from Review r where r.id = :id")
+    int deleteReviewById(@Param("id") UUID id);
+
+    @Transactional(readOnly = true)
+    @Query("select new id.ac.ui.cs.advprog.udehnihreviewrating.repository.ReviewView(r.id, r.courseId, r.studentId, "
+            + "r.reviewText, r.rating, r.createdAt, r.updatedAt, r.courseTitle, r.studentName) "
+            + "from Review r where r.courseId = :courseId")
+    List<ReviewView> findViewsByCourseId(@Param("courseId") Long courseId);
+
+    @Transactional(readOnly = true)
+    @Query("select new id.ac.ui.cs.advprog.udehnihreviewrating.repository.ReviewView(r.id, r.courseId, r.studentId, "
+            + "r.reviewText, r.rating, r.createdAt, r.updatedAt, r.courseTitle, r.studentName) "
+            + "from Review r where r.studentId = :studentId")
+    List<ReviewView> findViewsByStudentId(@Param("studentId") Long studentId);
+
+    @Query("select r.courseId as courseId, r.rating as rating, count(r) as reviewCount "
+            + "from Review r group by r.courseId, r.rating")
+    List<CourseRatingCount> countRatingsByCourse();
+
+    @Query("select r.courseId from Review r where r.courseId is not null "
+            + "and (r.courseSnapshotAt is null or r.courseSnapshotAt < :staleBefore) group by r.courseId")
+    List<Long> findCourseIdsWithStaleSnapshot(@Param("staleBefore") LocalDateTime staleBefore, Pageable pageable);
+
+    @Query("select r.studentId from Review r where r.studentId is not null "
+            + "and (r.studentSnapshotAt is null or r.studentSnapshotAt < :staleBefore) group by r.studentId")
+    List<Long> findStudentIdsWithStaleSnapshot(@Param("staleBefore") LocalDateTime staleBefore, Pageable pageable);
+
+    /**
+     * Rewrites the course title snapshot of every review of the course in one statement.
+     * A null title keeps the previous snapshot and only marks it as checked.
+     */
+    @Modifying
+    @Query("update Review r set r.courseTitle = coalesce(:title, r.courseTitle), r.courseSnapshotAt = :snapshotAt "
+            + "where r.courseId = :courseId")
+    int updateCourseSnapshot(@Param("courseId") Long courseId,
+                             @Param("title") String title,
+                             @Param("snapshotAt") LocalDateTime snapshotAt);
+
+    @Modifying
+    @Query("update Review r set r.studentName = coalesce(:name, r.studentName), r.studentSnapshotAt = :snapshotAt "
+            + "where r.studentId = :studentId")
+    int updateStudentSnapshot(@Param("studentId") Long studentId,
+                              @Param("name") String name,
+                              @Param("snapshotAt") LocalDateTime snapshotAt);
+
+    @Query("select min(r.courseSnapshotAt) from Review r where r.courseId is not null")
+    LocalDateTime findOldestCourseSnapshot();
+
+    @Query("select min(r.studentSnapshotAt) from Review r where r.studentId is not null")
+    LocalDateTime findOldestStudentSnapshot();
+
+    long countByCourseIdIsNotNullAndCourseSnapshotAtIsNull();
+
+    long countByStudentIdIsNotNullAndStudentSnapshotAtIsNull();
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.repository;
+
+import id.ac.ui.cs.advprog.udehnihreviewrating.model.Review;
+import id.ac.ui.cs.advprog.udehnihreviewrating.model.ReviewSort;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface ReviewRepositoryCustom {
+    List<ReviewView> findPageByCourseId(Long courseId, ReviewSort sort, ReviewKeyset after, int limit);
+    List<ReviewView> findPageByStudentId(Long studentId, ReviewSort sort, ReviewKeyset after, int limit);
+    Stream<ReviewView> streamByCourseId(Long courseId, int fetchSize);
+}
@@ -0,0 +1,126 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.repository;
+
+import id.ac.ui.cs.advprog.udehnihreviewrating.model.Review;
+import id.ac.ui.cs.advprog.udehnihreviewrating.model.ReviewSort;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Keyset pagination over reviews: instead of an {@code OFFSET}, each page filters on the
+ * sort key of the previous page's last row, so the cost of a page does not grow with how
+ * deep the client has scrolled and concurrent inserts never shift rows between pages.
+ * Rows are selected as {@link ReviewView} projections rather than managed entities.
+ */
+public class ReviewRepositoryImpl implements ReviewRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReviewView> findPageByCourseId(Long courseId, ReviewSort sort, ReviewKeyset after, int limit) {
+        return findPage("courseId", courseId, sort, after, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReviewView> findPageByStudentId(Long studentId, ReviewSort sort, ReviewKeyset after, int limit) {
+        return findPage("studentId", studentId, sort, after, limit);
+    }
+
+    /**
+     * Streams a course's reviews, newest first, through a forward-only cursor. Rows are
+     * fetched {@code fetchSize} at a time as projections that never enter the persistence
+     * context, so neither the driver nor the persistence context accumulates the whole
+     * result. Must be called inside a transaction, and the stream must be closed.
+     */
+    @Override
+    public Stream<ReviewView> streamByCourseId(Long courseId, int fetchSize) {
+        return entityManager.createQuery(
+                        "select new id.ac.ui.cs.advprog.udehnihreviewrating.repository.ReviewView(r.id, r.courseId, "
+                                + "r.studentId, r.reviewText, r.rating, r.createdAt, r.updatedAt, r.courseTitle, "
+                                + "r.studentName) "
+                                + "from Review r where r.courseId = :courseId order by r.createdAt desc, r.id desc",
+                        ReviewView.class)
+                .setParameter("courseId", courseId)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream();
+    }
+
+    private List<ReviewView> findPage(String ownerAttribute, Long ownerId, ReviewSort sort, ReviewKeyset after,
+                                      int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ReviewView> query = cb.createQuery(ReviewView.class);
+        Root<Review> review = query.from(Review.class);
+
+        Predicate predicate = cb.equal(review.get(ownerAttribute), ownerId);
+        if (after != null) {
+            predicate = cb.and(predicate, startingAfter(cb, review, sort, after));
+        }
+        query.select(cb.construct(ReviewView.class,
+                        review.get("id"), review.get("courseId"), review.get("studentId"), review.get("reviewText"),
+                        review.get("rating"), review.get("createdAt"), review.get("updatedAt"),
+                        review.get("courseTitle"), review.get("studentName")))
+                .where(predicate)
+                .orderBy(orderBy(cb, review, sort));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private List<Order> orderBy(CriteriaBuilder cb, Root<Review> review, ReviewSort sort) {
+        if (sort.isByRating()) {
+            return List.of(
+                    order(cb, review.get("rating"), sort.isDescending()),
+                    cb.desc(review.get("createdAt")),
+                    cb.desc(review.get("id")));
+        }
+        return List.of(
+                order(cb, review.get("createdAt"), sort.isDescending()),
+                order(cb, review.get("id"), sort.isDescending()));
+    }
+
+    private Predicate startingAfter(CriteriaBuilder cb, Root<Review> review, ReviewSort sort, ReviewKeyset after) {
+        Path<LocalDateTime> createdAt = review.get("createdAt");
+        Path<UUID> id = review.get("id");
+
+        if (!sort.isByRating()) {
+            return cb.or(
+                    beyond(cb, createdAt, after.getCreatedAt(), sort.isDescending()),
+                    cb.and(cb.equal(createdAt, after.getCreatedAt()),
+                            beyond(cb, id, after.getId(), sort.isDescending())));
+        }
+
+        Path<Integer> rating = review.get("rating");
+        return cb.or(
+                beyond(cb, rating, after.getRating(), sort.isDescending()),
+                cb.and(cb.equal(rating, after.getRating()),
+                        cb.or(
+                                beyond(cb, createdAt, after.getCreatedAt(), true),
+                                cb.and(cb.equal(createdAt, after.getCreatedAt()),
+                                        beyond(cb, id, after.getId(), true)))));
+    }
+
+    private Order order(CriteriaBuilder cb, Path<?> path, boolean descending) {
+        return descending ? cb.desc(path) : cb.asc(path);
+    }
+
+    private <Y extends Comparable<? super Y>> Predicate beyond(CriteriaBuilder cb, Path<Y> path, Y value,
+                                                               boolean descending) {
+        return descending ? cb.lessThan(path, value) : cb.greaterThan(path, value);
+    }
+}
@@ -0,0 +1,35 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.repository;
+
+import id.ac.ui.cs.advprog.udehnihreviewrating.model.Review;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only copy of the review columns the list endpoints render. Queries select it with
+ * a constructor expression, so rows are never hydrated into managed entities: nothing
+ * enters the persistence context and there is no snapshot to dirty-check.
+ */
+@Value
+@Builder
+@AllArgsConstructor
+public class ReviewView {
+    UUID id;
+    Long courseId;
+    Long studentId;
+    String reviewText;
+    int rating;
+    LocalDateTime createdAt;
+    LocalDateTime updatedAt;
+    String courseTitle;
+    String studentName;
+
+    public static ReviewView of(Review review) {
+        return new ReviewView(review.getId(), review.getCourseId(), review.getStudentId(), review.getReviewText(),
+                review.getRating(), review.getCreatedAt(), review.getUpdatedAt(), review.getCourseTitle(),
+                review.getStudentName());
+    }
+}
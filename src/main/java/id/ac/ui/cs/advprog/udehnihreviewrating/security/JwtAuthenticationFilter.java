@@ -1,71 +1,186 @@
 package id.ac.ui.cs.advprog.udehnihreviewrating.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import id.ac.ui.cs.advprog.udehnihreviewrating.config.RequestTimings;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.security.Key;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Authenticates requests from the bearer token issued by the auth service.
+ * <p>
+ * The signing key and parser are built once, and each token is verified in a single
+ * parse. Verified tokens are remembered by their SHA-256 hash until the earlier of their
+ * {@code exp} claim and {@code jwt.token-cache.max-ttl}, so repeat requests with the same
+ * token skip signature verification entirely. Public routes are not filtered at all.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    @Value("${jwt.secret-key}")
-    private String secretKey;
+    static final String CACHE_NAME = "jwt-verified-tokens";
+    static final String AUTH_PHASE = "auth";
+
+    private final JwtParser parser;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+    private final RequestMatcher publicEndpoints;
+
+    @Autowired
+    public JwtAuthenticationFilter(@Value("${jwt.secret-key}") String secretKey,
+                                   @Value("${jwt.token-cache.maximum-size:10000}") long tokenCacheSize,
+                                   @Value("${jwt.token-cache.max-ttl:10m}") Duration tokenCacheMaxTtl,
+                                   ObjectProvider<MeterRegistry> meterRegistry) {
+        this(secretKey, tokenCacheSize, tokenCacheMaxTtl, meterRegistry.getIfAvailable());
+    }
+
+    /**
+     * @param tokenCacheSize   verified tokens kept in memory; 0 verifies every request
+     * @param tokenCacheMaxTtl how long a verified token is trusted, capped by its {@code exp}
+     * @param meterRegistry    registry for the token cache statistics, or {@code null}
+     */
+    public JwtAuthenticationFilter(String secretKey, long tokenCacheSize, Duration tokenCacheMaxTtl,
+                                   MeterRegistry meterRegistry) {
+        this.parser = buildParser(secretKey);
+        this.verifiedTokens = buildCache(tokenCacheSize, tokenCacheMaxTtl, meterRegistry);
+
+        List<RequestMatcher> matchers = new ArrayList<>();
+        for (String path : PublicEndpoints.PATHS) {
+            matchers.add(new AntPathRequestMatcher(path));
+        }
+        for (String path : PublicEndpoints.GET_PATHS) {
+            matchers.add(new AntPathRequestMatcher(path, HttpMethod.GET.name()));
+        }
+        this.publicEndpoints = new OrRequestMatcher(matchers);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return publicEndpoints.matches(request);
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
+        long startedAt = System.nanoTime();
         try {
             String jwt = parseJwt(request);
-            if (jwt != null && validateJwt(jwt)) {
-                Claims claims = extractAllClaims(jwt);
+            if (jwt != null) {
+                StudentDetails studentDetails = authenticate(jwt);
+                if (studentDetails != null) {
+                    UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                            studentDetails, jwt, studentDetails.getAuthorities());
 
-                String subjectStr = claims.getSubject();
-                Long studentId = Long.parseLong(subjectStr);
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                }
+            }
+        } catch (Exception e) {
+            log.error("Cannot set authentication: {}", e.getMessage(), e);
+        }
+        RequestTimings.record(request, AUTH_PHASE, System.nanoTime() - startedAt);
 
-                String email = claims.get("email", String.class);
+        filterChain.doFilter(request, response);
+    }
 
-                List<SimpleGrantedAuthority> authorities = Collections.singletonList(
-                        new SimpleGrantedAuthority("ROLE_STUDENT")
-                );
+    /**
+     * Returns the principal for {@code token}, or {@code null} if the token does not verify.
+     */
+    StudentDetails authenticate(String token) {
+        if (verifiedTokens == null) {
+            return verify(token).studentDetails();
+        }
 
-                StudentDetails studentDetails = new StudentDetails(
-                        studentId,
-                        email,
-                        authorities
-                );
+        String tokenHash = hash(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(tokenHash);
+        if (cached != null && cached.isValidAt(System.currentTimeMillis())) {
+            return cached.studentDetails();
+        }
 
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(studentDetails, jwt, authorities);
+        VerifiedToken verified = verify(token);
+        if (verified.studentDetails() != null) {
+            verifiedTokens.put(tokenHash, verified);
+        }
+        return verified.studentDetails();
+    }
 
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-            }
+    private VerifiedToken verify(String token) {
+        if (parser == null) {
+            return VerifiedToken.REJECTED;
+        }
+
+        Claims claims;
+        try {
+            claims = parser.parseClaimsJws(token).getBody();
         } catch (Exception e) {
-            log.error("Cannot set authentication: {}", e.getMessage(), e);
+            return VerifiedToken.REJECTED;
         }
 
-        filterChain.doFilter(request, response);
+        Long studentId = Long.parseLong(claims.getSubject());
+        String email = claims.get("email", String.class);
+        StudentDetails studentDetails = new StudentDetails(studentId, email, extractAuthorities(claims));
+
+        Date expiration = claims.getExpiration();
+        return new VerifiedToken(studentDetails, expiration == null ? Long.MAX_VALUE : expiration.getTime());
+    }
+
+    private List<SimpleGrantedAuthority> extractAuthorities(Claims claims) {
+        Set<String> roles = new LinkedHashSet<>();
+        roles.add("ROLE_STUDENT");
+
+        Object rolesClaim = claims.get("roles");
+        if (rolesClaim instanceof Collection<?> claimedRoles) {
+            for (Object role : claimedRoles) {
+                if (role != null && StringUtils.hasText(role.toString())) {
+                    String name = role.toString().trim().toUpperCase(Locale.ROOT);
+                    roles.add(name.startsWith("ROLE_") ? name : "ROLE_" + name);
+                }
+            }
+        }
+
+        List<SimpleGrantedAuthority> authorities = new ArrayList<>(roles.size());
+        for (String role : roles) {
+            authorities.add(new SimpleGrantedAuthority(role));
+        }
+        return List.copyOf(authorities);
     }
 
     private String parseJwt(HttpServletRequest request) {
@@ -78,28 +193,66 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         return null;
     }
 
-    private boolean validateJwt(String token) {
+    private static String hash(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static JwtParser buildParser(String secretKey) {
+        try {
+            byte[] keyBytes = Decoders.BASE64.decode(secretKey);
+            return Jwts.parserBuilder()
+                    .setSigningKey(Keys.hmacShaKeyFor(keyBytes))
+                    .build();
         } catch (Exception e) {
-            return false;
+            log.error("Invalid jwt.secret-key, every bearer token will be rejected: {}", e.getMessage());
+            return null;
         }
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    private static Cache<String, VerifiedToken> buildCache(long maximumSize, Duration maxTtl,
+                                                          MeterRegistry meterRegistry) {
+        if (maximumSize <= 0) {
+            return null;
+        }
+
+        long maxTtlNanos = maxTtl.toNanos();
+        Cache<String, VerifiedToken> cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                        long untilExpiry = value.expiresAtMillis() - System.currentTimeMillis();
+                        return Math.max(0, Math.min(maxTtlNanos, TimeUnit.MILLISECONDS.toNanos(untilExpiry)));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken value, long currentTime,
+                                                  long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken value, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        return meterRegistry == null ? cache : CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
     }
 
-    private Key getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private record VerifiedToken(StudentDetails studentDetails, long expiresAtMillis) {
+
+        static final VerifiedToken REJECTED = new VerifiedToken(null, 0);
+
+        boolean isValidAt(long nowMillis) {
+            return nowMillis < expiresAtMillis;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,20 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.security;
+
+/**
+ * Routes served without authentication. Shared by {@code SecurityConfig}, which permits
+ * them, and {@link JwtAuthenticationFilter}, which skips token parsing for them.
+ */
+public final class PublicEndpoints {
+
+    public static final String[] PATHS = {"/", "/health"};
+
+    public static final String[] GET_PATHS = {
+            "/api/reviews/course/*/average-rating",
+            "/api/reviews/course/average-ratings",
+            "/api/reviews/course/top-rated",
+            "/api/reactive/reviews/course/*/average-rating"
+    };
+
+    private PublicEndpoints() {
+    }
+}
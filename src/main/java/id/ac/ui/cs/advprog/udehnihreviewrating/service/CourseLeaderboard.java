@@ -0,0 +1,122 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.service;
+
+import id.ac.ui.cs.advprog.udehnihreviewrating.config.RatingStatsProperties;
+import id.ac.ui.cs.advprog.udehnihreviewrating.model.CourseRatingStats;
+import id.ac.ui.cs.advprog.udehnihreviewrating.repository.CourseRatingStatsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Every course with reviews, kept sorted by its Bayesian average rating, so the top
+ * {@code k} courses are read in {@code O(k)} without touching the database.
+ * <p>
+ * The Bayesian average pulls a course with few reviews towards
+ * {@code rating-stats.leaderboard.prior-mean}, so a single five-star review does not
+ * outrank a course with hundreds of good ones. Ties go to the course with more reviews,
+ * then to the lower id.
+ * <p>
+ * The ranking is loaded from {@code course_rating_stats} once the application is ready,
+ * after any startup rebuild of that table. After that, {@link CourseRatingStatsServiceImpl}
+ * applies each review change once its transaction commits. Updates take a lock and cost
+ * {@code O(log n)}; reads take no lock and see every committed update made before them.
+ */
+@Component
+@Slf4j
+public class CourseLeaderboard {
+
+    private static final Comparator<Entry> RANKING = Comparator
+            .comparingDouble(Entry::bayesianRating).reversed()
+            .thenComparing(Comparator.comparingLong(Entry::reviewCount).reversed())
+            .thenComparingLong(Entry::courseId);
+
+    private final CourseRatingStatsRepository courseRatingStatsRepository;
+    private final RatingStatsProperties.Leaderboard properties;
+
+    private volatile Map<Long, Entry> byCourse = new ConcurrentHashMap<>();
+    private volatile NavigableSet<Entry> ranking = new ConcurrentSkipListSet<>(RANKING);
+
+    public CourseLeaderboard(CourseRatingStatsRepository courseRatingStatsRepository,
+                             RatingStatsProperties properties) {
+        this.courseRatingStatsRepository = courseRatingStatsRepository;
+        this.properties = properties.getLeaderboard();
+    }
+
+    /**
+     * Replaces the ranking with the totals currently in {@code course_rating_stats}.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        Map<Long, Entry> loadedByCourse = new ConcurrentHashMap<>();
+        NavigableSet<Entry> loadedRanking = new ConcurrentSkipListSet<>(RANKING);
+        for (CourseRatingStats stats : courseRatingStatsRepository.findAll()) {
+            if (stats.getReviewCount() > 0) {
+                Entry entry = entry(stats.getCourseId(), stats.getReviewCount(), stats.getRatingSum());
+                loadedByCourse.put(entry.courseId(), entry);
+                loadedRanking.add(entry);
+            }
+        }
+
+        byCourse = loadedByCourse;
+        ranking = loadedRanking;
+        log.info("Loaded course leaderboard with {} courses", loadedByCourse.size());
+    }
+
+    /**
+     * Moves {@code courseId} to its new place after its review count and rating sum changed
+     * by the given amounts. A course left without reviews drops off the ranking.
+     */
+    public synchronized void apply(Long courseId, long countDelta, long sumDelta) {
+        Entry previous = byCourse.get(courseId);
+        long reviewCount = countDelta;
+        long ratingSum = sumDelta;
+        if (previous != null) {
+            reviewCount += previous.reviewCount();
+            ratingSum += previous.ratingSum();
+            ranking.remove(previous);
+        }
+
+        if (reviewCount <= 0) {
+            byCourse.remove(courseId);
+            return;
+        }
+        Entry updated = entry(courseId, reviewCount, ratingSum);
+        byCourse.put(courseId, updated);
+        ranking.add(updated);
+    }
+
+    /**
+     * Returns the {@code k} best ranked courses, best first.
+     */
+    public List<Entry> top(int k) {
+        List<Entry> top = new ArrayList<>(Math.min(k, byCourse.size()));
+        Iterator<Entry> iterator = ranking.iterator();
+        while (top.size() < k && iterator.hasNext()) {
+            top.add(iterator.next());
+        }
+        return top;
+    }
+
+    private Entry entry(Long courseId, long reviewCount, long ratingSum) {
+        double bayesianRating = (properties.getPriorWeight() * properties.getPriorMean() + ratingSum)
+                / (properties.getPriorWeight() + reviewCount);
+        return new Entry(courseId, reviewCount, ratingSum, bayesianRating);
+    }
+
+    public record Entry(long courseId, long reviewCount, long ratingSum, double bayesianRating) {
+
+        public double averageRating() {
+            return (double) ratingSum / reviewCount;
+        }
+    }
+}
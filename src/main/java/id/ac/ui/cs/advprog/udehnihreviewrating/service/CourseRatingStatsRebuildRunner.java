@@ -0,0 +1,44 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.service;
+
+import id.ac.ui.cs.advprog.udehnihreviewrating.config.RatingStatsProperties;
+import id.ac.ui.cs.advprog.udehnihreviewrating.repository.CourseRatingStatsRepository;
+import id.ac.ui.cs.advprog.udehnihreviewrating.repository.ReviewRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Backfills {@code course_rating_stats} on startup, either on request through
+ * {@code rating-stats.rebuild-on-startup} or when the table has never been populated.
+ */
+@Component
+@Slf4j
+public class CourseRatingStatsRebuildRunner implements ApplicationRunner {
+
+    private final CourseRatingStatsService courseRatingStatsService;
+    private final CourseRatingStatsRepository courseRatingStatsRepository;
+    private final ReviewRepository reviewRepository;
+    private final RatingStatsProperties properties;
+
+    public CourseRatingStatsRebuildRunner(CourseRatingStatsService courseRatingStatsService,
+                                          CourseRatingStatsRepository courseRatingStatsRepository,
+                                          ReviewRepository reviewRepository,
+                                          RatingStatsProperties properties) {
+        this.courseRatingStatsService = courseRatingStatsService;
+        this.courseRatingStatsRepository = courseRatingStatsRepository;
+        this.reviewRepository = reviewRepository;
+        this.properties = properties;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (properties.isRebuildOnStartup()) {
+            log.info("Rebuilding course rating stats as requested by rating-stats.rebuild-on-startup");
+            courseRatingStatsService.rebuildAll();
+        } else if (courseRatingStatsRepository.count() == 0 && reviewRepository.count() > 0) {
+            log.info("Course rating stats are empty, backfilling them from existing reviews");
+            courseRatingStatsService.rebuildAll();
+        }
+    }
+}
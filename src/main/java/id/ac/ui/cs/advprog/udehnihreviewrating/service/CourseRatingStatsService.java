@@ -0,0 +1,17 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.service;
+
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.response.CourseRatingSummaryResponse;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.response.TopRatedCourseResponse;
+
+import java.util.List;
+
+public interface CourseRatingStatsService {
+    void recordCreated(Long courseId, int rating);
+    void recordCreated(Long courseId, List<Integer> ratings);
+    void recordUpdated(Long courseId, int previousRating, int newRating);
+    void recordDeleted(Long courseId, int rating);
+    double getAverageRating(Long courseId);
+    List<CourseRatingSummaryResponse> getRatingSummaries(List<Long> courseIds);
+    List<TopRatedCourseResponse> getTopRatedCourses(Integer size);
+    int rebuildAll();
+}
@@ -0,0 +1,281 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.service;
+
+import id.ac.ui.cs.advprog.udehnihreviewrating.config.RatingStatsProperties;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.response.CourseRatingSummaryResponse;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.response.TopRatedCourseResponse;
+import id.ac.ui.cs.advprog.udehnihreviewrating.exception.InvalidRatingRequestException;
+import id.ac.ui.cs.advprog.udehnihreviewrating.model.CourseRatingStats;
+import id.ac.ui.cs.advprog.udehnihreviewrating.repository.CourseRatingCount;
+import id.ac.ui.cs.advprog.udehnihreviewrating.repository.CourseRatingStatsRepository;
+import id.ac.ui.cs.advprog.udehnihreviewrating.repository.ReviewRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps {@code course_rating_stats} in step with the {@code reviews} table.
+ * <p>
+ * The record methods must run inside the transaction that writes the review, so the
+ * totals commit or roll back together with it. Each change is applied as one atomic
+ * {@code UPDATE ... SET x = x + delta}, which lets concurrent reviews on the same course
+ * proceed without read-modify-write races. The first review of a course creates the row
+ * in the same transaction with an insert that does nothing if a concurrent writer got
+ * there first; the delta is then applied to whichever row exists. Once the transaction
+ * commits, the same delta is applied to the {@link CourseLeaderboard}.
+ */
+@Service
+@Slf4j
+public class CourseRatingStatsServiceImpl implements CourseRatingStatsService {
+
+    private static final int MIN_RATING = 1;
+    private static final int MAX_RATING = 5;
+
+    private final CourseRatingStatsRepository courseRatingStatsRepository;
+    private final ReviewRepository reviewRepository;
+    private final RatingStatsProperties properties;
+    private final CourseLeaderboard courseLeaderboard;
+
+    public CourseRatingStatsServiceImpl(CourseRatingStatsRepository courseRatingStatsRepository,
+                                        ReviewRepository reviewRepository,
+                                        RatingStatsProperties properties,
+                                        CourseLeaderboard courseLeaderboard) {
+        this.courseRatingStatsRepository = courseRatingStatsRepository;
+        this.reviewRepository = reviewRepository;
+        this.properties = properties;
+        this.courseLeaderboard = courseLeaderboard;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(Long courseId, int rating) {
+        long[] starDeltas = new long[MAX_RATING];
+        starDeltas[starIndex(rating)]++;
+        applyDelta(courseId, starDeltas);
+    }
+
+    /**
+     * Records several new reviews of one course with a single update, as bulk imports do.
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(Long courseId, List<Integer> ratings) {
+        if (ratings.isEmpty()) {
+            return;
+        }
+
+        long[] starDeltas = new long[MAX_RATING];
+        for (int rating : ratings) {
+            starDeltas[starIndex(rating)]++;
+        }
+        applyDelta(courseId, starDeltas);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordUpdated(Long courseId, int previousRating, int newRating) {
+        if (previousRating == newRating) {
+            return;
+        }
+
+        long[] starDeltas = new long[MAX_RATING];
+        starDeltas[starIndex(previousRating)]--;
+        starDeltas[starIndex(newRating)]++;
+        applyDelta(courseId, starDeltas);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeleted(Long courseId, int rating) {
+        long[] starDeltas = new long[MAX_RATING];
+        starDeltas[starIndex(rating)]--;
+        applyDelta(courseId, starDeltas);
+    }
+
+    @Override
+    public double getAverageRating(Long courseId) {
+        return courseRatingStatsRepository.findById(courseId)
+                .map(CourseRatingStats::getAverageRating)
+                .orElse(0.0);
+    }
+
+    /**
+     * Summarizes several courses with one primary-key {@code IN} read of the stats table.
+     * Results follow the order of the requested ids, without duplicates; courses that have
+     * no reviews yet are reported with zero totals.
+     */
+    @Override
+    public List<CourseRatingSummaryResponse> getRatingSummaries(List<Long> courseIds) {
+        if (courseIds == null || courseIds.isEmpty()) {
+            throw new InvalidRatingRequestException("At least one courseId is required");
+        }
+
+        Set<Long> distinctIds = new LinkedHashSet<>();
+        for (Long courseId : courseIds) {
+            if (courseId == null) {
+                throw new InvalidRatingRequestException("courseIds must not contain empty values");
+            }
+            distinctIds.add(courseId);
+        }
+        if (distinctIds.size() > properties.getMaxCoursesPerRequest()) {
+            throw new InvalidRatingRequestException(
+                    "At most " + properties.getMaxCoursesPerRequest() + " courses can be requested at once");
+        }
+
+        Map<Long, CourseRatingStats> statsByCourse = new HashMap<>();
+        for (CourseRatingStats stats : courseRatingStatsRepository.findAllById(distinctIds)) {
+            statsByCourse.put(stats.getCourseId(), stats);
+        }
+
+        List<CourseRatingSummaryResponse> summaries = new ArrayList<>(distinctIds.size());
+        for (Long courseId : distinctIds) {
+            summaries.add(toSummary(statsByCourse.getOrDefault(courseId, CourseRatingStats.empty(courseId))));
+        }
+        return summaries;
+    }
+
+    /**
+     * Reads the best ranked courses from the in-memory {@link CourseLeaderboard}; a missing
+     * size falls back to the default and larger ones are capped.
+     */
+    @Override
+    public List<TopRatedCourseResponse> getTopRatedCourses(Integer size) {
+        RatingStatsProperties.Leaderboard leaderboard = properties.getLeaderboard();
+        int limit = leaderboard.getDefaultSize();
+        if (size != null) {
+            if (size < 1) {
+                throw new InvalidRatingRequestException("size must be at least 1");
+            }
+            limit = Math.min(size, leaderboard.getMaxSize());
+        }
+
+        List<CourseLeaderboard.Entry> top = courseLeaderboard.top(limit);
+        List<TopRatedCourseResponse> responses = new ArrayList<>(top.size());
+        for (CourseLeaderboard.Entry entry : top) {
+            responses.add(TopRatedCourseResponse.builder()
+                    .rank(responses.size() + 1)
+                    .courseId(entry.courseId())
+                    .bayesianRating(entry.bayesianRating())
+                    .averageRating(entry.averageRating())
+                    .reviewCount(entry.reviewCount())
+                    .build());
+        }
+        return responses;
+    }
+
+    /**
+     * Recomputes every course's totals from the {@code reviews} table with one grouped
+     * query. Meant for backfills and repairs; reviews written while it runs may need
+     * another rebuild to be reflected.
+     */
+    @Override
+    @Transactional
+    public int rebuildAll() {
+        Map<Long, CourseRatingStats> rebuilt = new HashMap<>();
+        for (CourseRatingCount ratingCount : reviewRepository.countRatingsByCourse()) {
+            rebuilt.computeIfAbsent(ratingCount.getCourseId(), CourseRatingStats::empty)
+                    .addRating(ratingCount.getRating(), ratingCount.getReviewCount());
+        }
+        int courses = rebuilt.size();
+
+        List<CourseRatingStats> existing = courseRatingStatsRepository.findAll();
+        for (CourseRatingStats stats : existing) {
+            CourseRatingStats replacement = rebuilt.remove(stats.getCourseId());
+            if (replacement == null) {
+                courseRatingStatsRepository.delete(stats);
+            } else {
+                copyTotals(replacement, stats);
+            }
+        }
+        courseRatingStatsRepository.saveAll(rebuilt.values());
+
+        log.info("Rebuilt course rating stats for {} courses", courses);
+        return courses;
+    }
+
+    private CourseRatingSummaryResponse toSummary(CourseRatingStats stats) {
+        Map<Integer, Long> distribution = new LinkedHashMap<>();
+        distribution.put(1, stats.getOneStarCount());
+        distribution.put(2, stats.getTwoStarCount());
+        distribution.put(3, stats.getThreeStarCount());
+        distribution.put(4, stats.getFourStarCount());
+        distribution.put(5, stats.getFiveStarCount());
+
+        return CourseRatingSummaryResponse.builder()
+                .courseId(stats.getCourseId())
+                .averageRating(stats.getAverageRating())
+                .reviewCount(stats.getReviewCount())
+                .ratingDistribution(distribution)
+                .build();
+    }
+
+    private void applyDelta(Long courseId, long[] starDeltas) {
+        long countDelta = 0;
+        long sumDelta = 0;
+        for (int index = 0; index < starDeltas.length; index++) {
+            countDelta += starDeltas[index];
+            sumDelta += (index + 1) * starDeltas[index];
+        }
+
+        if (updateRow(courseId, countDelta, sumDelta, starDeltas) == 0) {
+            courseRatingStatsRepository.insertEmptyIfAbsent(courseId, LocalDateTime.now());
+            if (updateRow(courseId, countDelta, sumDelta, starDeltas) == 0) {
+                throw new IllegalStateException("Rating stats row missing for courseId: " + courseId);
+            }
+        }
+        updateLeaderboardAfterCommit(courseId, countDelta, sumDelta);
+    }
+
+    private int updateRow(Long courseId, long countDelta, long sumDelta, long[] starDeltas) {
+        return courseRatingStatsRepository.applyDelta(courseId, countDelta, sumDelta,
+                starDeltas[0], starDeltas[1], starDeltas[2], starDeltas[3], starDeltas[4],
+                LocalDateTime.now());
+    }
+
+    /**
+     * Rolled back changes never reach the leaderboard. Outside a transaction, which only
+     * happens when the record methods are called directly, the delta applies at once.
+     */
+    private void updateLeaderboardAfterCommit(Long courseId, long countDelta, long sumDelta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            courseLeaderboard.apply(courseId, countDelta, sumDelta);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                courseLeaderboard.apply(courseId, countDelta, sumDelta);
+            }
+        });
+    }
+
+    private void copyTotals(CourseRatingStats source, CourseRatingStats target) {
+        target.setReviewCount(source.getReviewCount());
+        target.setRatingSum(source.getRatingSum());
+        target.setOneStarCount(source.getOneStarCount());
+        target.setTwoStarCount(source.getTwoStarCount());
+        target.setThreeStarCount(source.getThreeStarCount());
+        target.setFourStarCount(source.getFourStarCount());
+        target.setFiveStarCount(source.getFiveStarCount());
+        target.setLastUpdated(source.getLastUpdated());
+    }
+
+    private int starIndex(int rating) {
+        if (rating < MIN_RATING || rating > MAX_RATING) {
+            throw new IllegalArgumentException("Rating harus antara 1 and 5");
+        }
+        return rating - MIN_RATING;
+    }
+}
@@ -0,0 +1,292 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.service;
+
+import id.ac.ui.cs.advprog.udehnihreviewrating.config.EnrichmentProperties;
+import id.ac.ui.cs.advprog.udehnihreviewrating.config.RequestTimings;
+import id.ac.ui.cs.advprog.udehnihreviewrating.exception.EnrichmentTimeoutException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs the remote lookups of one enrichment stage concurrently on virtual threads.
+ * <p>
+ * Every call forms its own scope: all subtasks are joined before the call returns, and
+ * the first failure or an expired deadline cancels the remaining ones. At most
+ * {@code enrichment.max-parallelism} subtasks of one call run at once, and at most
+ * {@code enrichment.max-in-flight} across all calls, counting lookups that outlived their
+ * read budget.
+ * <p>
+ * Subtasks never see the caller's request. They get a copy of the caller's token, so
+ * {@code FeignRequestInterceptor} can still forward it, and the caller's
+ * {@link RequestTimings} only while the caller is still waiting for them.
+ */
+@Component
+public class EnrichmentExecutor {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final EnrichmentProperties properties;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore inFlight;
+
+    public EnrichmentExecutor(EnrichmentProperties properties) {
+        this.properties = properties;
+        this.inFlight = new Semaphore(Math.max(1, properties.getMaxInFlight()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public int getBatchSize() {
+        return properties.getBatchSize();
+    }
+
+    public void runAll(List<Runnable> tasks) {
+        runAll(tasks, properties.getDeadline());
+    }
+
+    /**
+     * Runs {@code tasks} like {@link #runAll(List)}, but with a deadline of the caller's
+     * choosing instead of {@code enrichment.deadline}, for work that is not bound by
+     * interactive latency such as imports.
+     */
+    public void runAll(List<Runnable> tasks, Duration deadline) {
+        invokeAll(toCallables(tasks), deadline);
+    }
+
+    /**
+     * Runs {@code tasks} like {@link #runAll}, but waits no longer than
+     * {@code enrichment.read-budget}. Tasks still running then are not cancelled: they
+     * finish in the background so what they fetch still reaches the lookup caches, and
+     * this method returns {@code false} so the caller can serve what it has. Tasks that
+     * could not start within the budget are skipped. Failures of tasks that finished in
+     * time are rethrown.
+     */
+    public boolean runAllWithinBudget(List<Runnable> tasks) {
+        if (tasks.isEmpty()) {
+            return true;
+        }
+
+        Duration budget = properties.getReadBudget();
+        long deadlineNanos = System.nanoTime() + budget.toNanos();
+        CallerContext caller = CallerContext.capture(properties.getMaxParallelism());
+        List<Future<Void>> futures = new ArrayList<>(tasks.size());
+        try {
+            boolean completed = true;
+            for (Callable<Void> task : toCallables(tasks)) {
+                Future<Void> future = submit(task, caller, deadlineNanos);
+                if (future == null) {
+                    completed = false;
+                    break;
+                }
+                futures.add(future);
+            }
+
+            for (Future<Void> future : futures) {
+                try {
+                    await(future, deadlineNanos, budget);
+                } catch (EnrichmentTimeoutException e) {
+                    completed = false;
+                }
+            }
+            return completed;
+        } catch (RuntimeException e) {
+            cancelAll(futures);
+            throw e;
+        } finally {
+            caller.detach();
+        }
+    }
+
+    public <T> List<T> invokeAll(List<Callable<T>> tasks) {
+        return invokeAll(tasks, properties.getDeadline());
+    }
+
+    public <T> List<T> invokeAll(List<Callable<T>> tasks, Duration deadline) {
+        if (tasks.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        long deadlineNanos = System.nanoTime() + deadline.toNanos();
+        CallerContext caller = CallerContext.capture(properties.getMaxParallelism());
+        List<Future<T>> futures = new ArrayList<>(tasks.size());
+        try {
+            for (Callable<T> task : tasks) {
+                Future<T> future = submit(task, caller, deadlineNanos);
+                if (future == null) {
+                    throw timedOut(deadline);
+                }
+                futures.add(future);
+            }
+
+            List<T> results = new ArrayList<>(tasks.size());
+            for (Future<T> future : futures) {
+                results.add(await(future, deadlineNanos, deadline));
+            }
+            return results;
+        } catch (RuntimeException e) {
+            cancelAll(futures);
+            throw e;
+        } finally {
+            caller.detach();
+        }
+    }
+
+    /**
+     * Starts {@code task} once an in-flight slot frees up, or returns {@code null} if none
+     * does before the deadline. The slot is released when the task completes or is
+     * cancelled.
+     */
+    private <T> Future<T> submit(Callable<T> task, CallerContext caller, long deadlineNanos) {
+        try {
+            if (!inFlight.tryAcquire(Math.max(0L, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                return null;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Review enrichment was interrupted", e);
+        }
+
+        FutureTask<T> future = new FutureTask<>(caller.wrap(task)) {
+            @Override
+            protected void done() {
+                inFlight.release();
+            }
+        };
+        try {
+            executor.execute(future);
+        } catch (RejectedExecutionException e) {
+            inFlight.release();
+            throw e;
+        }
+        return future;
+    }
+
+    /**
+     * Waits for {@code future} until {@code deadlineNanos}, which the caller derived from
+     * {@code limit}.
+     */
+    private <T> T await(Future<T> future, long deadlineNanos, Duration limit) {
+        try {
+            return future.get(Math.max(0L, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw timedOut(limit);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new RuntimeException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Review enrichment was interrupted", e);
+        }
+    }
+
+    private static EnrichmentTimeoutException timedOut(Duration limit) {
+        return new EnrichmentTimeoutException("Review enrichment did not finish within "
+                + limit.toMillis() + " ms");
+    }
+
+    private static void cancelAll(List<? extends Future<?>> futures) {
+        for (Future<?> future : futures) {
+            future.cancel(true);
+        }
+    }
+
+    private static List<Callable<Void>> toCallables(List<Runnable> tasks) {
+        List<Callable<Void>> callables = new ArrayList<>(tasks.size());
+        for (Runnable task : tasks) {
+            callables.add(() -> {
+                task.run();
+                return null;
+            });
+        }
+        return callables;
+    }
+
+    /**
+     * What the subtasks of one call take over from the caller: a detached copy of its
+     * security context, its timings until {@link #detach()}, and its parallelism limit.
+     */
+    private static final class CallerContext {
+
+        private final SecurityContext securityContext;
+        private final AtomicReference<RequestTimings> timings;
+        private final Semaphore permits;
+
+        private CallerContext(SecurityContext securityContext, RequestTimings timings, int maxParallelism) {
+            this.securityContext = securityContext;
+            this.timings = new AtomicReference<>(timings);
+            this.permits = new Semaphore(Math.max(1, maxParallelism));
+        }
+
+        static CallerContext capture(int maxParallelism) {
+            SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+            securityContext.setAuthentication(callerAuthentication());
+            return new CallerContext(securityContext, RequestTimings.current(), maxParallelism);
+        }
+
+        /**
+         * The caller's authentication or, on endpoints that skip authentication, the
+         * bearer token of its request, so that lookups still forward it.
+         */
+        private static Authentication callerAuthentication() {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null) {
+                return authentication;
+            }
+            if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+                String authHeader = attributes.getRequest().getHeader(HttpHeaders.AUTHORIZATION);
+                if (authHeader != null && authHeader.startsWith(BEARER_PREFIX)) {
+                    return UsernamePasswordAuthenticationToken.unauthenticated(null,
+                            authHeader.substring(BEARER_PREFIX.length()));
+                }
+            }
+            return null;
+        }
+
+        <T> Callable<T> wrap(Callable<T> task) {
+            return () -> {
+                permits.acquire();
+                SecurityContextHolder.setContext(securityContext);
+                try {
+                    return RequestTimings.callWith(timings, task);
+                } finally {
+                    SecurityContextHolder.clearContext();
+                    permits.release();
+                }
+            };
+        }
+
+        void detach() {
+            timings.set(null);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import id.ac.ui.cs.advprog.udehnihreviewrating.config.EnrichmentProperties;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.course.CourseDetailDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * Remembers the course details and student names of successful lookups for much longer
+ * than the lookup caches keep them, so a degraded read can still show the last known
+ * values when a downstream service is slow or unavailable. Ids never seen before get an
+ * explicit placeholder.
+ */
+@Component
+public class LastKnownLookups {
+
+    private final Cache<Long, CourseDetailDTO> courses;
+    private final Cache<Long, String> studentNames;
+    private final MeterRegistry meterRegistry;
+
+    public LastKnownLookups(EnrichmentProperties properties, MeterRegistry meterRegistry) {
+        this.courses = Caffeine.newBuilder()
+                .maximumSize(properties.getLastKnownMaximumSize())
+                .expireAfterWrite(properties.getLastKnownTtl())
+                .build();
+        this.studentNames = Caffeine.newBuilder()
+                .maximumSize(properties.getLastKnownMaximumSize())
+                .expireAfterWrite(properties.getLastKnownTtl())
+                .build();
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void rememberCourse(CourseDetailDTO course) {
+        if (course != null && course.getId() != null) {
+            courses.put(course.getId(), course);
+        }
+    }
+
+    public void rememberStudentName(Long studentId, String name) {
+        if (studentId != null && name != null) {
+            studentNames.put(studentId, name);
+        }
+    }
+
+    /**
+     * Returns the last known details of {@code courseId}, or a placeholder that only
+     * carries the id.
+     */
+    public CourseDetailDTO course(Long courseId) {
+        CourseDetailDTO course = courses.getIfPresent(courseId);
+        recordFallback("course", course != null);
+        return course != null ? course : CourseDetailDTO.builder().id(courseId).build();
+    }
+
+    public String studentName(Long studentId) {
+        String name = studentNames.getIfPresent(studentId);
+        recordFallback("student", name != null);
+        return name != null ? name : "Student " + studentId;
+    }
+
+    private void recordFallback(String lookup, boolean lastKnown) {
+        Counter.builder("review.enrichment.fallbacks")
+                .description("Degraded reads that served a last known value or a placeholder")
+                .tag("lookup", lookup)
+                .tag("source", lastKnown ? "last-known" : "placeholder")
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,140 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.service;
+
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.course.CourseDetailDTO;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.student.StudentDTO;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Memoizes course and student lookups for the lifetime of one HTTP request, so every id
+ * is resolved at most once no matter how many validation and conversion steps need it.
+ * Missing entities are remembered as well. Failed lookups are not, so a later step may
+ * retry them.
+ */
+public class LookupContext {
+
+    private final Memo<CourseDetailDTO> courses = new Memo<>(CourseDetailDTO::getId);
+    private final Memo<StudentDTO> students = new Memo<>(StudentDTO::getStudentId);
+
+    public Memo<CourseDetailDTO> courses() {
+        return courses;
+    }
+
+    public Memo<StudentDTO> students() {
+        return students;
+    }
+
+    /**
+     * Each id maps to the future of its lookup. The first caller registers the future and
+     * loads outside any lock while concurrent callers for the same id wait for it, so a
+     * slow lookup never holds a map bin or pins a virtual thread.
+     */
+    public static class Memo<V> {
+
+        private final Map<Long, CompletableFuture<Optional<V>>> values = new ConcurrentHashMap<>();
+        private final Function<V, Long> idExtractor;
+        private final AtomicInteger remoteCalls = new AtomicInteger();
+
+        Memo(Function<V, Long> idExtractor) {
+            this.idExtractor = idExtractor;
+        }
+
+        public V get(Long id, Function<Long, V> loader) {
+            CompletableFuture<Optional<V>> lookup = new CompletableFuture<>();
+            CompletableFuture<Optional<V>> existing = values.putIfAbsent(id, lookup);
+            if (existing != null) {
+                return join(existing).orElse(null);
+            }
+
+            remoteCalls.incrementAndGet();
+            try {
+                Optional<V> value = Optional.ofNullable(loader.apply(id));
+                lookup.complete(value);
+                return value.orElse(null);
+            } catch (RuntimeException | Error e) {
+                fail(id, lookup, e);
+                throw e;
+            }
+        }
+
+        /**
+         * Resolves {@code ids} with at most one call to {@code batchLoader} for the ids that
+         * are not known or being looked up yet. Ids the loader does not return are absent
+         * from the result.
+         */
+        public Map<Long, V> getAll(List<Long> ids, Function<List<Long>, List<V>> batchLoader) {
+            Map<Long, CompletableFuture<Optional<V>>> lookups = new LinkedHashMap<>();
+            Map<Long, CompletableFuture<Optional<V>>> owned = new LinkedHashMap<>();
+            for (Long id : ids) {
+                if (lookups.containsKey(id)) {
+                    continue;
+                }
+                CompletableFuture<Optional<V>> lookup = new CompletableFuture<>();
+                CompletableFuture<Optional<V>> existing = values.putIfAbsent(id, lookup);
+                if (existing == null) {
+                    owned.put(id, lookup);
+                    lookups.put(id, lookup);
+                } else {
+                    lookups.put(id, existing);
+                }
+            }
+
+            if (!owned.isEmpty()) {
+                remoteCalls.incrementAndGet();
+                try {
+                    Map<Long, V> loaded = new HashMap<>();
+                    for (V value : batchLoader.apply(new ArrayList<>(owned.keySet()))) {
+                        if (value != null && idExtractor.apply(value) != null) {
+                            loaded.put(idExtractor.apply(value), value);
+                        }
+                    }
+                    owned.forEach((id, lookup) -> lookup.complete(Optional.ofNullable(loaded.get(id))));
+                } catch (RuntimeException | Error e) {
+                    owned.forEach((id, lookup) -> fail(id, lookup, e));
+                    throw e;
+                }
+            }
+
+            Map<Long, V> result = new HashMap<>();
+            lookups.forEach((id, lookup) -> join(lookup).ifPresent(value -> result.put(id, value)));
+            return result;
+        }
+
+        public int getRemoteCalls() {
+            return remoteCalls.get();
+        }
+
+        /**
+         * Forgets a failed lookup so a later step retries it, and hands the failure to the
+         * callers already waiting for it.
+         */
+        private void fail(Long id, CompletableFuture<Optional<V>> lookup, Throwable failure) {
+            values.remove(id, lookup);
+            lookup.completeExceptionally(failure);
+        }
+
+        private static <V> Optional<V> join(CompletableFuture<Optional<V>> lookup) {
+            try {
+                return lookup.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw e;
+            }
+        }
+    }
+}
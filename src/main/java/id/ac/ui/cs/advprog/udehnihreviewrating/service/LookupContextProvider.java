@@ -0,0 +1,57 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Hands out the {@link LookupContext} bound to the current HTTP request. When the
+ * request completes, the number of remote course and student lookups it needed is
+ * recorded in the {@code review.remote.calls.per.request} distribution summary.
+ * Outside of a request every call gets a fresh, unshared context.
+ */
+@Component
+public class LookupContextProvider {
+
+    private static final String ATTRIBUTE_NAME = LookupContextProvider.class.getName() + ".CONTEXT";
+
+    private final DistributionSummary courseCallsPerRequest;
+    private final DistributionSummary studentCallsPerRequest;
+
+    public LookupContextProvider(MeterRegistry meterRegistry) {
+        this.courseCallsPerRequest = callsPerRequest(meterRegistry, "course-service");
+        this.studentCallsPerRequest = callsPerRequest(meterRegistry, "auth-service");
+    }
+
+    public LookupContext current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return new LookupContext();
+        }
+
+        Object existing = attributes.getAttribute(ATTRIBUTE_NAME, RequestAttributes.SCOPE_REQUEST);
+        if (existing instanceof LookupContext lookupContext) {
+            return lookupContext;
+        }
+
+        LookupContext lookupContext = new LookupContext();
+        attributes.setAttribute(ATTRIBUTE_NAME, lookupContext, RequestAttributes.SCOPE_REQUEST);
+        attributes.registerDestructionCallback(ATTRIBUTE_NAME, () -> record(lookupContext),
+                RequestAttributes.SCOPE_REQUEST);
+        return lookupContext;
+    }
+
+    private void record(LookupContext lookupContext) {
+        courseCallsPerRequest.record(lookupContext.courses().getRemoteCalls());
+        studentCallsPerRequest.record(lookupContext.students().getRemoteCalls());
+    }
+
+    private static DistributionSummary callsPerRequest(MeterRegistry meterRegistry, String client) {
+        return DistributionSummary.builder("review.remote.calls.per.request")
+                .description("Course and student lookups issued by one HTTP request after request-scoped memoization")
+                .tag("client", client)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,17 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.service;
+
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.response.ReviewResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Non-blocking variant of the read side of {@link ReviewService}, with the same results.
+ */
+public interface ReactiveReviewService {
+    Mono<ReviewResponse> getReviewById(UUID reviewId);
+    Mono<List<ReviewResponse>> getReviewsByCourse(Long courseId);
+    Mono<List<ReviewResponse>> getReviewsByStudent(Long studentId);
+    Mono<Double> getAverageRatingForCourse(Long courseId);
+}
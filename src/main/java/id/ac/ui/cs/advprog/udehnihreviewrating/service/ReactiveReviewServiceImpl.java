@@ -0,0 +1,268 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.service;
+
+import id.ac.ui.cs.advprog.udehnihreviewrating.client.ForwardedAuthorization;
+import id.ac.ui.cs.advprog.udehnihreviewrating.client.ReactiveCourseClient;
+import id.ac.ui.cs.advprog.udehnihreviewrating.client.ReactiveStudentClient;
+import id.ac.ui.cs.advprog.udehnihreviewrating.config.EnrichmentProperties;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.course.CourseDetailDTO;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.response.ReviewResponse;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.student.StudentDTO;
+import id.ac.ui.cs.advprog.udehnihreviewrating.exception.DownstreamUnavailableException;
+import id.ac.ui.cs.advprog.udehnihreviewrating.repository.ReactiveReviewRepository;
+import id.ac.ui.cs.advprog.udehnihreviewrating.repository.ReviewView;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Serves the reads of {@link ReviewServiceImpl} without blocking a thread on the database
+ * or on a lookup. Name snapshots, batching, the read budget and the fallback to
+ * {@link LastKnownLookups} work as they do there; lookups still running when the budget
+ * runs out keep filling the lookup caches in the background.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(prefix = "review-reactive", name = "enabled", havingValue = "true")
+public class ReactiveReviewServiceImpl implements ReactiveReviewService {
+
+    private final ReactiveReviewRepository reviewRepository;
+    private final ReactiveCourseClient courseClient;
+    private final ReactiveStudentClient studentClient;
+    private final EnrichmentProperties enrichmentProperties;
+    private final LastKnownLookups lastKnownLookups;
+    private final ReviewResponseAssembler responseAssembler;
+
+    public ReactiveReviewServiceImpl(ReactiveReviewRepository reviewRepository, ReactiveCourseClient courseClient,
+                                     ReactiveStudentClient studentClient, EnrichmentProperties enrichmentProperties,
+                                     LastKnownLookups lastKnownLookups) {
+        this.reviewRepository = reviewRepository;
+        this.courseClient = courseClient;
+        this.studentClient = studentClient;
+        this.enrichmentProperties = enrichmentProperties;
+        this.lastKnownLookups = lastKnownLookups;
+        this.responseAssembler = new ReviewResponseAssembler(lastKnownLookups);
+    }
+
+    @Override
+    public Mono<ReviewResponse> getReviewById(UUID reviewId) {
+        return reviewRepository.findViewById(reviewId)
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("Review not found")))
+                .flatMap(this::convertToResponse)
+                .contextWrite(ForwardedAuthorization.capture());
+    }
+
+    @Override
+    public Mono<List<ReviewResponse>> getReviewsByCourse(Long courseId) {
+        return convertToResponses(reviewRepository.findViewsByCourseId(courseId))
+                .contextWrite(ForwardedAuthorization.capture());
+    }
+
+    @Override
+    public Mono<List<ReviewResponse>> getReviewsByStudent(Long studentId) {
+        return convertToResponses(reviewRepository.findViewsByStudentId(studentId))
+                .contextWrite(ForwardedAuthorization.capture());
+    }
+
+    @Override
+    public Mono<Double> getAverageRatingForCourse(Long courseId) {
+        return reviewRepository.findAverageRating(courseId);
+    }
+
+    private Mono<ReviewResponse> convertToResponse(ReviewView review) {
+        if (responseAssembler.hasNameSnapshot(review)) {
+            return Mono.just(responseAssembler.fromSnapshot(review));
+        }
+
+        return Mono.zip(
+                withinBudget(getCourseDetails(review.getCourseId())),
+                withinBudget(getStudentDisplayName(review.getStudentId())),
+                (course, studentName) -> responseAssembler.build(review, course.orElse(null), studentName.orElse(null)));
+    }
+
+    private Mono<List<ReviewResponse>> convertToResponses(Flux<ReviewView> views) {
+        return views.collectList().flatMap(this::enrich);
+    }
+
+    private Mono<List<ReviewResponse>> enrich(List<ReviewView> reviews) {
+        if (reviews.isEmpty()) {
+            return Mono.just(new ArrayList<>());
+        }
+
+        // Only reviews without a name snapshot need remote lookups.
+        List<ReviewView> unresolved = new ArrayList<>();
+        for (ReviewView review : reviews) {
+            if (!responseAssembler.hasNameSnapshot(review)) {
+                unresolved.add(review);
+            }
+        }
+
+        Map<Long, CourseDetailDTO> courses = new ConcurrentHashMap<>();
+        Map<Long, String> studentNames = new ConcurrentHashMap<>();
+
+        List<Mono<Void>> lookups = new ArrayList<>();
+        for (List<Long> batch : partition(distinctIds(unresolved, ReviewView::getCourseId))) {
+            lookups.add(getCourseDetailsByIds(batch).doOnNext(courses::putAll).then());
+        }
+        for (List<Long> batch : partition(distinctIds(unresolved, ReviewView::getStudentId))) {
+            lookups.add(getStudentDisplayNamesByIds(batch).doOnNext(studentNames::putAll).then());
+        }
+
+        return Flux.fromIterable(lookups)
+                .flatMap(lookup -> lookup, Math.max(1, enrichmentProperties.getMaxParallelism()))
+                .then()
+                .timeout(enrichmentProperties.getReadBudget(), Mono.empty())
+                .then(Mono.fromCallable(() -> buildResponses(reviews, courses, studentNames)));
+    }
+
+    private List<ReviewResponse> buildResponses(List<ReviewView> reviews, Map<Long, CourseDetailDTO> courses,
+                                                Map<Long, String> studentNames) {
+        List<ReviewResponse> responses = new ArrayList<>(reviews.size());
+        for (ReviewView review : reviews) {
+            if (responseAssembler.hasNameSnapshot(review)) {
+                responses.add(responseAssembler.fromSnapshot(review));
+                continue;
+            }
+            if (review.getStudentId() == null) {
+                throw new RuntimeException("Failed to retrieve student information for studentId: null");
+            }
+            responses.add(responseAssembler.build(review, courses.get(review.getCourseId()),
+                    studentNames.get(review.getStudentId())));
+        }
+        return responses;
+    }
+
+    /**
+     * Lookups still pending after the read budget complete empty, so the response falls
+     * back to last known values.
+     */
+    private <T> Mono<Optional<T>> withinBudget(Mono<T> lookup) {
+        return lookup.map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .timeout(enrichmentProperties.getReadBudget(), Mono.just(Optional.empty()));
+    }
+
+    private Mono<CourseDetailDTO> getCourseDetails(Long courseId) {
+        return courseClient.getCourseById(courseId)
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("Course details not found for courseId: " + courseId)))
+                .map(course -> {
+                    validateCourseDetail(course, courseId);
+                    lastKnownLookups.rememberCourse(course);
+                    return course;
+                })
+                .onErrorResume(DownstreamUnavailableException.class, e -> {
+                    log.warn("Course service unavailable, serving last known details for courseId {}: {}",
+                            courseId, e.getMessage());
+                    return Mono.empty();
+                })
+                .onErrorMap(e -> new RuntimeException("Failed to retrieve course details: " + e.getMessage(), e));
+    }
+
+    private Mono<String> getStudentDisplayName(Long studentId) {
+        if (studentId == null) {
+            return Mono.error(new RuntimeException("Failed to retrieve student information for studentId: null"));
+        }
+
+        return studentClient.getStudentById(studentId)
+                .filter(student -> !ReviewResponseAssembler.isEmptyString(student.getName()))
+                .switchIfEmpty(Mono.error(() -> new RuntimeException(
+                        "Student data incomplete - name is missing for studentId: " + studentId)))
+                .map(student -> {
+                    lastKnownLookups.rememberStudentName(studentId, student.getName());
+                    return student.getName();
+                })
+                .onErrorResume(DownstreamUnavailableException.class, e -> {
+                    log.warn("Auth service unavailable, serving last known name for studentId {}: {}",
+                            studentId, e.getMessage());
+                    return Mono.empty();
+                })
+                .onErrorMap(e -> new RuntimeException(
+                        "Failed to retrieve student information for studentId: " + studentId, e));
+    }
+
+    private Mono<Map<Long, CourseDetailDTO>> getCourseDetailsByIds(List<Long> courseIds) {
+        return courseClient.getCoursesByIds(courseIds)
+                .map(courses -> {
+                    for (Long courseId : courseIds) {
+                        validateCourseDetail(courses.get(courseId), courseId);
+                    }
+                    courses.values().forEach(lastKnownLookups::rememberCourse);
+                    return courses;
+                })
+                .onErrorResume(DownstreamUnavailableException.class, e -> {
+                    log.warn("Course service unavailable, serving last known details for courseIds {}: {}",
+                            courseIds, e.getMessage());
+                    return Mono.just(new HashMap<>());
+                })
+                .onErrorMap(e -> new RuntimeException("Failed to retrieve course details: " + e.getMessage(), e));
+    }
+
+    private Mono<Map<Long, String>> getStudentDisplayNamesByIds(List<Long> studentIds) {
+        return studentClient.getStudentsByIds(studentIds)
+                .map(students -> {
+                    Map<Long, String> studentNames = new HashMap<>();
+                    for (StudentDTO student : students.values()) {
+                        if (!ReviewResponseAssembler.isEmptyString(student.getName())) {
+                            studentNames.put(student.getStudentId(), student.getName());
+                        }
+                    }
+
+                    for (Long studentId : studentIds) {
+                        if (!studentNames.containsKey(studentId)) {
+                            throw new RuntimeException(
+                                    "Student data incomplete - name is missing for studentId: " + studentId);
+                        }
+                    }
+                    studentNames.forEach(lastKnownLookups::rememberStudentName);
+                    return studentNames;
+                })
+                .onErrorResume(DownstreamUnavailableException.class, e -> {
+                    log.warn("Auth service unavailable, serving last known names for studentIds {}: {}",
+                            studentIds, e.getMessage());
+                    return Mono.just(new HashMap<>());
+                })
+                .onErrorMap(e -> new RuntimeException("Failed to retrieve student information: " + e.getMessage(), e));
+    }
+
+    private void validateCourseDetail(CourseDetailDTO courseDetail, Long courseId) {
+        if (courseDetail == null) {
+            throw new RuntimeException("Course details not found for courseId: " + courseId);
+        }
+
+        if (ReviewResponseAssembler.isEmptyString(courseDetail.getTitle())) {
+            throw new RuntimeException("Course title is not defined for courseId: " + courseId);
+        }
+    }
+
+    private List<Long> distinctIds(List<ReviewView> reviews, Function<ReviewView, Long> idExtractor) {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (ReviewView review : reviews) {
+            Long id = idExtractor.apply(review);
+            if (id != null) {
+                ids.add(id);
+            }
+        }
+        return new ArrayList<>(ids);
+    }
+
+    private List<List<Long>> partition(List<Long> ids) {
+        int batchSize = Math.max(1, enrichmentProperties.getBatchSize());
+        List<List<Long>> batches = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            batches.add(ids.subList(from, Math.min(ids.size(), from + batchSize)));
+        }
+        return batches;
+    }
+}
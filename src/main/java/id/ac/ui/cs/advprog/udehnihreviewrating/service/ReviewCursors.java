@@ -0,0 +1,48 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.service;
+
+import id.ac.ui.cs.advprog.udehnihreviewrating.exception.InvalidPageRequestException;
+import id.ac.ui.cs.advprog.udehnihreviewrating.model.ReviewSort;
+import id.ac.ui.cs.advprog.udehnihreviewrating.repository.ReviewKeyset;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Encodes the keyset of a page's last review as an opaque, URL-safe cursor. The cursor
+ * records the sort it was issued for, so it cannot be replayed against another ordering.
+ */
+final class ReviewCursors {
+
+    private static final String SEPARATOR = "|";
+
+    private ReviewCursors() {
+    }
+
+    static String encode(ReviewSort sort, ReviewKeyset keyset) {
+        String raw = sort.name() + SEPARATOR + keyset.getRating() + SEPARATOR + keyset.getCreatedAt()
+                + SEPARATOR + keyset.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static ReviewKeyset decode(String cursor, ReviewSort sort) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 4 || !sort.name().equals(parts[0])) {
+                throw new InvalidPageRequestException("Cursor does not match sort " + sort);
+            }
+            return new ReviewKeyset(Integer.parseInt(parts[1]), LocalDateTime.parse(parts[2]),
+                    UUID.fromString(parts[3]));
+        } catch (InvalidPageRequestException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new InvalidPageRequestException("Malformed cursor");
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.service;
+
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.request.ReviewImportItem;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.response.ReviewImportResponse;
+
+import java.util.List;
+
+public interface ReviewImportService {
+    ReviewImportResponse importReviews(List<ReviewImportItem> items);
+}
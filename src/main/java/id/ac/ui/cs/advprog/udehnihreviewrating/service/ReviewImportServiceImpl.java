@@ -0,0 +1,267 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.service;
+
+import id.ac.ui.cs.advprog.udehnihreviewrating.client.CourseClient;
+import id.ac.ui.cs.advprog.udehnihreviewrating.client.StudentClient;
+import id.ac.ui.cs.advprog.udehnihreviewrating.config.ReviewImportProperties;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.course.CourseDetailDTO;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.request.ReviewImportItem;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.response.ReviewImportFailure;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.response.ReviewImportResponse;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.student.StudentDTO;
+import id.ac.ui.cs.advprog.udehnihreviewrating.exception.DuplicateReviews;
+import id.ac.ui.cs.advprog.udehnihreviewrating.exception.InvalidImportRequestException;
+import id.ac.ui.cs.advprog.udehnihreviewrating.factory.ReviewFactory;
+import id.ac.ui.cs.advprog.udehnihreviewrating.model.Review;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Imports reviews migrated from legacy systems and partner platforms.
+ * <p>
+ * Course and student ids are validated up front with one batch lookup per distinct id
+ * set, so the remote services see a handful of calls instead of two per row. Valid rows
+ * are persisted in chunks, each in its own transaction, which Hibernate flushes as JDBC
+ * batch inserts. A chunk that fails is rolled back and retried row by row so that one bad
+ * row is reported without losing the rest of the chunk.
+ */
+@Service
+@Slf4j
+public class ReviewImportServiceImpl implements ReviewImportService {
+
+    private static final String DUPLICATE_REVIEW = "Review already exists for this course and student";
+
+    private final ReviewFactory reviewFactory;
+    private final CourseClient courseClient;
+    private final StudentClient studentClient;
+    private final EnrichmentExecutor enrichmentExecutor;
+    private final CourseRatingStatsService courseRatingStatsService;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ReviewImportProperties properties;
+    private final Counter importedRows;
+    private final Counter failedRows;
+    private final Timer chunkTimer;
+    private final DistributionSummary rowsPerSecond;
+
+    public ReviewImportServiceImpl(ReviewFactory reviewFactory, CourseClient courseClient,
+                                   StudentClient studentClient, EnrichmentExecutor enrichmentExecutor,
+                                   CourseRatingStatsService courseRatingStatsService, EntityManager entityManager,
+                                   PlatformTransactionManager transactionManager, ReviewImportProperties properties,
+                                   MeterRegistry meterRegistry) {
+        this.reviewFactory = reviewFactory;
+        this.courseClient = courseClient;
+        this.studentClient = studentClient;
+        this.enrichmentExecutor = enrichmentExecutor;
+        this.courseRatingStatsService = courseRatingStatsService;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.importedRows = Counter.builder("review.import.rows")
+                .description("Reviews processed by bulk imports")
+                .tag("outcome", "imported")
+                .register(meterRegistry);
+        this.failedRows = Counter.builder("review.import.rows")
+                .description("Reviews processed by bulk imports")
+                .tag("outcome", "failed")
+                .register(meterRegistry);
+        this.chunkTimer = Timer.builder("review.import.chunk.duration")
+                .description("Time to persist one chunk of imported reviews, including row-by-row retries")
+                .register(meterRegistry);
+        this.rowsPerSecond = DistributionSummary.builder("review.import.throughput")
+                .description("Reviews imported per second by one import request")
+                .baseUnit("rows/s")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ReviewImportResponse importReviews(List<ReviewImportItem> items) {
+        if (items == null || items.isEmpty()) {
+            throw new InvalidImportRequestException("No reviews to import");
+        }
+        if (items.size() > properties.getMaxRows()) {
+            throw new InvalidImportRequestException(
+                    "At most " + properties.getMaxRows() + " reviews can be imported per request");
+        }
+
+        long startedAt = System.nanoTime();
+        List<ReviewImportFailure> failures = new ArrayList<>();
+        List<PendingReview> pending = prepare(items, failures);
+
+        int imported = 0;
+        int chunkSize = Math.max(1, properties.getChunkSize());
+        for (int from = 0; from < pending.size(); from += chunkSize) {
+            imported += persistChunk(pending.subList(from, Math.min(pending.size(), from + chunkSize)), failures);
+        }
+        failures.sort(Comparator.comparingInt(ReviewImportFailure::getIndex));
+
+        double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+        importedRows.increment(imported);
+        failedRows.increment(failures.size());
+        if (imported > 0 && seconds > 0) {
+            rowsPerSecond.record(imported / seconds);
+        }
+        log.info("Imported {} of {} reviews in {} ms, {} failed",
+                imported, items.size(), Math.round(seconds * 1000), failures.size());
+
+        return ReviewImportResponse.builder()
+                .received(items.size())
+                .imported(imported)
+                .failed(failures.size())
+                .failures(failures)
+                .build();
+    }
+
+    private List<PendingReview> prepare(List<ReviewImportItem> items, List<ReviewImportFailure> failures) {
+        Set<Long> courseIds = new LinkedHashSet<>();
+        Set<Long> studentIds = new LinkedHashSet<>();
+        for (ReviewImportItem item : items) {
+            if (item != null && item.getCourseId() != null && item.getStudentId() != null) {
+                courseIds.add(item.getCourseId());
+                studentIds.add(item.getStudentId());
+            }
+        }
+
+        Map<Long, CourseDetailDTO> courses = new ConcurrentHashMap<>();
+        Map<Long, StudentDTO> students = new ConcurrentHashMap<>();
+        LookupContext lookups = new LookupContext();
+        List<Runnable> tasks = new ArrayList<>();
+        for (List<Long> batch : partition(new ArrayList<>(courseIds))) {
+            tasks.add(() -> courses.putAll(lookups.courses().getAll(batch, courseClient::getCoursesByIds)));
+        }
+        for (List<Long> batch : partition(new ArrayList<>(studentIds))) {
+            tasks.add(() -> students.putAll(lookups.students().getAll(batch, studentClient::getStudentsByIds)));
+        }
+        enrichmentExecutor.runAll(tasks, properties.getValidationTimeout());
+
+        List<PendingReview> pending = new ArrayList<>(items.size());
+        Set<String> seenPairs = new HashSet<>();
+        for (int index = 0; index < items.size(); index++) {
+            ReviewImportItem item = items.get(index);
+            if (item == null || item.getCourseId() == null || item.getStudentId() == null) {
+                failures.add(failure(index, item, "courseId and studentId are required"));
+            } else if (!courses.containsKey(item.getCourseId())) {
+                failures.add(failure(index, item, "Course not found"));
+            } else if (!students.containsKey(item.getStudentId())) {
+                failures.add(failure(index, item, "Student not found"));
+            } else if (!seenPairs.add(item.getCourseId() + ":" + item.getStudentId())) {
+                failures.add(failure(index, item, "Duplicate review in request"));
+            } else {
+                try {
+                    Review review = createReview(item);
+                    snapshotNames(review, courses.get(item.getCourseId()), students.get(item.getStudentId()));
+                    pending.add(new PendingReview(index, item, review));
+                } catch (IllegalArgumentException e) {
+                    failures.add(failure(index, item, e.getMessage()));
+                }
+            }
+        }
+        return pending;
+    }
+
+    private Review createReview(ReviewImportItem item) {
+        Review review;
+        if (item.getReviewText() == null || item.getReviewText().trim().isEmpty()) {
+            review = reviewFactory.createRatingOnlyReview(item.getCourseId(), item.getStudentId(), item.getRating());
+        } else {
+            review = reviewFactory.createBasicReview(
+                    item.getCourseId(), item.getStudentId(), item.getReviewText(), item.getRating());
+        }
+
+        if (item.getCreatedAt() != null) {
+            review.setCreatedAt(item.getCreatedAt());
+            review.setUpdatedAt(item.getCreatedAt());
+        }
+        return review;
+    }
+
+    private void snapshotNames(Review review, CourseDetailDTO course, StudentDTO student) {
+        LocalDateTime snapshotAt = LocalDateTime.now();
+        if (course.getTitle() != null && !course.getTitle().trim().isEmpty()) {
+            review.setCourseTitle(course.getTitle());
+            review.setCourseSnapshotAt(snapshotAt);
+        }
+        if (student.getName() != null && !student.getName().trim().isEmpty()) {
+            review.setStudentName(student.getName());
+            review.setStudentSnapshotAt(snapshotAt);
+        }
+    }
+
+    private int persistChunk(List<PendingReview> chunk, List<ReviewImportFailure> failures) {
+        Timer.Sample sample = Timer.start();
+        try {
+            transactionTemplate.executeWithoutResult(status -> persist(chunk));
+            return chunk.size();
+        } catch (RuntimeException e) {
+            log.warn("Import chunk of {} reviews failed, retrying row by row: {}", chunk.size(), e.getMessage());
+
+            int imported = 0;
+            for (PendingReview pendingReview : chunk) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> persist(List.of(pendingReview)));
+                    imported++;
+                } catch (RuntimeException rowFailure) {
+                    failures.add(failure(pendingReview.index(), pendingReview.item(), describe(rowFailure)));
+                }
+            }
+            return imported;
+        } finally {
+            sample.stop(chunkTimer);
+        }
+    }
+
+    private void persist(List<PendingReview> chunk) {
+        Map<Long, List<Integer>> ratingsByCourse = new HashMap<>();
+        for (PendingReview pendingReview : chunk) {
+            Review review = pendingReview.review();
+            entityManager.persist(review);
+            ratingsByCourse.computeIfAbsent(review.getCourseId(), courseId -> new ArrayList<>()).add(review.getRating());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        ratingsByCourse.forEach((courseId, ratings) -> courseRatingStatsService.recordCreated(courseId, ratings));
+    }
+
+    private String describe(RuntimeException e) {
+        return DuplicateReviews.isDuplicateReview(e) ? DUPLICATE_REVIEW : "Could not be saved";
+    }
+
+    private List<List<Long>> partition(List<Long> ids) {
+        int batchSize = Math.max(1, enrichmentExecutor.getBatchSize());
+        List<List<Long>> batches = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            batches.add(ids.subList(from, Math.min(ids.size(), from + batchSize)));
+        }
+        return batches;
+    }
+
+    private ReviewImportFailure failure(int index, ReviewImportItem item, String reason) {
+        return ReviewImportFailure.builder()
+                .index(index)
+                .courseId(item == null ? null : item.getCourseId())
+                .studentId(item == null ? null : item.getStudentId())
+                .reason(reason)
+                .build();
+    }
+
+    private record PendingReview(int index, ReviewImportItem item, Review review) {
+    }
+}
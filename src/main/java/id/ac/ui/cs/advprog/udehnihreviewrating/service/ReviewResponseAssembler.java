@@ -0,0 +1,72 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.service;
+
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.course.CourseDetailDTO;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.response.ReviewResponse;
+import id.ac.ui.cs.advprog.udehnihreviewrating.repository.ReviewView;
+
+/**
+ * Turns a review row and its resolved course and student names into a
+ * {@link ReviewResponse}. Shared by the blocking and the reactive read paths, so both
+ * render snapshots and degraded reads the same way.
+ */
+class ReviewResponseAssembler {
+
+    private final LastKnownLookups lastKnownLookups;
+
+    ReviewResponseAssembler(LastKnownLookups lastKnownLookups) {
+        this.lastKnownLookups = lastKnownLookups;
+    }
+
+    boolean hasNameSnapshot(ReviewView review) {
+        return !isEmptyString(review.getCourseTitle())
+                && review.getStudentId() != null
+                && !isEmptyString(review.getStudentName());
+    }
+
+    ReviewResponse fromSnapshot(ReviewView review) {
+        CourseDetailDTO course = CourseDetailDTO.builder()
+                .id(review.getCourseId())
+                .title(review.getCourseTitle())
+                .build();
+        return build(review, course, review.getStudentName());
+    }
+
+    /**
+     * Lookups that did not finish within the enrichment budget, or whose service is
+     * unavailable, are filled in from {@link LastKnownLookups} and the response is marked
+     * as degraded.
+     */
+    ReviewResponse build(ReviewView review, CourseDetailDTO courseDetail, String studentName) {
+        boolean degraded = false;
+        if (courseDetail == null) {
+            courseDetail = lastKnownLookups.course(review.getCourseId());
+            degraded = true;
+        }
+        if (studentName == null) {
+            studentName = lastKnownLookups.studentName(review.getStudentId());
+            degraded = true;
+        }
+
+        String courseName = courseDetail.getTitle();
+        if (isEmptyString(courseName)) {
+            courseName = "Course " + courseDetail.getId();
+        }
+
+        return ReviewResponse.builder()
+                .id(review.getId())
+                .courseId(review.getCourseId().toString())
+                .courseName(courseName)
+                .studentId(review.getStudentId())
+                .studentName(studentName)
+                .reviewText(review.getReviewText())
+                .rating(review.getRating())
+                .createdAt(review.getCreatedAt())
+                .updatedAt(review.getUpdatedAt())
+                .degraded(degraded)
+                .build();
+    }
+
+    static boolean isEmptyString(String str) {
+        return str == null || str.trim().isEmpty();
+    }
+}
@@ -2,17 +2,27 @@ package id.ac.ui.cs.advprog.udehnihreviewrating.service;
 
 import id.ac.ui.cs.advprog.udehnihreviewrating.dto.request.CreateReviewRequest;
 import id.ac.ui.cs.advprog.udehnihreviewrating.dto.request.UpdateReviewRequest;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.response.CourseRatingSummaryResponse;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.response.ReviewPageResponse;
 import id.ac.ui.cs.advprog.udehnihreviewrating.dto.response.ReviewResponse;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.response.TopRatedCourseResponse;
+import id.ac.ui.cs.advprog.udehnihreviewrating.model.ReviewSort;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface ReviewService {
     ReviewResponse createReview(Long studentId, CreateReviewRequest request);
     ReviewResponse getReviewById(UUID reviewId);
     List<ReviewResponse> getReviewsByCourse(Long courseId);
+    void streamReviewsByCourse(Long courseId, Consumer<List<ReviewResponse>> chunkConsumer);
     List<ReviewResponse> getReviewsByStudent(Long studentId);
+    ReviewPageResponse getReviewPageByCourse(Long courseId, ReviewSort sort, String cursor, Integer size);
+    ReviewPageResponse getReviewPageByStudent(Long studentId, ReviewSort sort, String cursor, Integer size);
     ReviewResponse updateReview(UUID reviewId, Long studentId, UpdateReviewRequest request);
     boolean deleteReview(UUID reviewId, Long studentId);
     double getAverageRatingForCourse(Long courseId);
+    List<CourseRatingSummaryResponse> getRatingSummariesForCourses(List<Long> courseIds);
+    List<TopRatedCourseResponse> getTopRatedCourses(Integer size);
 }
\ No newline at end of file
@@ -2,108 +2,250 @@ package id.ac.ui.cs.advprog.udehnihreviewrating.service;
 
 import id.ac.ui.cs.advprog.udehnihreviewrating.client.CourseClient;
 import id.ac.ui.cs.advprog.udehnihreviewrating.client.StudentClient;
+import id.ac.ui.cs.advprog.udehnihreviewrating.config.ReviewPageProperties;
+import id.ac.ui.cs.advprog.udehnihreviewrating.config.ReviewStreamProperties;
 import id.ac.ui.cs.advprog.udehnihreviewrating.dto.course.CourseDetailDTO;
 import id.ac.ui.cs.advprog.udehnihreviewrating.dto.request.CreateReviewRequest;
 import id.ac.ui.cs.advprog.udehnihreviewrating.dto.request.UpdateReviewRequest;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.response.CourseRatingSummaryResponse;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.response.ReviewPageResponse;
 import id.ac.ui.cs.advprog.udehnihreviewrating.dto.response.ReviewResponse;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.response.TopRatedCourseResponse;
 import id.ac.ui.cs.advprog.udehnihreviewrating.dto.student.StudentDTO;
 import id.ac.ui.cs.advprog.udehnihreviewrating.factory.ReviewFactory;
 import id.ac.ui.cs.advprog.udehnihreviewrating.model.Review;
+import id.ac.ui.cs.advprog.udehnihreviewrating.model.ReviewSort;
+import id.ac.ui.cs.advprog.udehnihreviewrating.repository.ReviewKeyset;
 import id.ac.ui.cs.advprog.udehnihreviewrating.repository.ReviewRepository;
+import id.ac.ui.cs.advprog.udehnihreviewrating.repository.ReviewView;
+import io.micrometer.core.annotation.Timed;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import id.ac.ui.cs.advprog.udehnihreviewrating.exception.CourseNotFoundException;
+import id.ac.ui.cs.advprog.udehnihreviewrating.exception.DownstreamUnavailableException;
+import id.ac.ui.cs.advprog.udehnihreviewrating.exception.InvalidPageRequestException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
-
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Every public method is timed as {@code review.service}, tagged with the method name and
+ * the exception it threw, if any.
+ */
 @Service
 @Slf4j
+@Timed("review.service")
 public class ReviewServiceImpl implements ReviewService {
 
     private final ReviewRepository reviewRepository;
     private final ReviewFactory reviewFactory;
     private final CourseClient courseClient;
     private final StudentClient studentClient;
+    private final EnrichmentExecutor enrichmentExecutor;
+    private final LookupContextProvider lookupContextProvider;
+    private final CourseRatingStatsService courseRatingStatsService;
+    private final TransactionTemplate transactionTemplate;
+    private final ReviewPageProperties reviewPageProperties;
+    private final ReviewStreamProperties reviewStreamProperties;
+    private final LastKnownLookups lastKnownLookups;
+    private final ReviewResponseAssembler responseAssembler;
 
     @Autowired
     public ReviewServiceImpl(ReviewRepository reviewRepository, ReviewFactory reviewFactory,
-                             CourseClient courseClient, StudentClient studentClient) {
+                             CourseClient courseClient, StudentClient studentClient,
+                             EnrichmentExecutor enrichmentExecutor, LookupContextProvider lookupContextProvider,
+                             CourseRatingStatsService courseRatingStatsService,
+                             TransactionTemplate transactionTemplate, ReviewPageProperties reviewPageProperties,
+                             ReviewStreamProperties reviewStreamProperties, LastKnownLookups lastKnownLookups) {
         this.reviewRepository = reviewRepository;
         this.reviewFactory = reviewFactory;
         this.courseClient = courseClient;
         this.studentClient = studentClient;
+        this.enrichmentExecutor = enrichmentExecutor;
+        this.lookupContextProvider = lookupContextProvider;
+        this.courseRatingStatsService = courseRatingStatsService;
+        this.transactionTemplate = transactionTemplate;
+        this.reviewPageProperties = reviewPageProperties;
+        this.reviewStreamProperties = reviewStreamProperties;
+        this.lastKnownLookups = lastKnownLookups;
+        this.responseAssembler = new ReviewResponseAssembler(lastKnownLookups);
     }
 
     @Override
     public ReviewResponse createReview(Long studentId, CreateReviewRequest request) {
-        validateStudentExists(studentId);
-        validateCourseExists(request.getCourseId());
+        LookupContext lookups = lookupContextProvider.current();
+        validateStudentExists(lookups, studentId);
+        validateCourseExists(lookups, request.getCourseId());
 
         Review review = createReviewBasedOnType(studentId, request);
-        Review savedReview = reviewRepository.save(review);
-
-        return convertToResponse(savedReview);
+        snapshotNames(lookups, review);
+        Review savedReview = transactionTemplate.execute(status -> {
+            Review saved = reviewRepository.save(review);
+            courseRatingStatsService.recordCreated(saved.getCourseId(), saved.getRating());
+            return saved;
+        });
+
+        return convertToResponse(lookups, ReviewView.of(savedReview));
     }
 
     @Override
     public ReviewResponse getReviewById(UUID reviewId) {
         Review review = findReviewById(reviewId);
-        return convertToResponse(review);
+        return convertToResponse(lookupContextProvider.current(), ReviewView.of(review));
     }
 
     @Override
     public List<ReviewResponse> getReviewsByCourse(Long courseId) {
-        List<Review> reviews = reviewRepository.findByCourseId(courseId);
-        return reviews.stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        List<ReviewView> reviews = reviewRepository.findViewsByCourseId(courseId);
+        return convertToResponses(lookupContextProvider.current(), reviews);
     }
 
+    /**
+     * Hands the course's reviews to {@code chunkConsumer} one enriched chunk at a time.
+     * Only the current chunk is held in memory, and each chunk gets a fresh lookup
+     * context, so heap usage does not grow with the size of the course.
+     */
     @Override
-    public List<ReviewResponse> getReviewsByStudent(Long studentId) {
-        List<Review> reviews = reviewRepository.findByStudentId(studentId);
-        return reviews.stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public void streamReviewsByCourse(Long courseId, Consumer<List<ReviewResponse>> chunkConsumer) {
+        int chunkSize = Math.max(1, enrichmentExecutor.getBatchSize());
+
+        try (Stream<ReviewView> reviews = reviewRepository.streamByCourseId(courseId, reviewStreamProperties.getFetchSize())) {
+            List<ReviewView> chunk = new ArrayList<>(chunkSize);
+            Iterator<ReviewView> iterator = reviews.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == chunkSize) {
+                    chunkConsumer.accept(convertToResponses(new LookupContext(), chunk));
+                    chunk.clear();
+                }
+            }
+
+            if (!chunk.isEmpty()) {
+                chunkConsumer.accept(convertToResponses(new LookupContext(), chunk));
+            }
+        }
     }
 
     @Override
-    public ReviewResponse updateReview(UUID reviewId, Long studentId, UpdateReviewRequest request) {
-        Review review = findReviewById(reviewId);
-        validateReviewOwnership(review, studentId);
-        validateCourseExists(review.getCourseId());
+    public List<ReviewResponse> getReviewsByStudent(Long studentId) {
+        List<ReviewView> reviews = reviewRepository.findViewsByStudentId(studentId);
+        return convertToResponses(lookupContextProvider.current(), reviews);
+    }
 
-        updateReviewFields(review, request);
-        Review updatedReview = reviewRepository.save(review);
+    @Override
+    public ReviewPageResponse getReviewPageByCourse(Long courseId, ReviewSort sort, String cursor, Integer size) {
+        return getReviewPage(sort, cursor, size,
+                (after, limit) -> reviewRepository.findPageByCourseId(courseId, sort, after, limit));
+    }
 
-        return convertToResponse(updatedReview);
+    @Override
+    public ReviewPageResponse getReviewPageByStudent(Long studentId, ReviewSort sort, String cursor, Integer size) {
+        return getReviewPage(sort, cursor, size,
+                (after, limit) -> reviewRepository.findPageByStudentId(studentId, sort, after, limit));
     }
 
+    /**
+     * The course is validated before the transaction so no row lock is held during the
+     * remote call. The review is then re-read under a row lock, so the rating delta is
+     * taken against the rating being replaced even when updates race.
+     */
     @Override
-    public boolean deleteReview(UUID reviewId, Long studentId) {
+    public ReviewResponse updateReview(UUID reviewId, Long studentId, UpdateReviewRequest request) {
+        LookupContext lookups = lookupContextProvider.current();
         Review review = findReviewById(reviewId);
         validateReviewOwnership(review, studentId);
+        validateCourseExists(lookups, review.getCourseId());
+
+        Review updatedReview = transactionTemplate.execute(status -> {
+            Review locked = findReviewForUpdate(reviewId);
+            validateReviewOwnership(locked, studentId);
+            int previousRating = locked.getRating();
+            updateReviewFields(locked, request);
+            Review saved = reviewRepository.save(locked);
+            courseRatingStatsService.recordUpdated(saved.getCourseId(), previousRating, saved.getRating());
+            return saved;
+        });
+
+        return convertToResponse(lookups, ReviewView.of(updatedReview));
+    }
 
-        reviewRepository.deleteById(reviewId);
+    @Override
+    public boolean deleteReview(UUID reviewId, Long studentId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Review review = findReviewForUpdate(reviewId);
+            validateReviewOwnership(review, studentId);
+            if (reviewRepository.deleteReviewById(reviewId) == 1) {
+                courseRatingStatsService.recordDeleted(review.getCourseId(), review.getRating());
+            }
+        });
         return true;
     }
 
     @Override
     public double getAverageRatingForCourse(Long courseId) {
-        List<Review> courseReviews = reviewRepository.findByCourseId(courseId);
+        return courseRatingStatsService.getAverageRating(courseId);
+    }
 
-        if (courseReviews.isEmpty()) {
-            return 0.0;
+    @Override
+    public List<CourseRatingSummaryResponse> getRatingSummariesForCourses(List<Long> courseIds) {
+        return courseRatingStatsService.getRatingSummaries(courseIds);
+    }
+
+    @Override
+    public List<TopRatedCourseResponse> getTopRatedCourses(Integer size) {
+        return courseRatingStatsService.getTopRatedCourses(size);
+    }
+
+    private ReviewPageResponse getReviewPage(ReviewSort sort, String cursor, Integer size,
+                                             BiFunction<ReviewKeyset, Integer, List<ReviewView>> pageLoader) {
+        int pageSize = resolvePageSize(size);
+        ReviewKeyset after = ReviewCursors.decode(cursor, sort);
+
+        // One extra row tells us whether another page exists without a count query.
+        List<ReviewView> reviews = pageLoader.apply(after, pageSize + 1);
+        boolean hasNext = reviews.size() > pageSize;
+        if (hasNext) {
+            reviews = reviews.subList(0, pageSize);
         }
 
-        return courseReviews.stream()
-                .mapToInt(Review::getRating)
-                .average()
-                .orElse(0.0);
+        String nextCursor = null;
+        if (hasNext) {
+            nextCursor = ReviewCursors.encode(sort, ReviewKeyset.of(reviews.get(reviews.size() - 1)));
+        }
+
+        return ReviewPageResponse.builder()
+                .reviews(convertToResponses(lookupContextProvider.current(), reviews))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .size(reviews.size())
+                .build();
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return reviewPageProperties.getDefaultSize();
+        }
+        if (size < 1) {
+            throw new InvalidPageRequestException("Page size must be at least 1");
+        }
+        return Math.min(size, reviewPageProperties.getMaxSize());
     }
 
     private Review createReviewBasedOnType(Long studentId, CreateReviewRequest request) {
@@ -132,6 +274,11 @@ public class ReviewServiceImpl implements ReviewService {
                 .orElseThrow(() -> new RuntimeException("Review not found"));
     }
 
+    private Review findReviewForUpdate(UUID reviewId) {
+        return reviewRepository.findForUpdateById(reviewId)
+                .orElseThrow(() -> new RuntimeException("Review not found"));
+    }
+
     private void validateReviewOwnership(Review review, Long studentId) {
         if (!review.getStudentId().equals(studentId)) {
             throw new RuntimeException("Unauthorized to modify this review");
@@ -144,25 +291,27 @@ public class ReviewServiceImpl implements ReviewService {
         review.setUpdatedAt(LocalDateTime.now());
     }
 
-    private void validateStudentExists(Long studentId) {
+    private void validateStudentExists(LookupContext lookups, Long studentId) {
         try {
-            StudentDTO student = studentClient.getStudentById(studentId);
+            StudentDTO student = lookups.students().get(studentId, studentClient::getStudentById);
             if (student == null) {
                 throw new RuntimeException("Student not found or unauthorized");
             }
+        } catch (DownstreamUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error validating student {}: {}", studentId, e.getMessage());
             throw new RuntimeException("Student validation failed - unauthorized or not found");
         }
     }
 
-    private void validateCourseExists(Long courseId) {
+    private void validateCourseExists(LookupContext lookups, Long courseId) {
         try {
-            CourseDetailDTO course = courseClient.getCourseById(courseId);
+            CourseDetailDTO course = lookups.courses().get(courseId, courseClient::getCourseById);
             if (course == null) {
                 throw new CourseNotFoundException(courseId);
             }
-        } catch (CourseNotFoundException e) {
+        } catch (CourseNotFoundException | DownstreamUnavailableException e) {
             throw e;
         } catch (Exception e) {
             log.error("Error validating course {}: {}", courseId, e.getMessage());
@@ -170,11 +319,15 @@ public class ReviewServiceImpl implements ReviewService {
         }
     }
 
-    private CourseDetailDTO getCourseDetails(Long courseId) {
+    private CourseDetailDTO getCourseDetails(LookupContext lookups, Long courseId) {
         try {
-            CourseDetailDTO courseDetail = courseClient.getCourseById(courseId);
+            CourseDetailDTO courseDetail = lookups.courses().get(courseId, courseClient::getCourseById);
             validateCourseDetail(courseDetail, courseId);
+            lastKnownLookups.rememberCourse(courseDetail);
             return courseDetail;
+        } catch (DownstreamUnavailableException e) {
+            log.warn("Course service unavailable, serving last known details for courseId {}: {}", courseId, e.getMessage());
+            return null;
         } catch (Exception e) {
             log.error("Error fetching course details: {}", e.getMessage());
             throw new RuntimeException("Failed to retrieve course details: " + e.getMessage(), e);
@@ -191,43 +344,173 @@ public class ReviewServiceImpl implements ReviewService {
         }
     }
 
-    private String getStudentDisplayName(Long studentId) {
+    private String getStudentDisplayName(LookupContext lookups, Long studentId) {
         try {
-            StudentDTO student = studentClient.getStudentById(studentId);
+            StudentDTO student = lookups.students().get(studentId, studentClient::getStudentById);
             if (student != null && !isEmptyString(student.getName())) {
+                lastKnownLookups.rememberStudentName(studentId, student.getName());
                 return student.getName();
             }
 
             throw new RuntimeException("Student data incomplete - name is missing for studentId: " + studentId);
+        } catch (DownstreamUnavailableException e) {
+            log.warn("Auth service unavailable, serving last known name for studentId {}: {}", studentId, e.getMessage());
+            return null;
         } catch (Exception e) {
             log.error("Error fetching student details for studentId {}: {}", studentId, e.getMessage());
             throw new RuntimeException("Failed to retrieve student information for studentId: " + studentId, e);
         }
     }
 
+    private Map<Long, CourseDetailDTO> getCourseDetailsByIds(LookupContext lookups, List<Long> courseIds) {
+        try {
+            Map<Long, CourseDetailDTO> courses = lookups.courses().getAll(courseIds, courseClient::getCoursesByIds);
+
+            for (Long courseId : courseIds) {
+                validateCourseDetail(courses.get(courseId), courseId);
+            }
+            courses.values().forEach(lastKnownLookups::rememberCourse);
+            return courses;
+        } catch (DownstreamUnavailableException e) {
+            log.warn("Course service unavailable, serving last known details for courseIds {}: {}", courseIds, e.getMessage());
+            return new HashMap<>();
+        } catch (Exception e) {
+            log.error("Error fetching course details for courseIds {}: {}", courseIds, e.getMessage());
+            throw new RuntimeException("Failed to retrieve course details: " + e.getMessage(), e);
+        }
+    }
+
+    private Map<Long, String> getStudentDisplayNamesByIds(LookupContext lookups, List<Long> studentIds) {
+        if (studentIds.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        try {
+            Map<Long, String> studentNames = new HashMap<>();
+            for (StudentDTO student : lookups.students().getAll(studentIds, studentClient::getStudentsByIds).values()) {
+                if (!isEmptyString(student.getName())) {
+                    studentNames.put(student.getStudentId(), student.getName());
+                }
+            }
+
+            for (Long studentId : studentIds) {
+                if (!studentNames.containsKey(studentId)) {
+                    throw new RuntimeException("Student data incomplete - name is missing for studentId: " + studentId);
+                }
+            }
+            studentNames.forEach(lastKnownLookups::rememberStudentName);
+            return studentNames;
+        } catch (DownstreamUnavailableException e) {
+            log.warn("Auth service unavailable, serving last known names for studentIds {}: {}", studentIds, e.getMessage());
+            return new HashMap<>();
+        } catch (Exception e) {
+            log.error("Error fetching student details for studentIds {}: {}", studentIds, e.getMessage());
+            throw new RuntimeException("Failed to retrieve student information: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Copies the course title and student name, already resolved while validating the
+     * request, onto the review so later reads need no remote lookups.
+     */
+    private void snapshotNames(LookupContext lookups, Review review) {
+        LocalDateTime snapshotAt = LocalDateTime.now();
+
+        CourseDetailDTO course = lookups.courses().get(review.getCourseId(), courseClient::getCourseById);
+        if (course != null && !isEmptyString(course.getTitle())) {
+            review.setCourseTitle(course.getTitle());
+            review.setCourseSnapshotAt(snapshotAt);
+        }
+
+        if (review.getStudentId() != null) {
+            StudentDTO student = lookups.students().get(review.getStudentId(), studentClient::getStudentById);
+            if (student != null && !isEmptyString(student.getName())) {
+                review.setStudentName(student.getName());
+                review.setStudentSnapshotAt(snapshotAt);
+            }
+        }
+    }
+
     private boolean isEmptyString(String str) {
         return str == null || str.trim().isEmpty();
     }
 
-    private ReviewResponse convertToResponse(Review review) {
-        CourseDetailDTO courseDetail = getCourseDetails(review.getCourseId());
-        String studentName = getStudentDisplayName(review.getStudentId());
+    private ReviewResponse convertToResponse(LookupContext lookups, ReviewView review) {
+        if (responseAssembler.hasNameSnapshot(review)) {
+            return responseAssembler.fromSnapshot(review);
+        }
+
+        AtomicReference<CourseDetailDTO> courseDetail = new AtomicReference<>();
+        AtomicReference<String> studentName = new AtomicReference<>();
+
+        enrichmentExecutor.runAllWithinBudget(List.of(
+                () -> courseDetail.set(getCourseDetails(lookups, review.getCourseId())),
+                () -> studentName.set(getStudentDisplayName(lookups, review.getStudentId()))
+        ));
+
+        return responseAssembler.build(review, courseDetail.get(), studentName.get());
+    }
+
+    private List<ReviewResponse> convertToResponses(LookupContext lookups, List<ReviewView> reviews) {
+        if (reviews.isEmpty()) {
+            return new ArrayList<>();
+        }
 
-        String courseName = courseDetail.getTitle();
-        if (isEmptyString(courseName)) {
-            courseName = "Course " + courseDetail.getId();
+        // Only reviews without a name snapshot need remote lookups.
+        List<ReviewView> unresolved = new ArrayList<>();
+        for (ReviewView review : reviews) {
+            if (!responseAssembler.hasNameSnapshot(review)) {
+                unresolved.add(review);
+            }
         }
 
-        return ReviewResponse.builder()
-                .id(review.getId())
-                .courseId(review.getCourseId().toString())
-                .courseName(courseName)
-                .studentId(review.getStudentId())
-                .studentName(studentName)
-                .reviewText(review.getReviewText())
-                .rating(review.getRating())
-                .createdAt(review.getCreatedAt())
-                .updatedAt(review.getUpdatedAt())
-                .build();
+        List<Long> courseIds = distinctIds(unresolved, ReviewView::getCourseId);
+        List<Long> studentIds = distinctIds(unresolved, ReviewView::getStudentId);
+
+        Map<Long, CourseDetailDTO> courses = new ConcurrentHashMap<>();
+        Map<Long, String> studentNames = new ConcurrentHashMap<>();
+
+        List<Runnable> tasks = new ArrayList<>();
+        for (List<Long> batch : partition(courseIds)) {
+            tasks.add(() -> courses.putAll(getCourseDetailsByIds(lookups, batch)));
+        }
+        for (List<Long> batch : partition(studentIds)) {
+            tasks.add(() -> studentNames.putAll(getStudentDisplayNamesByIds(lookups, batch)));
+        }
+        enrichmentExecutor.runAllWithinBudget(tasks);
+
+        List<ReviewResponse> responses = new ArrayList<>(reviews.size());
+        for (ReviewView review : reviews) {
+            if (responseAssembler.hasNameSnapshot(review)) {
+                responses.add(responseAssembler.fromSnapshot(review));
+                continue;
+            }
+            if (review.getStudentId() == null) {
+                throw new RuntimeException("Failed to retrieve student information for studentId: null");
+            }
+            responses.add(responseAssembler.build(review, courses.get(review.getCourseId()),
+                    studentNames.get(review.getStudentId())));
+        }
+        return responses;
+    }
+
+    private List<Long> distinctIds(List<ReviewView> reviews, Function<ReviewView, Long> idExtractor) {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (ReviewView review : reviews) {
+            Long id = idExtractor.apply(review);
+            if (id != null) {
+                ids.add(id);
+            }
+        }
+        return new ArrayList<>(ids);
+    }
+
+    private List<List<Long>> partition(List<Long> ids) {
+        int batchSize = Math.max(1, enrichmentExecutor.getBatchSize());
+        List<List<Long>> batches = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            batches.add(ids.subList(from, Math.min(ids.size(), from + batchSize)));
+        }
+        return batches;
     }
-}
\ No newline at end of file
+}
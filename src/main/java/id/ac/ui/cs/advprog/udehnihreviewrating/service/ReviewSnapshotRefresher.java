@@ -0,0 +1,210 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.service;
+
+import feign.FeignException;
+import id.ac.ui.cs.advprog.udehnihreviewrating.client.CourseClient;
+import id.ac.ui.cs.advprog.udehnihreviewrating.client.StudentClient;
+import id.ac.ui.cs.advprog.udehnihreviewrating.config.ReviewSnapshotProperties;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.course.CourseDetailDTO;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.student.StudentDTO;
+import id.ac.ui.cs.advprog.udehnihreviewrating.exception.DownstreamUnavailableException;
+import id.ac.ui.cs.advprog.udehnihreviewrating.repository.ReviewRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Backfills and refreshes the course title and student name snapshots stored on each
+ * review. Every run resolves the courses and students whose snapshot is missing or older
+ * than {@code review-snapshot.max-age} in batches and rewrites all of their reviews with
+ * one update per id. Ids the services no longer know keep their previous snapshot.
+ * <p>
+ * The job has no caller whose token it could forward, so student lookups present
+ * {@code review-snapshot.service-token} and are skipped when none is configured. A
+ * failed lookup stops only its own kind of snapshot for the run; the next run retries.
+ * <p>
+ * After each run the age of the oldest snapshot and the number of reviews without one are
+ * published as {@code review.snapshot.staleness} and {@code review.snapshot.missing}.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(prefix = "review-snapshot", name = "refresh-enabled", havingValue = "true", matchIfMissing = true)
+public class ReviewSnapshotRefresher {
+
+    private static final String COURSE = "course";
+    private static final String STUDENT = "student";
+
+    private final ReviewRepository reviewRepository;
+    private final CourseClient courseClient;
+    private final StudentClient studentClient;
+    private final TransactionTemplate transactionTemplate;
+    private final ReviewSnapshotProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, AtomicLong> stalenessSeconds = new HashMap<>();
+    private final Map<String, AtomicLong> missingSnapshots = new HashMap<>();
+
+    public ReviewSnapshotRefresher(ReviewRepository reviewRepository, CourseClient courseClient,
+                                   StudentClient studentClient, TransactionTemplate transactionTemplate,
+                                   ReviewSnapshotProperties properties, MeterRegistry meterRegistry) {
+        this.reviewRepository = reviewRepository;
+        this.courseClient = courseClient;
+        this.studentClient = studentClient;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+
+        for (String snapshot : List.of(COURSE, STUDENT)) {
+            AtomicLong staleness = new AtomicLong();
+            AtomicLong missing = new AtomicLong();
+            stalenessSeconds.put(snapshot, staleness);
+            missingSnapshots.put(snapshot, missing);
+            Gauge.builder("review.snapshot.staleness", staleness, AtomicLong::get)
+                    .description("Age of the oldest name snapshot on any review")
+                    .baseUnit("seconds")
+                    .tag("snapshot", snapshot)
+                    .register(meterRegistry);
+            Gauge.builder("review.snapshot.missing", missing, AtomicLong::get)
+                    .description("Reviews that have no name snapshot yet")
+                    .tag("snapshot", snapshot)
+                    .register(meterRegistry);
+        }
+
+        if (isEmptyString(properties.getServiceToken())) {
+            log.warn("review-snapshot.service-token is not set, student name snapshots will not be refreshed");
+        }
+    }
+
+    @Scheduled(initialDelayString = "${review-snapshot.initial-delay:PT30S}",
+            fixedDelayString = "${review-snapshot.refresh-interval:PT5M}")
+    public void refreshStaleSnapshots() {
+        LocalDateTime staleBefore = LocalDateTime.now().minus(properties.getMaxAge());
+        try {
+            int courses = refresh(COURSE, () -> reviewRepository.findCourseIdsWithStaleSnapshot(
+                    staleBefore, PageRequest.of(0, batchSize())), this::refreshCourses);
+            int students = 0;
+            if (!isEmptyString(properties.getServiceToken())) {
+                students = refresh(STUDENT, () -> reviewRepository.findStudentIdsWithStaleSnapshot(
+                        staleBefore, PageRequest.of(0, batchSize())), this::refreshStudents);
+            }
+            if (courses > 0 || students > 0) {
+                log.info("Refreshed review snapshots of {} courses and {} students", courses, students);
+            }
+        } finally {
+            updateStalenessMetrics();
+        }
+    }
+
+    /**
+     * Refreshes batches of stale ids until none are left. Every id handed to
+     * {@code refresher} gets a new snapshot timestamp, so each batch makes progress. A
+     * batch whose lookup fails would be selected again, so the first failure ends the
+     * refresh of this kind of snapshot until the next run.
+     */
+    private int refresh(String snapshot, Supplier<List<Long>> staleIds, Consumer<List<Long>> refresher) {
+        int refreshed = 0;
+        List<Long> ids = staleIds.get();
+        while (!ids.isEmpty()) {
+            try {
+                refresher.accept(ids);
+            } catch (DownstreamUnavailableException | FeignException e) {
+                log.warn("Refresh of {} snapshots stopped early, will retry on the next run: {}",
+                        snapshot, e.getMessage());
+                break;
+            }
+            refreshed += ids.size();
+            Counter.builder("review.snapshot.refreshed")
+                    .description("Courses and students whose review snapshots were refreshed")
+                    .tag("snapshot", snapshot)
+                    .register(meterRegistry)
+                    .increment(ids.size());
+            ids = ids.size() < batchSize() ? List.of() : staleIds.get();
+        }
+        return refreshed;
+    }
+
+    private void refreshCourses(List<Long> courseIds) {
+        Map<Long, String> titles = new HashMap<>();
+        for (CourseDetailDTO course : courseClient.getCoursesByIds(courseIds)) {
+            if (course != null && course.getId() != null && !isEmptyString(course.getTitle())) {
+                titles.put(course.getId(), course.getTitle());
+            }
+        }
+
+        LocalDateTime snapshotAt = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (Long courseId : courseIds) {
+                reviewRepository.updateCourseSnapshot(courseId, titles.get(courseId), snapshotAt);
+            }
+        });
+    }
+
+    private void refreshStudents(List<Long> studentIds) {
+        Map<Long, String> names = new HashMap<>();
+        for (StudentDTO student : withServiceToken(() -> studentClient.getStudentsByIds(studentIds))) {
+            if (student != null && student.getStudentId() != null && !isEmptyString(student.getName())) {
+                names.put(student.getStudentId(), student.getName());
+            }
+        }
+
+        LocalDateTime snapshotAt = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (Long studentId : studentIds) {
+                reviewRepository.updateStudentSnapshot(studentId, names.get(studentId), snapshotAt);
+            }
+        });
+    }
+
+    /**
+     * Runs {@code lookup} with the service token as the credentials that
+     * {@code FeignRequestInterceptor} forwards.
+     */
+    private <T> T withServiceToken(Supplier<T> lookup) {
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(UsernamePasswordAuthenticationToken.unauthenticated(
+                "review-snapshot-refresher", properties.getServiceToken()));
+        SecurityContextHolder.setContext(context);
+        try {
+            return lookup.get();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private void updateStalenessMetrics() {
+        LocalDateTime now = LocalDateTime.now();
+        stalenessSeconds.get(COURSE).set(ageInSeconds(reviewRepository.findOldestCourseSnapshot(), now));
+        stalenessSeconds.get(STUDENT).set(ageInSeconds(reviewRepository.findOldestStudentSnapshot(), now));
+        missingSnapshots.get(COURSE).set(reviewRepository.countByCourseIdIsNotNullAndCourseSnapshotAtIsNull());
+        missingSnapshots.get(STUDENT).set(reviewRepository.countByStudentIdIsNotNullAndStudentSnapshotAtIsNull());
+    }
+
+    private long ageInSeconds(LocalDateTime snapshotAt, LocalDateTime now) {
+        return snapshotAt == null ? 0 : Math.max(0, Duration.between(snapshotAt, now).toSeconds());
+    }
+
+    private int batchSize() {
+        return Math.max(1, properties.getBatchSize());
+    }
+
+    private boolean isEmptyString(String str) {
+        return str == null || str.trim().isEmpty();
+    }
+}
@@ -0,0 +1,26 @@
+-- Schema as previously created by Hibernate's ddl-auto. IF NOT EXISTS lets this run
+-- unchanged against databases that were created before migrations were introduced.
+
+CREATE TABLE IF NOT EXISTS reviews (
+    id          UUID         NOT NULL,
+    course_id   BIGINT,
+    student_id  BIGINT,
+    review_text VARCHAR(255),
+    rating      INTEGER      NOT NULL,
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6),
+    CONSTRAINT reviews_pkey PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS course_rating_stats (
+    course_id        BIGINT       NOT NULL,
+    review_count     BIGINT       NOT NULL,
+    rating_sum       BIGINT       NOT NULL,
+    one_star_count   BIGINT       NOT NULL,
+    two_star_count   BIGINT       NOT NULL,
+    three_star_count BIGINT       NOT NULL,
+    four_star_count  BIGINT       NOT NULL,
+    five_star_count  BIGINT       NOT NULL,
+    last_updated     TIMESTAMP(6),
+    CONSTRAINT course_rating_stats_pkey PRIMARY KEY (course_id)
+);
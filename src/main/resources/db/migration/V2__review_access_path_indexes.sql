@@ -0,0 +1,43 @@
+-- A student may review a course only once. Earlier versions did not enforce this, so any
+-- duplicate pair is resolved before adding the constraint: the most recently updated
+-- review is kept and the others are moved, not just deleted, into an archive table that
+-- can be reviewed and restored from by hand.
+CREATE TABLE reviews_duplicates_archive (
+    id          UUID         NOT NULL,
+    course_id   BIGINT,
+    student_id  BIGINT,
+    review_text VARCHAR(255),
+    rating      INTEGER      NOT NULL,
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6),
+    archived_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT reviews_duplicates_archive_pkey PRIMARY KEY (id)
+);
+
+INSERT INTO reviews_duplicates_archive (id, course_id, student_id, review_text, rating, created_at, updated_at)
+SELECT r.id, r.course_id, r.student_id, r.review_text, r.rating, r.created_at, r.updated_at
+FROM reviews r
+WHERE EXISTS (
+    SELECT 1
+    FROM reviews newer
+    WHERE newer.course_id = r.course_id
+      AND newer.student_id = r.student_id
+      AND (COALESCE(newer.updated_at, newer.created_at) > COALESCE(r.updated_at, r.created_at)
+           OR (COALESCE(newer.updated_at, newer.created_at) = COALESCE(r.updated_at, r.created_at)
+               AND newer.id > r.id))
+);
+
+DELETE FROM reviews WHERE id IN (SELECT id FROM reviews_duplicates_archive);
+
+-- The totals still count the archived duplicates. Clearing the table makes
+-- CourseRatingStatsRebuildRunner, which runs on every startup right after the migrations,
+-- rebuild it from the remaining reviews; without duplicates the totals are left alone.
+DELETE FROM course_rating_stats WHERE EXISTS (SELECT 1 FROM reviews_duplicates_archive);
+
+-- Serves findByCourseIdAndStudentId and rejects duplicate reviews.
+CREATE UNIQUE INDEX ux_reviews_course_student ON reviews (course_id, student_id);
+
+-- Serve the course and student listings, including keyset pages in either direction,
+-- without a sort step.
+CREATE INDEX ix_reviews_course_created ON reviews (course_id, created_at DESC, id DESC);
+CREATE INDEX ix_reviews_student_created ON reviews (student_id, created_at DESC, id DESC);
@@ -0,0 +1,11 @@
+-- Course title and student name as last resolved from the course and auth services.
+-- Existing rows start without a snapshot and are backfilled by ReviewSnapshotRefresher,
+-- which treats a missing snapshot as the stalest possible one.
+ALTER TABLE reviews ADD COLUMN course_title VARCHAR(255);
+ALTER TABLE reviews ADD COLUMN student_name VARCHAR(255);
+ALTER TABLE reviews ADD COLUMN course_snapshot_at TIMESTAMP(6);
+ALTER TABLE reviews ADD COLUMN student_snapshot_at TIMESTAMP(6);
+
+-- Let the refresh job find stale and missing snapshots without scanning the table.
+CREATE INDEX ix_reviews_course_snapshot ON reviews (course_snapshot_at);
+CREATE INDEX ix_reviews_student_snapshot ON reviews (student_snapshot_at);
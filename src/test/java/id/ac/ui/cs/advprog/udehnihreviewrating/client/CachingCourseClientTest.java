@@ -0,0 +1,142 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.client;
+
+import id.ac.ui.cs.advprog.udehnihreviewrating.config.LookupCacheProperties;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.course.CourseDetailDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class CachingCourseClientTest {
+
+    private CourseClient delegate;
+    private MeterRegistry meterRegistry;
+    private CachingCourseClient cachingCourseClient;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(CourseClient.class);
+        meterRegistry = new SimpleMeterRegistry();
+        cachingCourseClient = new CachingCourseClient(delegate, new LookupCacheProperties.Spec(), meterRegistry);
+    }
+
+    @Test
+    void getCourseById_RepeatedLookups_ShouldCallDelegateOnce() {
+        when(delegate.getCourseById(1L)).thenReturn(course(1L, "Advanced Programming"));
+
+        CourseDetailDTO first = cachingCourseClient.getCourseById(1L);
+        CourseDetailDTO second = cachingCourseClient.getCourseById(1L);
+
+        assertEquals("Advanced Programming", first.getTitle());
+        assertSame(first, second);
+        verify(delegate, times(1)).getCourseById(1L);
+    }
+
+    @Test
+    void getCourseById_NotFound_ShouldNotCacheNull() {
+        when(delegate.getCourseById(1L)).thenReturn(null);
+
+        assertNull(cachingCourseClient.getCourseById(1L));
+        assertNull(cachingCourseClient.getCourseById(1L));
+
+        verify(delegate, times(2)).getCourseById(1L);
+    }
+
+    @Test
+    void getCourseById_DelegateFailure_ShouldPropagateException() {
+        when(delegate.getCourseById(1L)).thenThrow(new RuntimeException("Course service error"));
+
+        Exception exception = assertThrows(RuntimeException.class, () -> cachingCourseClient.getCourseById(1L));
+
+        assertEquals("Course service error", exception.getMessage());
+    }
+
+    @Test
+    void getCoursesByIds_ShouldOnlyFetchMissingIdsInOneCall() {
+        when(delegate.getCourseById(1L)).thenReturn(course(1L, "Advanced Programming"));
+        when(delegate.getCoursesByIds(anyList())).thenReturn(List.of(
+                course(2L, "Data Structures"),
+                course(3L, "Operating Systems")));
+
+        cachingCourseClient.getCourseById(1L);
+        List<CourseDetailDTO> result = cachingCourseClient.getCoursesByIds(List.of(3L, 1L, 2L));
+
+        assertEquals(3, result.size());
+        assertEquals(3L, result.get(0).getId());
+        assertEquals(1L, result.get(1).getId());
+        assertEquals(2L, result.get(2).getId());
+
+        verify(delegate, times(1)).getCoursesByIds(argThat(ids -> ids.size() == 2
+                && ids.containsAll(List.of(2L, 3L))));
+    }
+
+    @Test
+    void getCourseById_ConcurrentMisses_ShouldShareSingleRemoteCall() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.getCourseById(1L)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return course(1L, "Advanced Programming");
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<CourseDetailDTO>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> cachingCourseClient.getCourseById(1L)));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            for (Future<CourseDetailDTO> future : futures) {
+                assertEquals("Advanced Programming", future.get(5, TimeUnit.SECONDS).getTitle());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(delegate, times(1)).getCourseById(1L);
+    }
+
+    @Test
+    void cacheMetrics_ShouldBeRegisteredWithHitAndMissCounts() {
+        when(delegate.getCourseById(1L)).thenReturn(course(1L, "Advanced Programming"));
+
+        cachingCourseClient.getCourseById(1L);
+        cachingCourseClient.getCourseById(1L);
+        cachingCourseClient.getCourseById(1L);
+
+        double hits = meterRegistry.get("cache.gets")
+                .tag("cache", CachingCourseClient.CACHE_NAME)
+                .tag("result", "hit")
+                .functionCounter()
+                .count();
+        double misses = meterRegistry.get("cache.gets")
+                .tag("cache", CachingCourseClient.CACHE_NAME)
+                .tag("result", "miss")
+                .functionCounter()
+                .count();
+
+        assertEquals(2.0, hits);
+        assertEquals(1.0, misses);
+        assertNotNull(meterRegistry.find("cache.evictions").tag("cache", CachingCourseClient.CACHE_NAME).functionCounter());
+    }
+
+    private CourseDetailDTO course(Long id, String title) {
+        return CourseDetailDTO.builder()
+                .id(id)
+                .title(title)
+                .build();
+    }
+}
@@ -0,0 +1,68 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.client;
+
+import id.ac.ui.cs.advprog.udehnihreviewrating.config.LookupCacheProperties;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.student.StudentDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class CachingStudentClientTest {
+
+    private StudentClient delegate;
+    private CachingStudentClient cachingStudentClient;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(StudentClient.class);
+        cachingStudentClient = new CachingStudentClient(delegate, new LookupCacheProperties.Spec(),
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    void getStudentById_RepeatedLookups_ShouldCallDelegateOnce() {
+        when(delegate.getStudentById(456L)).thenReturn(student(456L, "Jane Smith"));
+
+        assertEquals("Jane Smith", cachingStudentClient.getStudentById(456L).getName());
+        assertEquals("Jane Smith", cachingStudentClient.getStudentById(456L).getName());
+
+        verify(delegate, times(1)).getStudentById(456L);
+    }
+
+    @Test
+    void getStudentsByIds_ShouldSkipStudentsMissingFromBatch() {
+        when(delegate.getStudentsByIds(anyList())).thenReturn(List.of(student(1L, "John Doe")));
+
+        List<StudentDTO> result = cachingStudentClient.getStudentsByIds(List.of(1L, 2L));
+
+        assertEquals(1, result.size());
+        assertEquals("John Doe", result.get(0).getName());
+    }
+
+    @Test
+    void getStudentsByIds_CachedStudents_ShouldNotCallDelegateAgain() {
+        when(delegate.getStudentsByIds(anyList())).thenReturn(List.of(
+                student(1L, "John Doe"),
+                student(2L, "Jane Smith")));
+
+        cachingStudentClient.getStudentsByIds(List.of(1L, 2L));
+        List<StudentDTO> result = cachingStudentClient.getStudentsByIds(List.of(2L, 1L));
+
+        assertEquals("Jane Smith", result.get(0).getName());
+        assertEquals("John Doe", result.get(1).getName());
+        verify(delegate, times(1)).getStudentsByIds(anyList());
+        verify(delegate, never()).getStudentById(any());
+    }
+
+    private StudentDTO student(Long id, String name) {
+        return StudentDTO.builder()
+                .studentId(id)
+                .name(name)
+                .build();
+    }
+}
@@ -5,6 +5,7 @@ import id.ac.ui.cs.advprog.udehnihreviewrating.dto.course.CourseDetailDTO;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.cloud.contract.wiremock.AutoConfigureWireMock;
 import org.springframework.http.HttpStatus;
@@ -13,6 +14,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -27,6 +29,7 @@ import static org.junit.jupiter.api.Assertions.*;
 class CourseClientTest {
 
     @Autowired
+    @Qualifier("courseFeignClient")
     private CourseClient courseClient;
 
     @BeforeEach
@@ -97,4 +100,51 @@ class CourseClientTest {
 
         verify(1, getRequestedFor(urlEqualTo("/api/courses/public/" + courseId)));
     }
+
+    @Test
+    void getCoursesByIds_ReturnsAllRequestedCourses() {
+        stubFor(WireMock.get(urlPathEqualTo("/api/courses/public/batch"))
+                .withQueryParam("ids", havingExactly("1", "2"))
+                .willReturn(aResponse()
+                        .withStatus(HttpStatus.OK.value())
+                        .withHeader("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                        .withBody("""
+                            [
+                              {
+                                "id": 1,
+                                "title": "Advanced Programming",
+                                "description": "Learn advanced programming concepts"
+                              },
+                              {
+                                "id": 2,
+                                "title": "Data Structures",
+                                "description": "Trees, graphs and heaps"
+                              }
+                            ]
+                            """)));
+
+        List<CourseDetailDTO> result = courseClient.getCoursesByIds(List.of(1L, 2L));
+
+        assertEquals(2, result.size());
+        assertEquals(1L, result.get(0).getId());
+        assertEquals("Advanced Programming", result.get(0).getTitle());
+        assertEquals(2L, result.get(1).getId());
+        assertEquals("Data Structures", result.get(1).getTitle());
+
+        verify(1, getRequestedFor(urlPathEqualTo("/api/courses/public/batch")));
+    }
+
+    @Test
+    void getCoursesByIds_WithServerError_HandlesErrorResponse() {
+        stubFor(WireMock.get(urlPathEqualTo("/api/courses/public/batch"))
+                .willReturn(aResponse()
+                        .withStatus(HttpStatus.INTERNAL_SERVER_ERROR.value())));
+
+        Exception exception = assertThrows(Exception.class, () -> {
+            courseClient.getCoursesByIds(List.of(1L, 2L));
+        });
+
+        assertTrue(exception.getMessage().contains("500") ||
+                exception.getMessage().contains("Server Error"));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,132 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.client;
+
+import feign.FeignException;
+import feign.Request;
+import feign.Response;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.student.StudentDTO;
+import id.ac.ui.cs.advprog.udehnihreviewrating.exception.DownstreamUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ResilientStudentClientTest {
+
+    private StudentClient delegate;
+    private SimpleMeterRegistry meterRegistry;
+    private CircuitBreaker circuitBreaker;
+    private ResilientStudentClient resilientStudentClient;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(StudentClient.class);
+        meterRegistry = new SimpleMeterRegistry();
+        circuitBreaker = CircuitBreaker.of("auth-service", CircuitBreakerConfig.custom()
+                .slidingWindowSize(4)
+                .minimumNumberOfCalls(4)
+                .failureRateThreshold(50)
+                .permittedNumberOfCallsInHalfOpenState(2)
+                .ignoreExceptions(FeignException.FeignClientException.class)
+                .build());
+        Bulkhead bulkhead = Bulkhead.of("auth-service", BulkheadConfig.custom()
+                .maxConcurrentCalls(1)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        resilientStudentClient = new ResilientStudentClient(delegate,
+                new DownstreamGuard("auth-service", circuitBreaker, bulkhead, meterRegistry));
+    }
+
+    @Test
+    void getStudentById_ServerErrors_ShouldOpenCircuitAndFailFast() {
+        when(delegate.getStudentById(1L)).thenThrow(feignException(503));
+
+        for (int i = 0; i < 4; i++) {
+            assertThrows(DownstreamUnavailableException.class, () -> resilientStudentClient.getStudentById(1L));
+        }
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+        DownstreamUnavailableException exception = assertThrows(DownstreamUnavailableException.class,
+                () -> resilientStudentClient.getStudentById(1L));
+        assertEquals("Service auth-service is currently unavailable", exception.getMessage());
+        verify(delegate, times(4)).getStudentById(1L);
+        assertEquals(1.0, meterRegistry.get("review.downstream.circuit.transitions")
+                .tags("service", "auth-service", "from", "CLOSED", "to", "OPEN").counter().count());
+        assertEquals(5, meterRegistry.get("review.downstream.calls")
+                .tags("service", "auth-service", "method", "getStudentById", "outcome", "unavailable")
+                .timer().count());
+    }
+
+    @Test
+    void getStudentById_NotFound_ShouldPassThroughWithoutCountingAsFailure() {
+        when(delegate.getStudentById(1L)).thenThrow(feignException(404));
+
+        for (int i = 0; i < 6; i++) {
+            assertThrows(FeignException.NotFound.class, () -> resilientStudentClient.getStudentById(1L));
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertEquals(6, meterRegistry.get("review.downstream.calls")
+                .tags("method", "getStudentById", "outcome", "client_error").timer().count());
+    }
+
+    @Test
+    void getStudentsByIds_HalfOpenProbesSucceed_ShouldCloseCircuit() {
+        List<StudentDTO> students = List.of(StudentDTO.builder().studentId(1L).name("Jane").build());
+        when(delegate.getStudentsByIds(List.of(1L))).thenReturn(students);
+        circuitBreaker.transitionToOpenState();
+        circuitBreaker.transitionToHalfOpenState();
+
+        assertEquals(students, resilientStudentClient.getStudentsByIds(List.of(1L)));
+        assertEquals(students, resilientStudentClient.getStudentsByIds(List.of(1L)));
+
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertEquals(1.0, meterRegistry.get("review.downstream.circuit.transitions")
+                .tags("from", "HALF_OPEN", "to", "CLOSED").counter().count());
+        assertEquals(2, meterRegistry.get("review.downstream.calls")
+                .tags("method", "getStudentsByIds", "outcome", "success").timer().count());
+    }
+
+    @Test
+    void getStudentById_BulkheadFull_ShouldRejectWithoutCallingDelegate() throws Exception {
+        CountDownLatch inFlight = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.getStudentById(1L)).thenAnswer(invocation -> {
+            inFlight.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return StudentDTO.builder().studentId(1L).build();
+        });
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> resilientStudentClient.getStudentById(1L));
+            assertTrue(inFlight.await(5, TimeUnit.SECONDS));
+
+            assertThrows(DownstreamUnavailableException.class, () -> resilientStudentClient.getStudentById(2L));
+            verify(delegate, never()).getStudentById(2L);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    private FeignException feignException(int status) {
+        Request request = Request.create(Request.HttpMethod.GET, "http://localhost:8082/api/users/1",
+                Collections.emptyMap(), null, StandardCharsets.UTF_8, null);
+        Response response = Response.builder().request(request).status(status).reason("error").build();
+        return FeignException.errorStatus("StudentClient#getStudentById(Long)", response);
+    }
+}
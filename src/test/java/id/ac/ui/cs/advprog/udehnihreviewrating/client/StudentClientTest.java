@@ -5,6 +5,7 @@ import id.ac.ui.cs.advprog.udehnihreviewrating.dto.student.StudentDTO;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.cloud.contract.wiremock.AutoConfigureWireMock;
 import org.springframework.http.HttpStatus;
@@ -12,6 +13,8 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
 
+import java.util.List;
+
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -25,6 +28,7 @@ import static org.junit.jupiter.api.Assertions.*;
 class StudentClientTest {
 
     @Autowired
+    @Qualifier("studentFeignClient")
     private StudentClient studentClient;
 
     @BeforeEach
@@ -268,4 +272,51 @@ class StudentClientTest {
 
         verify(1, getRequestedFor(urlEqualTo("/api/users/" + studentId)));
     }
+
+    @Test
+    void getStudentsByIds_ReturnsAllRequestedStudents() {
+        stubFor(WireMock.get(urlPathEqualTo("/api/users/batch"))
+                .withQueryParam("ids", havingExactly("123", "456"))
+                .willReturn(aResponse()
+                        .withStatus(HttpStatus.OK.value())
+                        .withHeader("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                        .withBody("""
+                            [
+                              {
+                                "studentId": 123,
+                                "email": "john.doe@university.edu",
+                                "name": "John Doe"
+                              },
+                              {
+                                "studentId": 456,
+                                "email": "jane.smith@example.com",
+                                "name": "Jane Smith"
+                              }
+                            ]
+                            """)));
+
+        List<StudentDTO> result = studentClient.getStudentsByIds(List.of(123L, 456L));
+
+        assertEquals(2, result.size());
+        assertEquals(123L, result.get(0).getStudentId());
+        assertEquals("John Doe", result.get(0).getName());
+        assertEquals(456L, result.get(1).getStudentId());
+        assertEquals("Jane Smith", result.get(1).getName());
+
+        verify(1, getRequestedFor(urlPathEqualTo("/api/users/batch")));
+    }
+
+    @Test
+    void getStudentsByIds_WithUnauthorizedAccess_HandlesUnauthorizedResponse() {
+        stubFor(WireMock.get(urlPathEqualTo("/api/users/batch"))
+                .willReturn(aResponse()
+                        .withStatus(HttpStatus.UNAUTHORIZED.value())));
+
+        Exception exception = assertThrows(Exception.class, () -> {
+            studentClient.getStudentsByIds(List.of(123L));
+        });
+
+        assertTrue(exception.getMessage().contains("401") ||
+                exception.getMessage().contains("Unauthorized"));
+    }
 }
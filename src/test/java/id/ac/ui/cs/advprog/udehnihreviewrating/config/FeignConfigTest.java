@@ -0,0 +1,48 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.config;
+
+import feign.Client;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FeignConfigTest {
+
+    @Test
+    void pooledFeignClient_ShouldUseConfiguredPoolAndPublishOccupancy() throws IOException {
+        FeignTransportProperties properties = new FeignTransportProperties();
+        FeignTransportProperties.Pool pool = new FeignTransportProperties.Pool();
+        pool.setMaxConnections(7);
+        properties.getClients().put("course-service", pool);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        Client client = new FeignConfig().pooledFeignClient("course-service", properties, provider(meterRegistry));
+
+        assertInstanceOf(TotalTimeoutClient.class, client);
+        assertEquals(7.0, meterRegistry.get("httpcomponents.httpclient.pool.total.max")
+                .tag("httpclient", "course-service").gauge().value());
+        ((Closeable) client).close();
+    }
+
+    @Test
+    void forClient_UnknownClient_ShouldFallBackToDefaults() {
+        FeignTransportProperties properties = new FeignTransportProperties();
+
+        FeignTransportProperties.Pool pool = properties.forClient("auth-service");
+
+        assertEquals(50, pool.getMaxConnections());
+        assertEquals(4, pool.getTotalTimeout().toSeconds());
+    }
+
+    private ObjectProvider<MeterRegistry> provider(MeterRegistry meterRegistry) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", meterRegistry);
+        return beanFactory.getBeanProvider(MeterRegistry.class);
+    }
+}
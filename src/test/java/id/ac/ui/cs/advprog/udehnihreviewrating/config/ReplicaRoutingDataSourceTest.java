@@ -0,0 +1,131 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplicaRoutingDataSourceTest {
+
+    private DataSourceRoutingProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        properties = new DataSourceRoutingProperties();
+        properties.setLagQuery("SELECT 0");
+        meterRegistry = new SimpleMeterRegistry();
+        routingDataSource = newRoutingDataSource();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readWriteTransaction_ShouldUsePrimary() {
+        routingDataSource.checkReplicas();
+        inTransaction(false);
+
+        assertEquals("primary", currentNode());
+    }
+
+    @Test
+    void readOnlyTransaction_HealthyReplica_ShouldUseReplica() {
+        routingDataSource.checkReplicas();
+        inTransaction(true);
+
+        assertEquals("replica", currentNode());
+        assertEquals(1.0, meterRegistry.get("review.datasource.replica.healthy").gauge().value());
+    }
+
+    @Test
+    void readOnlyTransaction_BeforeFirstHealthCheck_ShouldUsePrimary() {
+        inTransaction(true);
+
+        assertEquals("primary", currentNode());
+    }
+
+    @Test
+    void readOnlyTransaction_ReplicaLaggingBeyondTolerance_ShouldUsePrimary() {
+        properties.setLagQuery("SELECT 30");
+        routingDataSource.checkReplicas();
+        inTransaction(true);
+
+        assertEquals("primary", currentNode());
+        assertEquals(30.0, meterRegistry.get("review.datasource.replica.lag").gauge().value());
+    }
+
+    @Test
+    void readOnlyTransaction_AuthorWhoJustWrote_ShouldReadFromPrimary() {
+        routingDataSource.checkReplicas();
+        authenticate("author@example.com");
+        inTransaction(false);
+        assertEquals("primary", currentNode());
+
+        inTransaction(true);
+        assertEquals("primary", currentNode());
+
+        authenticate("reader@example.com");
+        assertEquals("replica", currentNode());
+    }
+
+    @Test
+    void readOnlyTransaction_WriteOutsideWindow_ShouldUseReplicaAgain() throws InterruptedException {
+        properties.setMaxReplicationLag(Duration.ofMillis(50));
+        routingDataSource = newRoutingDataSource();
+        routingDataSource.checkReplicas();
+        authenticate("author@example.com");
+        inTransaction(false);
+        currentNode();
+
+        Thread.sleep(100);
+        inTransaction(true);
+
+        assertEquals("replica", currentNode());
+    }
+
+    private ReplicaRoutingDataSource newRoutingDataSource() {
+        return new ReplicaRoutingDataSource(node("primary"), Map.of("replica-1", node("replica")),
+                properties, meterRegistry);
+    }
+
+    private DriverManagerDataSource node(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+        jdbcTemplate.update("DELETE FROM node");
+        jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+
+    private String currentNode() {
+        return new JdbcTemplate(routingDataSource).queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private void inTransaction(boolean readOnly) {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+
+    private void authenticate(String user) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, List.of()));
+    }
+}
@@ -0,0 +1,131 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(OutputCaptureExtension.class)
+class ServerTimingFilterTest {
+
+    private ServerTimingProperties properties;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ServerTimingProperties();
+        request = new MockHttpServletRequest("GET", "/api/reviews/course/1");
+        response = new MockHttpServletResponse();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void headerEnabled_ShouldListEveryPhaseBeforeTheBody() throws Exception {
+        properties.setHeader(true);
+
+        new ServerTimingFilter(properties).doFilter(request, response, new MockFilterChain(new HandlerStub()));
+
+        String header = response.getHeader("Server-Timing");
+        assertNotNull(header);
+        assertTrue(header.startsWith("auth;dur="), header);
+        assertTrue(header.contains("db;dur=2.0;desc=\"2 calls\""), header);
+        assertTrue(header.contains("course-service;dur=5.0;desc=\"1 call\""), header);
+        assertTrue(header.contains("serialization;dur="), header);
+        assertTrue(header.contains("total;dur="), header);
+        assertEquals("{\"rating\":5}", response.getContentAsString());
+        assertEquals(response.getContentAsByteArray().length, response.getContentLength());
+    }
+
+    @Test
+    void bodyOverBufferLimit_ShouldStreamUnderHeaderWithoutSerialization() throws Exception {
+        properties.setHeader(true);
+        properties.setMaxBufferedBody(DataSize.ofBytes(4));
+
+        new ServerTimingFilter(properties).doFilter(request, response, new MockFilterChain(new HandlerStub()));
+
+        String header = response.getHeader("Server-Timing");
+        assertNotNull(header);
+        assertTrue(header.contains("course-service;dur=5.0"), header);
+        assertFalse(header.contains("serialization"), header);
+        assertEquals("{\"rating\":5}", response.getContentAsString());
+    }
+
+    @Test
+    void headerDisabled_ShouldStillWriteTheBodyWithoutHeader() throws Exception {
+        new ServerTimingFilter(properties).doFilter(request, response, new MockFilterChain(new HandlerStub()));
+
+        assertNull(response.getHeader("Server-Timing"));
+        assertEquals("{\"rating\":5}", response.getContentAsString());
+    }
+
+    @Test
+    void slowRequest_ShouldLogPhaseBreakdown(CapturedOutput output) throws Exception {
+        properties.setSlowRequestThreshold(Duration.ZERO);
+
+        new ServerTimingFilter(properties).doFilter(request, response, new MockFilterChain(new HandlerStub()));
+
+        assertTrue(output.getOut().contains("Slow request GET /api/reviews/course/1"));
+        assertTrue(output.getOut().contains("course-service=5.0"));
+    }
+
+    @Test
+    void fastRequest_ShouldNotLog(CapturedOutput output) throws Exception {
+        new ServerTimingFilter(properties).doFilter(request, response, new MockFilterChain(new HandlerStub()));
+
+        assertFalse(output.getOut().contains("Slow request"));
+    }
+
+    @Test
+    void record_OutsideTimedRequest_ShouldBeIgnored() {
+        assertDoesNotThrow(() -> RequestTimings.record("db", 1));
+        assertNull(RequestTimings.current());
+    }
+
+    /**
+     * Stands in for the security filter chain, the repositories, a downstream client and
+     * the Jackson converter of one request.
+     */
+    private final class HandlerStub extends HttpServlet {
+
+        @Override
+        protected void service(HttpServletRequest servletRequest, HttpServletResponse servletResponse)
+                throws IOException {
+            RequestTimings.record(servletRequest, "auth", TimeUnit.MICROSECONDS.toNanos(300));
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(servletRequest));
+            RequestTimings.record("db", TimeUnit.MILLISECONDS.toNanos(1));
+            RequestTimings.record("course-service", TimeUnit.MILLISECONDS.toNanos(5));
+            RequestTimings.record("db", TimeUnit.MILLISECONDS.toNanos(1));
+
+            new ServerTimingJacksonConverter(new ObjectMapper(), properties.isHeader(),
+                    properties.getMaxBufferedBody().toBytes())
+                    .write(Map.of("rating", 5), MediaType.APPLICATION_JSON,
+                            new ServletServerHttpResponse(servletResponse));
+        }
+    }
+}
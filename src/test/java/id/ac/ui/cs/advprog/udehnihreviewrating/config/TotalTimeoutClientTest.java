@@ -0,0 +1,101 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.config;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TotalTimeoutClientTest {
+
+    @Mock
+    private Client delegate;
+
+    @Mock
+    private Closeable transport;
+
+    private Request request;
+    private Request.Options options;
+
+    @BeforeEach
+    void setUp() {
+        request = Request.create(Request.HttpMethod.GET, "http://localhost:8081/api/courses/public/1",
+                Collections.emptyMap(), null, StandardCharsets.UTF_8, null);
+        options = new Request.Options();
+    }
+
+    @Test
+    void execute_FastCall_ShouldReturnDelegateResponse() throws IOException {
+        Response response = Response.builder().request(request).status(200).build();
+        when(delegate.execute(request, options)).thenReturn(response);
+        TotalTimeoutClient client = new TotalTimeoutClient(delegate, Duration.ofSeconds(1), transport);
+
+        assertSame(response, client.execute(request, options));
+    }
+
+    @Test
+    void execute_SlowCall_ShouldFailAtDeadlineAndInterruptCall() throws Exception {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(delegate.execute(any(), any())).thenAnswer(invocation -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return null;
+        });
+        TotalTimeoutClient client = new TotalTimeoutClient(delegate, Duration.ofMillis(50), transport);
+
+        long startedAt = System.nanoTime();
+        SocketTimeoutException exception = assertThrows(SocketTimeoutException.class,
+                () -> client.execute(request, options));
+
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt) < 5_000);
+        assertTrue(exception.getMessage().contains("total timeout of 50 ms"));
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void execute_DelegateFails_ShouldRethrowOriginalException() throws IOException {
+        when(delegate.execute(request, options)).thenThrow(new ConnectException("Connection refused"));
+        TotalTimeoutClient client = new TotalTimeoutClient(delegate, Duration.ofSeconds(1), transport);
+
+        ConnectException exception = assertThrows(ConnectException.class, () -> client.execute(request, options));
+        assertEquals("Connection refused", exception.getMessage());
+    }
+
+    @Test
+    void execute_NoTotalTimeout_ShouldCallDelegateDirectly() throws IOException {
+        Response response = Response.builder().request(request).status(200).build();
+        when(delegate.execute(request, options)).thenReturn(response);
+        TotalTimeoutClient client = new TotalTimeoutClient(delegate, Duration.ZERO, transport);
+
+        assertSame(response, client.execute(request, options));
+    }
+
+    @Test
+    void close_ShouldCloseTransport() throws IOException {
+        new TotalTimeoutClient(delegate, Duration.ofSeconds(1), transport).close();
+
+        verify(transport).close();
+    }
+}
@@ -0,0 +1,74 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.config;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(OutputCaptureExtension.class)
+class VirtualThreadPinningMonitorTest {
+
+    private final Object lock = new Object();
+
+    private SimpleMeterRegistry meterRegistry;
+    private VirtualThreadProperties properties;
+    private VirtualThreadPinningMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new VirtualThreadProperties();
+        properties.setPinningThreshold(Duration.ofMillis(10));
+        monitor = new VirtualThreadPinningMonitor(properties, meterRegistry);
+        monitor.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        monitor.stop();
+    }
+
+    @Test
+    void sleepInsideSynchronized_ShouldBeTimedAndLoggedWithItsSite(CapturedOutput output) throws Exception {
+        Thread.ofVirtual().start(this::sleepWhileHoldingLock).join();
+
+        Timer pinned = meterRegistry.get("review.virtualthreads.pinned").timer();
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (pinned.count() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+
+        assertEquals(1, pinned.count());
+        assertTrue(output.getOut().contains("VirtualThreadPinningMonitorTest.sleepWhileHoldingLock"));
+    }
+
+    @Test
+    void sleepWithoutLock_ShouldNotBeReported() throws Exception {
+        Thread.ofVirtual().start(() -> sleep(50)).join();
+        Thread.sleep(2_000);
+
+        assertEquals(0, meterRegistry.get("review.virtualthreads.pinned").timer().count());
+    }
+
+    private void sleepWhileHoldingLock() {
+        synchronized (lock) {
+            sleep(50);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.request.ReviewImportItem;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.request.ReviewImportRequest;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.response.ReviewImportFailure;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.response.ReviewImportResponse;
+import id.ac.ui.cs.advprog.udehnihreviewrating.exception.InvalidImportRequestException;
+import id.ac.ui.cs.advprog.udehnihreviewrating.service.ReviewImportService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.cloud.openfeign.FeignAutoConfiguration;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = AdminReviewController.class)
+@AutoConfigureMockMvc
+@ImportAutoConfiguration(exclude = {FeignAutoConfiguration.class})
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.cloud.openfeign.enabled=false",
+        "COURSE_SERVICE_URL=http://localhost:8081",
+        "AUTH_SERVICE_URL=http://localhost:8082"
+})
+class AdminReviewControllerTest {
+
+    @MockitoBean
+    private ReviewImportService reviewImportService;
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Test
+    void importReviews_ShouldReturnImportReport() throws Exception {
+        ReviewImportRequest request = ReviewImportRequest.builder()
+                .reviews(List.of(
+                        ReviewImportItem.builder().courseId(1L).studentId(10L).reviewText("Great").rating(5).build(),
+                        ReviewImportItem.builder().courseId(2L).studentId(10L).rating(4).build()))
+                .build();
+        ReviewImportResponse response = ReviewImportResponse.builder()
+                .received(2)
+                .imported(1)
+                .failed(1)
+                .failures(List.of(ReviewImportFailure.builder()
+                        .index(1).courseId(2L).studentId(10L).reason("Course not found").build()))
+                .build();
+
+        when(reviewImportService.importReviews(anyList())).thenReturn(response);
+
+        mockMvc.perform(post("/api/admin/reviews/import")
+                        .with(user("admin").roles("ADMIN"))
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received").value(2))
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.failures[0].index").value(1))
+                .andExpect(jsonPath("$.failures[0].reason").value("Course not found"));
+    }
+
+    @Test
+    void importReviews_InvalidRequest_ShouldReturnBadRequest() throws Exception {
+        when(reviewImportService.importReviews(anyList()))
+                .thenThrow(new InvalidImportRequestException("No reviews to import"));
+
+        mockMvc.perform(post("/api/admin/reviews/import")
+                        .with(user("admin").roles("ADMIN"))
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"reviews\":[]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("No reviews to import"));
+    }
+}
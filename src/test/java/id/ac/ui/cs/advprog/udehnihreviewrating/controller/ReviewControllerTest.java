@@ -3,7 +3,12 @@ package id.ac.ui.cs.advprog.udehnihreviewrating.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import id.ac.ui.cs.advprog.udehnihreviewrating.dto.request.CreateReviewRequest;
 import id.ac.ui.cs.advprog.udehnihreviewrating.dto.request.UpdateReviewRequest;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.response.CourseRatingSummaryResponse;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.response.ReviewPageResponse;
 import id.ac.ui.cs.advprog.udehnihreviewrating.dto.response.ReviewResponse;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.response.TopRatedCourseResponse;
+import id.ac.ui.cs.advprog.udehnihreviewrating.exception.InvalidRatingRequestException;
+import id.ac.ui.cs.advprog.udehnihreviewrating.model.ReviewSort;
 import id.ac.ui.cs.advprog.udehnihreviewrating.security.StudentDetails;
 import id.ac.ui.cs.advprog.udehnihreviewrating.service.ReviewService;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,18 +19,25 @@ import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.cloud.openfeign.FeignAutoConfiguration;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
@@ -230,6 +242,114 @@ class ReviewControllerTest {
         verify(reviewService).getReviewsByCourse(ArgumentMatchers.eq(courseId));
     }
 
+    @Test
+    void streamReviewsByCourse_NdjsonAccept_ShouldWriteOneReviewPerLine() throws Exception {
+        ReviewResponse review1 = ReviewResponse.builder()
+                .id(reviewId)
+                .courseId(courseId.toString())
+                .courseName("Advanced Programming")
+                .studentId(studentId)
+                .studentName("John Doe")
+                .rating(5)
+                .build();
+        ReviewResponse review2 = ReviewResponse.builder()
+                .id(UUID.randomUUID())
+                .courseId(courseId.toString())
+                .courseName("Advanced Programming")
+                .studentId(789L)
+                .studentName("Jane Smith")
+                .rating(4)
+                .build();
+
+        doAnswer(invocation -> {
+            Consumer<List<ReviewResponse>> chunkConsumer = invocation.getArgument(1);
+            chunkConsumer.accept(List.of(review1));
+            chunkConsumer.accept(List.of(review2));
+            return null;
+        }).when(reviewService).streamReviewsByCourse(ArgumentMatchers.eq(courseId), ArgumentMatchers.any());
+
+        MvcResult result = mockMvc.perform(get("/api/reviews/course/{courseId}", courseId)
+                        .accept(MediaType.APPLICATION_NDJSON)
+                        .with(user(principal)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("John Doe",
+                objectMapper.readValue(lines[0], ReviewResponse.class).getStudentName());
+        assertEquals("Jane Smith",
+                objectMapper.readValue(lines[1], ReviewResponse.class).getStudentName());
+    }
+
+    @Test
+    void getReviewPageByCourse_ShouldReturnPage() throws Exception {
+        ReviewResponse review1 = ReviewResponse.builder()
+                .id(reviewId)
+                .courseId(courseId.toString())
+                .courseName("Advanced Programming")
+                .studentId(studentId)
+                .studentName("John Doe")
+                .rating(5)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        ReviewPageResponse page = ReviewPageResponse.builder()
+                .reviews(List.of(review1))
+                .nextCursor("next")
+                .hasNext(true)
+                .size(1)
+                .build();
+
+        when(reviewService.getReviewPageByCourse(courseId, ReviewSort.HIGHEST, "abc", 1))
+                .thenReturn(page);
+
+        mockMvc.perform(get("/api/reviews/course/{courseId}/page", courseId)
+                        .param("sort", "highest")
+                        .param("cursor", "abc")
+                        .param("size", "1")
+                        .with(user(principal)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.reviews.length()").value(1))
+                .andExpect(jsonPath("$.reviews[0].studentName").value("John Doe"))
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
+    @Test
+    void getReviewPageByStudent_DefaultsToNewest() throws Exception {
+        ReviewPageResponse page = ReviewPageResponse.builder()
+                .reviews(List.of())
+                .hasNext(false)
+                .size(0)
+                .build();
+
+        when(reviewService.getReviewPageByStudent(studentId, ReviewSort.NEWEST, null, null))
+                .thenReturn(page);
+
+        mockMvc.perform(get("/api/reviews/student/{studentId}/page", studentId)
+                        .with(user(principal)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.reviews").isEmpty())
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    void getReviewPageByCourse_UnknownSort_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/reviews/course/{courseId}/page", courseId)
+                        .param("sort", "popular")
+                        .with(user(principal)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Unsupported sort: popular"));
+    }
+
     @Test
     void getReviewsByStudent_ShouldReturnOk() throws Exception {
         ReviewResponse review = ReviewResponse.builder()
@@ -335,6 +455,64 @@ class ReviewControllerTest {
         verify(reviewService).getAverageRatingForCourse(ArgumentMatchers.eq(courseId));
     }
 
+    @Test
+    void getRatingSummariesForCourses_ShouldReturnOneEntryPerCourse() throws Exception {
+        Map<Integer, Long> distribution = new LinkedHashMap<>();
+        distribution.put(1, 0L);
+        distribution.put(2, 0L);
+        distribution.put(3, 1L);
+        distribution.put(4, 0L);
+        distribution.put(5, 1L);
+        List<CourseRatingSummaryResponse> summaries = List.of(
+                CourseRatingSummaryResponse.builder()
+                        .courseId(1L).averageRating(4.0).reviewCount(2).ratingDistribution(distribution).build(),
+                CourseRatingSummaryResponse.builder()
+                        .courseId(2L).averageRating(0.0).reviewCount(0).ratingDistribution(Map.of()).build());
+
+        when(reviewService.getRatingSummariesForCourses(List.of(1L, 2L))).thenReturn(summaries);
+
+        mockMvc.perform(get("/api/reviews/course/average-ratings")
+                        .param("courseIds", "1,2")
+                        .with(user(principal)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].courseId").value(1))
+                .andExpect(jsonPath("$[0].averageRating").value(4.0))
+                .andExpect(jsonPath("$[0].reviewCount").value(2))
+                .andExpect(jsonPath("$[0].ratingDistribution.5").value(1))
+                .andExpect(jsonPath("$[1].reviewCount").value(0));
+    }
+
+    @Test
+    void getTopRatedCourses_ShouldReturnRankedCourses() throws Exception {
+        when(reviewService.getTopRatedCourses(2)).thenReturn(List.of(
+                TopRatedCourseResponse.builder()
+                        .rank(1).courseId(7L).bayesianRating(4.28).averageRating(4.5).reviewCount(40).build(),
+                TopRatedCourseResponse.builder()
+                        .rank(2).courseId(3L).bayesianRating(3.18).averageRating(5.0).reviewCount(1).build()));
+
+        mockMvc.perform(get("/api/reviews/course/top-rated")
+                        .param("size", "2")
+                        .with(user(principal)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].courseId").value(7))
+                .andExpect(jsonPath("$[0].bayesianRating").value(4.28))
+                .andExpect(jsonPath("$[1].rank").value(2));
+    }
+
+    @Test
+    void getRatingSummariesForCourses_TooManyCourses_ShouldReturnBadRequest() throws Exception {
+        when(reviewService.getRatingSummariesForCourses(ArgumentMatchers.anyList()))
+                .thenThrow(new InvalidRatingRequestException("At most 300 courses can be requested at once"));
+
+        mockMvc.perform(get("/api/reviews/course/average-ratings")
+                        .param("courseIds", "1,2")
+                        .with(user(principal)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("At most 300 courses can be requested at once"));
+    }
+
     @Test
     void createReview_InvalidJson_ShouldReturnInternalServerError() throws Exception {
         String invalidJson = "{ invalid json }";
@@ -404,6 +582,51 @@ class ReviewControllerTest {
                 .andExpect(status().isInternalServerError());
     }
 
+    @Test
+    void createReview_DuplicateReview_ShouldReturnConflict() throws Exception {
+        CreateReviewRequest req = CreateReviewRequest.builder()
+                .courseId(courseId)
+                .reviewText("Great course!")
+                .rating(5)
+                .build();
+
+        when(reviewService.createReview(
+                ArgumentMatchers.anyLong(),
+                ArgumentMatchers.any(CreateReviewRequest.class)))
+                .thenThrow(new DataIntegrityViolationException(
+                        "duplicate key value violates unique constraint \"ux_reviews_course_student\""));
+
+        mockMvc.perform(post("/api/reviews")
+                        .with(user(principal))
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("Review already exists for this course and student"));
+    }
+
+    @Test
+    void createReview_OtherIntegrityViolation_ShouldReturnInternalServerError() throws Exception {
+        CreateReviewRequest req = CreateReviewRequest.builder()
+                .courseId(courseId)
+                .reviewText("Great course!")
+                .rating(5)
+                .build();
+
+        when(reviewService.createReview(
+                ArgumentMatchers.anyLong(),
+                ArgumentMatchers.any(CreateReviewRequest.class)))
+                .thenThrow(new DataIntegrityViolationException("value too long for type character varying(255)"));
+
+        mockMvc.perform(post("/api/reviews")
+                        .with(user(principal))
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.message").value("value too long for type character varying(255)"));
+    }
+
     @Test
     void getReviewById_NonExistentReview_ShouldReturnInternalServerError() throws Exception {
         when(reviewService.getReviewById(ArgumentMatchers.any(UUID.class)))
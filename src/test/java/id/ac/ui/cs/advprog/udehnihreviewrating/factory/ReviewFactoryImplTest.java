@@ -28,6 +28,7 @@ class ReviewFactoryImplTest {
 
         assertNotNull(review);
         assertNotNull(review.getId());
+        assertEquals(7, review.getId().version());
         assertEquals(courseId, review.getCourseId());
         assertEquals(studentId, review.getStudentId());
         assertEquals(reviewText, review.getReviewText());
@@ -155,4 +156,12 @@ class ReviewFactoryImplTest {
         assertNotNull(review);
         assertEquals(maxRating, review.getRating());
     }
-}
\ No newline at end of file
+
+    @Test
+    void createBasicReview_ConsecutiveReviews_ShouldHaveIncreasingIds() {
+        Review first = reviewFactory.createBasicReview(courseId, studentId, "First", 4);
+        Review second = reviewFactory.createBasicReview(courseId, studentId + 1, "Second", 5);
+
+        assertTrue(first.getId().compareTo(second.getId()) < 0);
+    }
+}
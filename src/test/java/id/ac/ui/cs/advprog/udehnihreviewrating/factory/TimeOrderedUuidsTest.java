@@ -0,0 +1,74 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.factory;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeOrderedUuidsTest {
+
+    @Test
+    void next_ShouldReturnVersion7WithRfcVariant() {
+        UUID id = TimeOrderedUuids.next();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+    }
+
+    @Test
+    void next_ShouldEncodeCurrentTime() {
+        long before = System.currentTimeMillis();
+        UUID id = TimeOrderedUuids.next();
+        long after = System.currentTimeMillis();
+
+        long timestamp = TimeOrderedUuids.timestampOf(id);
+        assertTrue(timestamp >= before && timestamp <= after + 1, "timestamp " + timestamp);
+    }
+
+    @Test
+    void next_ShouldBeStrictlyIncreasingWithinOneMillisecond() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(TimeOrderedUuids.next());
+        }
+
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(ids.get(i - 1).compareTo(ids.get(i)) < 0, "ids out of order at " + i);
+        }
+    }
+
+    @Test
+    void next_ConcurrentCallers_ShouldNeverRepeat() throws Exception {
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 5_000; i++) {
+                        ids.add(TimeOrderedUuids.next());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        assertEquals(40_000, ids.size());
+    }
+
+    @Test
+    void timestampOf_RandomUuid_ShouldThrowException() {
+        UUID randomId = UUID.randomUUID();
+
+        assertThrows(IllegalArgumentException.class, () -> TimeOrderedUuids.timestampOf(randomId));
+    }
+}
@@ -0,0 +1,119 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.loadtest;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.extension.ResponseDefinitionTransformerV2;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+/**
+ * A WireMock stand-in for the course or auth service. Every response is delayed by a
+ * log-normal distribution with the configured median and sigma, and the configured share
+ * of requests fails with a 503 after the same delay.
+ * <p>
+ * Settings are read from {@code loadtest.<service>.latency-median-ms},
+ * {@code loadtest.<service>.latency-sigma} and {@code loadtest.<service>.error-rate}.
+ */
+final class DownstreamStub {
+
+    private final String service;
+    private final int latencyMedianMillis;
+    private final double latencySigma;
+    private final double errorRate;
+    private final WireMockServer server;
+
+    private DownstreamStub(String service, int defaultLatencyMedianMillis) {
+        this.service = service;
+        this.latencyMedianMillis = Integer.getInteger(
+                "loadtest." + service + ".latency-median-ms", defaultLatencyMedianMillis);
+        this.latencySigma = Double.parseDouble(System.getProperty("loadtest." + service + ".latency-sigma", "0.5"));
+        this.errorRate = Double.parseDouble(System.getProperty("loadtest." + service + ".error-rate", "0.01"));
+        this.server = new WireMockServer(options()
+                .dynamicPort()
+                .containerThreads(200)
+                .disableRequestJournal()
+                .extensions(new RandomFailureTransformer(errorRate)));
+    }
+
+    static DownstreamStub courseService() {
+        DownstreamStub stub = new DownstreamStub("course", 25);
+        stub.server.start();
+        stub.server.stubFor(get(urlPathMatching("/api/courses/public/\\d+"))
+                .willReturn(stub.json("""
+                        {"id": {{request.pathSegments.[3]}}, "title": "Course {{request.pathSegments.[3]}}",
+                         "description": "Synthetic course"}""")));
+        stub.server.stubFor(get(urlPathEqualTo("/api/courses/public/batch"))
+                .willReturn(stub.json("""
+                        [{{#each request.query.ids}}{"id": {{this}}, "title": "Course {{this}}"}\
+                        {{#unless @last}},{{/unless}}{{/each}}]""")));
+        return stub;
+    }
+
+    static DownstreamStub authService() {
+        DownstreamStub stub = new DownstreamStub("auth", 15);
+        stub.server.start();
+        stub.server.stubFor(get(urlPathMatching("/api/users/\\d+"))
+                .willReturn(stub.json("""
+                        {"studentId": {{request.pathSegments.[2]}}, "email": "student{{request.pathSegments.[2]}}@example.com",
+                         "name": "Student {{request.pathSegments.[2]}}"}""")));
+        stub.server.stubFor(get(urlPathEqualTo("/api/users/batch"))
+                .willReturn(stub.json("""
+                        [{{#each request.query.ids}}{"studentId": {{this}}, "name": "Student {{this}}"}\
+                        {{#unless @last}},{{/unless}}{{/each}}]""")));
+        return stub;
+    }
+
+    String baseUrl() {
+        return server.baseUrl();
+    }
+
+    String describe() {
+        return String.format("%s-service: median %d ms, sigma %.2f, error rate %.2f%%",
+                service, latencyMedianMillis, latencySigma, errorRate * 100);
+    }
+
+    private ResponseDefinitionBuilder json(String bodyTemplate) {
+        return aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "application/json")
+                .withBody(bodyTemplate)
+                .withTransformers("response-template")
+                .withLogNormalRandomDelay(latencyMedianMillis, latencySigma);
+    }
+
+    /**
+     * Replaces the stubbed response with a 503 for a random share of requests, keeping
+     * the stub's delay so failures cost as much time as successes.
+     */
+    private static final class RandomFailureTransformer implements ResponseDefinitionTransformerV2 {
+
+        private final double errorRate;
+
+        RandomFailureTransformer(double errorRate) {
+            this.errorRate = errorRate;
+        }
+
+        @Override
+        public ResponseDefinition transform(ServeEvent serveEvent) {
+            ResponseDefinition response = serveEvent.getResponseDefinition();
+            if (ThreadLocalRandom.current().nextDouble() >= errorRate) {
+                return response;
+            }
+            return ResponseDefinitionBuilder.like(response)
+                    .but()
+                    .withStatus(503)
+                    .withBody("{\"error\": \"injected failure\"}")
+                    .build();
+        }
+
+        @Override
+        public String getName() {
+            return "random-failure";
+        }
+    }
+}
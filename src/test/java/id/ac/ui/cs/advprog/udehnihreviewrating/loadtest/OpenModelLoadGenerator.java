@@ -0,0 +1,193 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Sends requests at a fixed arrival rate regardless of how quickly earlier ones complete,
+ * so a slow server builds a queue instead of slowing the client down. Each request runs on
+ * its own virtual thread and its latency is measured from the moment it was scheduled to
+ * be sent, which keeps queueing delay in the percentiles instead of hiding it (coordinated
+ * omission).
+ * <p>
+ * Requests scheduled during the warm-up are sent but not recorded.
+ */
+final class OpenModelLoadGenerator {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final List<Endpoint> endpoints = new ArrayList<>();
+    private int totalWeight;
+
+    /**
+     * Adds an endpoint that receives {@code weight} out of every {@code totalWeight}
+     * requests. The supplier is called once per request.
+     */
+    OpenModelLoadGenerator endpoint(String name, int weight, Supplier<HttpRequest> request) {
+        endpoints.add(new Endpoint(name, weight, request));
+        totalWeight += weight;
+        return this;
+    }
+
+    Report run(double requestsPerSecond, Duration warmup, Duration duration) throws InterruptedException {
+        long interval = Math.round(NANOS_PER_SECOND / requestsPerSecond);
+        long total = (warmup.toNanos() + duration.toNanos()) / interval;
+        long startedAt = System.nanoTime();
+        long measuredFrom = startedAt + warmup.toNanos();
+        AtomicLong lateDispatches = new AtomicLong();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i < total; i++) {
+                long intendedAt = startedAt + i * interval;
+                long wait = intendedAt - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                } else if (-wait > interval) {
+                    lateDispatches.incrementAndGet();
+                }
+                Endpoint endpoint = pick();
+                boolean measured = intendedAt >= measuredFrom;
+                executor.execute(() -> endpoint.send(httpClient, intendedAt, measured));
+            }
+            executor.shutdown();
+            if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                executor.shutdownNow();
+            }
+        }
+        return new Report(endpoints, duration, lateDispatches.get());
+    }
+
+    private Endpoint pick() {
+        int ticket = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Endpoint endpoint : endpoints) {
+            ticket -= endpoint.weight;
+            if (ticket < 0) {
+                return endpoint;
+            }
+        }
+        return endpoints.get(endpoints.size() - 1);
+    }
+
+    private static final class Endpoint {
+
+        private final String name;
+        private final int weight;
+        private final Supplier<HttpRequest> request;
+        private final Histogram latencyMicros = new ConcurrentHistogram(3);
+        private final AtomicLong errors = new AtomicLong();
+
+        Endpoint(String name, int weight, Supplier<HttpRequest> request) {
+            this.name = name;
+            this.weight = weight;
+            this.request = request;
+        }
+
+        void send(HttpClient httpClient, long intendedAt, boolean measured) {
+            boolean failed;
+            try {
+                HttpResponse<Void> response = httpClient.send(request.get(), HttpResponse.BodyHandlers.discarding());
+                failed = response.statusCode() >= 400;
+            } catch (IOException e) {
+                failed = true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (measured) {
+                latencyMicros.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedAt));
+                if (failed) {
+                    errors.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    record EndpointStats(String name, long requests, long errors, double throughput,
+                         double p50, double p95, double p99, double p999, double max) {
+    }
+
+    static final class Report {
+
+        private final Map<String, Histogram> histograms = new LinkedHashMap<>();
+        private final List<EndpointStats> stats = new ArrayList<>();
+        private final long lateDispatches;
+
+        private Report(List<Endpoint> endpoints, Duration duration, long lateDispatches) {
+            this.lateDispatches = lateDispatches;
+            double seconds = duration.toNanos() / (double) NANOS_PER_SECOND;
+            for (Endpoint endpoint : endpoints) {
+                Histogram histogram = endpoint.latencyMicros.copy();
+                histograms.put(endpoint.name, histogram);
+                stats.add(new EndpointStats(endpoint.name, histogram.getTotalCount(), endpoint.errors.get(),
+                        histogram.getTotalCount() / seconds,
+                        millis(histogram, 50), millis(histogram, 95), millis(histogram, 99),
+                        millis(histogram, 99.9), histogram.getMaxValue() / 1_000.0));
+            }
+        }
+
+        List<EndpointStats> stats() {
+            return stats;
+        }
+
+        /**
+         * Requests the generator itself sent more than one interval late, which means the
+         * client machine could not sustain the arrival rate and the results understate it.
+         */
+        long lateDispatches() {
+            return lateDispatches;
+        }
+
+        String table() {
+            StringBuilder table = new StringBuilder(String.format("%n%-20s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                    "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "p99.9 ms", "max ms"));
+            for (EndpointStats endpoint : stats) {
+                table.append(String.format("%-20s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                        endpoint.name(), endpoint.requests(), endpoint.errors(), endpoint.throughput(),
+                        endpoint.p50(), endpoint.p95(), endpoint.p99(), endpoint.p999(), endpoint.max()));
+            }
+            return table.toString();
+        }
+
+        /**
+         * Writes each endpoint's full percentile distribution in milliseconds as an
+         * {@code .hgrm} file, which the HdrHistogram plotter can chart and compare.
+         */
+        void writeDistributions(Path directory) throws IOException {
+            Files.createDirectories(directory);
+            for (Map.Entry<String, Histogram> entry : histograms.entrySet()) {
+                try (PrintStream out = new PrintStream(
+                        Files.newOutputStream(directory.resolve(entry.getKey() + ".hgrm")))) {
+                    entry.getValue().outputPercentileDistribution(out, 1_000.0);
+                }
+            }
+        }
+
+        private static double millis(Histogram histogram, double percentile) {
+            return histogram.getValueAtPercentile(percentile) / 1_000.0;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.loadtest;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Boots the whole service against WireMock stand-ins for the course and auth services and
+ * drives the {@code /api/reviews} endpoints with an {@link OpenModelLoadGenerator}.
+ * Latency percentiles and throughput are logged per endpoint, and the full distributions
+ * are written to {@code build/reports/loadtest/<platform|virtual>}.
+ * <p>
+ * Run with {@code ./gradlew loadTest -Dloadtest.rate=300 -Dloadtest.duration=PT60S}; see
+ * {@link DownstreamStub} for the latency and error rate settings of the stand-ins. Seeded
+ * reviews have no name snapshots, so list reads go through enrichment.
+ * <p>
+ * Requests run on Tomcat's platform thread pool, sized by {@code loadtest.tomcat-threads};
+ * {@link VirtualThreadReviewApiLoadTest} repeats the same profile on virtual threads.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "jwt.secret-key=" + ReviewApiLoadTest.SECRET_KEY,
+        "spring.jpa.show-sql=false",
+        "spring.datasource.url=jdbc:h2:mem:loadtest-${random.uuid}",
+        "server.tomcat.threads.max=${loadtest.tomcat-threads:200}"
+})
+@ActiveProfiles("test")
+class ReviewApiLoadTest {
+
+    static final String SECRET_KEY = "dGhpc2lzYXZlcnlsb25nc2VjcmV0a2V5Zm9ydGVzdGluZ2p3dHRva2Vuczk4NzY1NDMyMTA=";
+
+    private static final Logger log = LoggerFactory.getLogger(ReviewApiLoadTest.class);
+
+    private static final int COURSES = Integer.getInteger("loadtest.courses", 200);
+    private static final int REVIEWS_PER_COURSE = Integer.getInteger("loadtest.reviews-per-course", 30);
+    private static final int READERS = 500;
+    private static final long FIRST_WRITER_ID = 1_000_000L;
+
+    // Shared by every load test in the JVM, like the cached application contexts using them.
+    private static final DownstreamStub courseService = DownstreamStub.courseService();
+    private static final DownstreamStub authService = DownstreamStub.authService();
+
+    private final AtomicLong nextWriterId = new AtomicLong(FIRST_WRITER_ID);
+    private final List<String> readerTokens = new ArrayList<>(READERS);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @DynamicPropertySource
+    static void downstreamServices(DynamicPropertyRegistry registry) {
+        registry.add("course-service.url", courseService::baseUrl);
+        registry.add("auth-service.url", authService::baseUrl);
+    }
+
+    @Test
+    void reviewEndpointsUnderOpenModelLoad() throws Exception {
+        double rate = Double.parseDouble(System.getProperty("loadtest.rate", "200"));
+        Duration warmup = Duration.parse(System.getProperty("loadtest.warmup", "PT10S"));
+        Duration duration = Duration.parse(System.getProperty("loadtest.duration", "PT30S"));
+        seedReviews();
+        for (long studentId = 0; studentId < READERS; studentId++) {
+            readerTokens.add(token(studentId));
+        }
+
+        OpenModelLoadGenerator.Report report = new OpenModelLoadGenerator()
+                .endpoint("course-reviews", 45, () -> get("/api/reviews/course/" + randomCourse()))
+                .endpoint("course-page", 20, () -> get("/api/reviews/course/" + randomCourse() + "/page?size=20"))
+                .endpoint("student-reviews", 15, () -> get("/api/reviews/student/" + randomReader()))
+                .endpoint("average-rating", 15, () -> get("/api/reviews/course/" + randomCourse() + "/average-rating"))
+                .endpoint("create-review", 5, this::createReview)
+                .run(rate, warmup, duration);
+
+        String threadModel = virtualThreads ? "virtual" : "platform";
+        log.info("{} req/s on {} threads for {} after {} warm-up; {}; {}{}", rate, threadModel, duration, warmup,
+                courseService.describe(), authService.describe(), report.table());
+        if (report.lateDispatches() > 0) {
+            log.warn("{} requests were dispatched late, the client could not sustain {} req/s",
+                    report.lateDispatches(), rate);
+        }
+        Timer pinned = meterRegistry.find("review.virtualthreads.pinned").timer();
+        if (pinned != null) {
+            log.info("Virtual threads pinned {} times, {} ms in total", pinned.count(),
+                    Math.round(pinned.totalTime(TimeUnit.MILLISECONDS)));
+        }
+        report.writeDistributions(Path.of(System.getProperty("loadtest.report-dir", "build/reports/loadtest"),
+                threadModel));
+
+        for (OpenModelLoadGenerator.EndpointStats endpoint : report.stats()) {
+            assertTrue(endpoint.requests() > 0, endpoint.name() + " received no requests");
+        }
+    }
+
+    /**
+     * Inserts {@code loadtest.courses} courses with {@code loadtest.reviews-per-course}
+     * reviews each. Review authors overlap with the readers, so the student endpoint has
+     * data too.
+     */
+    private void seedReviews() {
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.of(2024, 1, 1, 0, 0));
+        List<Object[]> rows = new ArrayList<>(COURSES * REVIEWS_PER_COURSE);
+        for (long courseId = 1; courseId <= COURSES; courseId++) {
+            for (long i = 0; i < REVIEWS_PER_COURSE; i++) {
+                rows.add(new Object[]{UUID.randomUUID(), courseId, courseId + i,
+                        "Synthetic review " + i, (int) (1 + (courseId + i) % 5), createdAt, createdAt});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO reviews (id, course_id, student_id, review_text, rating, "
+                + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    private HttpRequest get(String path) {
+        return request(path, readerTokens.get(randomReader())).GET().build();
+    }
+
+    /**
+     * Every write comes from a new student, so the unique (course, student) index never
+     * turns a create into a conflict.
+     */
+    private HttpRequest createReview() {
+        long studentId = nextWriterId.getAndIncrement();
+        String body = String.format("{\"courseId\": %d, \"reviewText\": \"Load test review\", \"rating\": %d}",
+                randomCourse(), 1 + studentId % 5);
+        return request("/api/reviews", token(studentId))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + token);
+    }
+
+    private String token(long studentId) {
+        return Jwts.builder()
+                .setClaims(Map.of("email", "student" + studentId + "@example.com", "roles", List.of("STUDENT")))
+                .setSubject(Long.toString(studentId))
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + Duration.ofHours(1).toMillis()))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_KEY)), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    private long randomCourse() {
+        return 1 + ThreadLocalRandom.current().nextInt(COURSES);
+    }
+
+    private int randomReader() {
+        return ThreadLocalRandom.current().nextInt(READERS);
+    }
+}
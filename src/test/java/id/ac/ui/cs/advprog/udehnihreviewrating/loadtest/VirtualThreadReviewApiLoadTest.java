@@ -0,0 +1,14 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.loadtest;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * The {@link ReviewApiLoadTest} profile with requests, scheduled work and cache refreshes
+ * on virtual threads. Compare its report with the platform-thread one from the same run,
+ * e.g. {@code ./gradlew loadTest -Dloadtest.rate=600 -Dloadtest.tomcat-threads=50}, where
+ * the downstream latency makes the platform pool the bottleneck. Pinned virtual threads
+ * are counted and their stack traces logged by {@code VirtualThreadPinningMonitor}.
+ */
+@TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+class VirtualThreadReviewApiLoadTest extends ReviewApiLoadTest {
+}
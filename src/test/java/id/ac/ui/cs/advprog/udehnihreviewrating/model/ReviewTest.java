@@ -61,7 +61,8 @@ class ReviewTest {
         LocalDateTime createdAt = LocalDateTime.now();
         LocalDateTime updatedAt = LocalDateTime.now();
 
-        Review review = new Review(id, courseId, studentId, reviewText, rating, createdAt, updatedAt);
+        Review review = new Review(id, courseId, studentId, reviewText, rating, createdAt, updatedAt,
+                null, null, null, null);
 
         assertEquals(id, review.getId());
         assertEquals(courseId, review.getCourseId());
@@ -0,0 +1,68 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.repository;
+
+import id.ac.ui.cs.advprog.udehnihreviewrating.model.CourseRatingStats;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class CourseRatingStatsRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private CourseRatingStatsRepository courseRatingStatsRepository;
+
+    @Test
+    void applyDelta_ExistingRow_ShouldIncrementTotals() {
+        entityManager.persist(CourseRatingStats.builder()
+                .courseId(1L)
+                .reviewCount(1)
+                .ratingSum(5)
+                .fiveStarCount(1)
+                .lastUpdated(LocalDateTime.now())
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        int updated = courseRatingStatsRepository.applyDelta(1L, 1, 3, 0, 0, 1, 0, 0, LocalDateTime.now());
+        entityManager.clear();
+
+        assertEquals(1, updated);
+        CourseRatingStats stats = entityManager.find(CourseRatingStats.class, 1L);
+        assertEquals(2, stats.getReviewCount());
+        assertEquals(8, stats.getRatingSum());
+        assertEquals(1, stats.getThreeStarCount());
+        assertEquals(1, stats.getFiveStarCount());
+        assertEquals(4.0, stats.getAverageRating(), 0.001);
+    }
+
+    @Test
+    void applyDelta_MissingRow_ShouldUpdateNothing() {
+        int updated = courseRatingStatsRepository.applyDelta(99L, 1, 4, 0, 0, 0, 1, 0, LocalDateTime.now());
+
+        assertEquals(0, updated);
+        assertFalse(courseRatingStatsRepository.existsById(99L));
+    }
+
+    @Test
+    void insertEmptyIfAbsent_ShouldCreateRowOnlyOnce() {
+        assertEquals(1, courseRatingStatsRepository.insertEmptyIfAbsent(7L, LocalDateTime.now()));
+        courseRatingStatsRepository.applyDelta(7L, 1, 4, 0, 0, 0, 1, 0, LocalDateTime.now());
+
+        assertEquals(0, courseRatingStatsRepository.insertEmptyIfAbsent(7L, LocalDateTime.now()));
+        entityManager.clear();
+
+        CourseRatingStats stats = entityManager.find(CourseRatingStats.class, 7L);
+        assertEquals(1, stats.getReviewCount());
+        assertEquals(4, stats.getRatingSum());
+    }
+}
@@ -0,0 +1,106 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.repository;
+
+import id.ac.ui.cs.advprog.udehnihreviewrating.factory.TimeOrderedUuids;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares insert throughput into the fully migrated reviews table with random (v4) and
+ * time-ordered (v7) primary keys. On PostgreSQL the size of the primary key index is
+ * reported as well; random keys split pages all over the index and leave it larger.
+ * <p>
+ * Run with {@code ./gradlew benchmark -Dbenchmark.reviews=200000}, optionally against a
+ * scratch PostgreSQL database through {@code benchmark.jdbc.url}.
+ */
+class ReviewIdInsertBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(ReviewIdInsertBenchmark.class);
+
+    private static final int COURSES = 1000;
+    private static final int INSERT_BATCH_SIZE = 1000;
+
+    @Test
+    void compareRandomAndTimeOrderedIds() {
+        int reviews = Integer.getInteger("benchmark.reviews", 200_000);
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                System.getProperty("benchmark.jdbc.url", "jdbc:h2:mem:review-id-benchmark;DB_CLOSE_DELAY=-1"),
+                System.getProperty("benchmark.jdbc.username", "sa"),
+                System.getProperty("benchmark.jdbc.password", ""));
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        Flyway flyway = Flyway.configure().dataSource(dataSource).cleanDisabled(false).load();
+
+        // Warm up the JIT and the connection before either measured run.
+        flyway.clean();
+        flyway.migrate();
+        insert(jdbcTemplate, Math.min(reviews, 20_000), UUID::randomUUID);
+
+        flyway.clean();
+        flyway.migrate();
+        double randomRate = insert(jdbcTemplate, reviews, UUID::randomUUID);
+        String randomIndexSize = primaryKeySize(jdbcTemplate);
+
+        flyway.clean();
+        flyway.migrate();
+        double orderedRate = insert(jdbcTemplate, reviews, TimeOrderedUuids::next);
+        String orderedIndexSize = primaryKeySize(jdbcTemplate);
+
+        log.info("{} reviews with UUIDv4 ids: {} rows/s, primary key index {}",
+                reviews, Math.round(randomRate), randomIndexSize);
+        log.info("{} reviews with UUIDv7 ids: {} rows/s, primary key index {}",
+                reviews, Math.round(orderedRate), orderedIndexSize);
+
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM reviews", Integer.class);
+        assertEquals(reviews, count);
+    }
+
+    /**
+     * Inserts {@code reviews} rows in JDBC batches and returns the rate in rows per second.
+     */
+    private double insert(JdbcTemplate jdbcTemplate, int reviews, Supplier<UUID> ids) {
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        long startedAt = System.nanoTime();
+
+        for (int from = 0; from < reviews; from += INSERT_BATCH_SIZE) {
+            List<Object[]> rows = new ArrayList<>(INSERT_BATCH_SIZE);
+            for (int i = from; i < Math.min(reviews, from + INSERT_BATCH_SIZE); i++) {
+                Timestamp createdAt = Timestamp.valueOf(start.plusSeconds(i));
+                rows.add(new Object[]{
+                        ids.get(), (long) (i % COURSES), (long) (i / COURSES),
+                        "Synthetic review " + i, 1 + i % 5, createdAt, createdAt});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO reviews (id, course_id, student_id, review_text, rating, "
+                    + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)", rows);
+        }
+
+        double seconds = (System.nanoTime() - startedAt) / 1e9;
+        return reviews / seconds;
+    }
+
+    private String primaryKeySize(JdbcTemplate jdbcTemplate) {
+        if (!isPostgres(jdbcTemplate)) {
+            return "n/a";
+        }
+        return jdbcTemplate.queryForObject("SELECT pg_size_pretty(pg_relation_size('reviews_pkey'))", String.class);
+    }
+
+    private boolean isPostgres(JdbcTemplate jdbcTemplate) {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        return product != null && product.toLowerCase(Locale.ROOT).contains("postgres");
+    }
+}
@@ -0,0 +1,142 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the review access paths on a large synthetic table before and after the
+ * V2 index migration. Runs against an in-memory H2 database by default; point
+ * {@code benchmark.jdbc.url} at a scratch PostgreSQL database for production-like plans.
+ * <p>
+ * Run with {@code ./gradlew benchmark -Dbenchmark.reviews=200000}.
+ */
+class ReviewRepositoryIndexBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(ReviewRepositoryIndexBenchmark.class);
+
+    private static final int COURSES = 1000;
+    private static final int INSERT_BATCH_SIZE = 5000;
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int MEASURED_ITERATIONS = 200;
+
+    private static final String BY_COURSE =
+            "SELECT * FROM reviews WHERE course_id = ? ORDER BY created_at DESC, id DESC LIMIT 20";
+    private static final String BY_STUDENT =
+            "SELECT * FROM reviews WHERE student_id = ? ORDER BY created_at DESC, id DESC LIMIT 20";
+    private static final String BY_COURSE_AND_STUDENT =
+            "SELECT * FROM reviews WHERE course_id = ? AND student_id = ?";
+
+    @Test
+    void compareAccessPathsBeforeAndAfterIndexes() {
+        int reviews = Integer.getInteger("benchmark.reviews", 200_000);
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                System.getProperty("benchmark.jdbc.url", "jdbc:h2:mem:review-benchmark;DB_CLOSE_DELAY=-1"),
+                System.getProperty("benchmark.jdbc.username", "sa"),
+                System.getProperty("benchmark.jdbc.password", ""));
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        Flyway.configure().dataSource(dataSource).cleanDisabled(false).load().clean();
+        Flyway.configure().dataSource(dataSource).target("1").load().migrate();
+        populate(jdbcTemplate, reviews);
+
+        long courseId = COURSES / 2;
+        long studentId = (reviews / COURSES) / 2;
+        log.info("Synthetic table: {} reviews over {} courses and {} students",
+                reviews, COURSES, reviews / COURSES);
+
+        Map<String, long[]> before = measure(jdbcTemplate, courseId, studentId, "before V2");
+
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        jdbcTemplate.execute(isPostgres(jdbcTemplate) ? "ANALYZE reviews" : "ANALYZE");
+
+        Map<String, long[]> after = measure(jdbcTemplate, courseId, studentId, "after V2");
+
+        before.forEach((query, timings) -> log.info("{}: median {} us -> {} us, p95 {} us -> {} us",
+                query, timings[0], after.get(query)[0], timings[1], after.get(query)[1]));
+
+        String coursePlan = plan(jdbcTemplate, BY_COURSE, courseId);
+        String studentPlan = plan(jdbcTemplate, BY_STUDENT, studentId);
+        String pairPlan = plan(jdbcTemplate, BY_COURSE_AND_STUDENT, courseId, studentId);
+        assertTrue(coursePlan.contains("ix_reviews_course_created"), coursePlan);
+        assertTrue(studentPlan.contains("ix_reviews_student_created"), studentPlan);
+        assertTrue(pairPlan.contains("ux_reviews_course_student"), pairPlan);
+    }
+
+    private void populate(JdbcTemplate jdbcTemplate, int reviews) {
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        long startedAt = System.nanoTime();
+
+        for (int from = 0; from < reviews; from += INSERT_BATCH_SIZE) {
+            List<Object[]> rows = new ArrayList<>(INSERT_BATCH_SIZE);
+            for (int i = from; i < Math.min(reviews, from + INSERT_BATCH_SIZE); i++) {
+                Timestamp createdAt = Timestamp.valueOf(start.plusSeconds(i * 37L % 31_536_000L));
+                rows.add(new Object[]{
+                        UUID.randomUUID(), (long) (i % COURSES), (long) (i / COURSES),
+                        "Synthetic review " + i, 1 + i % 5, createdAt, createdAt});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO reviews (id, course_id, student_id, review_text, rating, "
+                    + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)", rows);
+        }
+
+        log.info("Inserted {} reviews in {} ms", reviews, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    private Map<String, long[]> measure(JdbcTemplate jdbcTemplate, long courseId, long studentId, String label) {
+        Map<String, long[]> timings = new LinkedHashMap<>();
+        timings.put("course listing", time(jdbcTemplate, BY_COURSE, courseId));
+        timings.put("student listing", time(jdbcTemplate, BY_STUDENT, studentId));
+        timings.put("course and student lookup", time(jdbcTemplate, BY_COURSE_AND_STUDENT, courseId, studentId));
+
+        log.info("Plans {}:\n{}\n{}\n{}", label,
+                plan(jdbcTemplate, BY_COURSE, courseId),
+                plan(jdbcTemplate, BY_STUDENT, studentId),
+                plan(jdbcTemplate, BY_COURSE_AND_STUDENT, courseId, studentId));
+        return timings;
+    }
+
+    /**
+     * Returns the median and 95th percentile latency in microseconds.
+     */
+    private long[] time(JdbcTemplate jdbcTemplate, String sql, Object... args) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            jdbcTemplate.queryForList(sql, args);
+        }
+
+        long[] samples = new long[MEASURED_ITERATIONS];
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            long startedAt = System.nanoTime();
+            jdbcTemplate.queryForList(sql, args);
+            samples[i] = (System.nanoTime() - startedAt) / 1_000;
+        }
+        Arrays.sort(samples);
+        return new long[]{samples[MEASURED_ITERATIONS / 2], samples[MEASURED_ITERATIONS * 95 / 100]};
+    }
+
+    private String plan(JdbcTemplate jdbcTemplate, String sql, Object... args) {
+        List<String> lines = jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, args);
+        return String.join("\n", lines).toLowerCase(Locale.ROOT);
+    }
+
+    private boolean isPostgres(JdbcTemplate jdbcTemplate) {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        return product != null && product.toLowerCase(Locale.ROOT).contains("postgres");
+    }
+}
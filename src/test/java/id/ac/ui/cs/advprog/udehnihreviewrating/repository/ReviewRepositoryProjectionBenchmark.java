@@ -0,0 +1,128 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.repository;
+
+import id.ac.ui.cs.advprog.udehnihreviewrating.model.Review;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares loading one course's reviews as managed {@link Review} entities with loading
+ * them as {@link ReviewView} projections. Each call is followed by a flush and a clear,
+ * as at the end of a request, so the entity path also pays for dirty checking.
+ * <p>
+ * Run with {@code ./gradlew benchmark -Dbenchmark.reviews=10000}.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+class ReviewRepositoryProjectionBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(ReviewRepositoryProjectionBenchmark.class);
+
+    private static final long COURSE_ID = 42L;
+    private static final int INSERT_BATCH_SIZE = 5000;
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASURED_ITERATIONS = 50;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void compareEntityAndProjectionLoading() {
+        int reviews = Integer.getInteger("benchmark.reviews", 10_000);
+        populate(new JdbcTemplate(dataSource), reviews);
+
+        long[] entities = measure(this::findEntitiesByCourseId);
+        long[] views = measure(() -> reviewRepository.findViewsByCourseId(COURSE_ID));
+
+        log.info("{} reviews as entities: median {} us, p95 {} us, {} KB allocated per call",
+                reviews, entities[0], entities[1], entities[2] / 1024);
+        log.info("{} reviews as projections: median {} us, p95 {} us, {} KB allocated per call",
+                reviews, views[0], views[1], views[2] / 1024);
+
+        assertEquals(reviews, reviewRepository.findViewsByCourseId(COURSE_ID).size());
+        assertTrue(views[2] < entities[2], "projections should allocate less than entities");
+    }
+
+    /**
+     * The entity path has no production caller any more, so it is queried here directly.
+     */
+    private List<Review> findEntitiesByCourseId() {
+        return entityManager.getEntityManager()
+                .createQuery("select r from Review r where r.courseId = :courseId", Review.class)
+                .setParameter("courseId", COURSE_ID)
+                .getResultList();
+    }
+
+    private void populate(JdbcTemplate jdbcTemplate, int reviews) {
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        for (int from = 0; from < reviews; from += INSERT_BATCH_SIZE) {
+            List<Object[]> rows = new ArrayList<>(INSERT_BATCH_SIZE);
+            for (int i = from; i < Math.min(reviews, from + INSERT_BATCH_SIZE); i++) {
+                Timestamp createdAt = Timestamp.valueOf(start.plusSeconds(i * 37L));
+                rows.add(new Object[]{
+                        UUID.randomUUID(), COURSE_ID, (long) i, "Synthetic review " + i, 1 + i % 5,
+                        createdAt, createdAt, "Advanced Programming", "Student " + i});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO reviews (id, course_id, student_id, review_text, rating, "
+                    + "created_at, updated_at, course_title, student_name) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        }
+    }
+
+    /**
+     * Returns the median and 95th percentile latency in microseconds and the median number
+     * of bytes allocated per call.
+     */
+    private long[] measure(Supplier<List<?>> query) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            runOnce(query);
+        }
+
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long[] latencies = new long[MEASURED_ITERATIONS];
+        long[] allocations = new long[MEASURED_ITERATIONS];
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+            long startedAt = System.nanoTime();
+            runOnce(query);
+            latencies[i] = (System.nanoTime() - startedAt) / 1_000;
+            allocations[i] = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        }
+        Arrays.sort(latencies);
+        Arrays.sort(allocations);
+        return new long[]{
+                latencies[MEASURED_ITERATIONS / 2],
+                latencies[MEASURED_ITERATIONS * 95 / 100],
+                allocations[MEASURED_ITERATIONS / 2]};
+    }
+
+    private void runOnce(Supplier<List<?>> query) {
+        assertFalse(query.get().isEmpty());
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
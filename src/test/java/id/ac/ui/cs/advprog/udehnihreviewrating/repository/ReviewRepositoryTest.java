@@ -1,16 +1,22 @@
 package id.ac.ui.cs.advprog.udehnihreviewrating.repository;
 
 import id.ac.ui.cs.advprog.udehnihreviewrating.model.Review;
+import id.ac.ui.cs.advprog.udehnihreviewrating.model.ReviewSort;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -60,7 +66,7 @@ class ReviewRepositoryTest {
     }
 
     @Test
-    void findByCourseId_ExistingCourse_ShouldReturnReviews() {
+    void findViewsByCourseId_ExistingCourse_ShouldReturnReviews() {
         Long courseId = 123L;
         LocalDateTime now = LocalDateTime.now();
 
@@ -99,7 +105,7 @@ class ReviewRepositoryTest {
         entityManager.persist(otherCourseReview);
         entityManager.flush();
 
-        List<Review> courseReviews = reviewRepository.findByCourseId(courseId);
+        List<ReviewView> courseReviews = reviewRepository.findViewsByCourseId(courseId);
 
         assertEquals(2, courseReviews.size());
         assertTrue(courseReviews.stream().anyMatch(r -> r.getStudentId().equals(1L)));
@@ -108,14 +114,39 @@ class ReviewRepositoryTest {
     }
 
     @Test
-    void findByCourseId_NonExistingCourse_ShouldReturnEmptyList() {
-        List<Review> courseReviews = reviewRepository.findByCourseId(999L);
+    void findViewsByCourseId_ShouldProjectRowsWithoutManagingEntities() {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+        Review review = Review.builder()
+                .id(UUID.randomUUID())
+                .courseId(123L)
+                .studentId(1L)
+                .reviewText("Projected review")
+                .rating(4)
+                .createdAt(now)
+                .updatedAt(now)
+                .courseTitle("Advanced Programming")
+                .studentName("Jane Smith")
+                .build();
+        entityManager.persist(review);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<ReviewView> views = reviewRepository.findViewsByCourseId(123L);
+
+        assertEquals(List.of(ReviewView.of(review)), views);
+        assertEquals(1, reviewRepository.findViewsByStudentId(1L).size());
+        assertTrue(isPersistenceContextEmpty());
+    }
+
+    @Test
+    void findViewsByCourseId_NonExistingCourse_ShouldReturnEmptyList() {
+        List<ReviewView> courseReviews = reviewRepository.findViewsByCourseId(999L);
 
         assertTrue(courseReviews.isEmpty());
     }
 
     @Test
-    void findByStudentId_ExistingStudent_ShouldReturnReviews() {
+    void findViewsByStudentId_ExistingStudent_ShouldReturnReviews() {
         Long studentId = 456L;
         LocalDateTime now = LocalDateTime.now();
 
@@ -154,7 +185,7 @@ class ReviewRepositoryTest {
         entityManager.persist(otherStudentReview);
         entityManager.flush();
 
-        List<Review> studentReviews = reviewRepository.findByStudentId(studentId);
+        List<ReviewView> studentReviews = reviewRepository.findViewsByStudentId(studentId);
 
         assertEquals(2, studentReviews.size());
         assertTrue(studentReviews.stream().anyMatch(r -> r.getCourseId().equals(1L)));
@@ -163,8 +194,8 @@ class ReviewRepositoryTest {
     }
 
     @Test
-    void findByStudentId_NonExistingStudent_ShouldReturnEmptyList() {
-        List<Review> studentReviews = reviewRepository.findByStudentId(999L);
+    void findViewsByStudentId_NonExistingStudent_ShouldReturnEmptyList() {
+        List<ReviewView> studentReviews = reviewRepository.findViewsByStudentId(999L);
 
         assertTrue(studentReviews.isEmpty());
     }
@@ -253,4 +284,218 @@ class ReviewRepositoryTest {
 
         assertNull(entityManager.find(Review.class, id));
     }
-}
\ No newline at end of file
+
+    @Test
+    void deleteReviewById_ShouldReturnNumberOfDeletedRows() {
+        UUID id = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        entityManager.persist(Review.builder()
+                .id(id)
+                .courseId(123L)
+                .studentId(456L)
+                .rating(3)
+                .createdAt(now)
+                .updatedAt(now)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(1, reviewRepository.deleteReviewById(id));
+        assertEquals(0, reviewRepository.deleteReviewById(id));
+        assertTrue(reviewRepository.findForUpdateById(id).isEmpty());
+    }
+
+    @Test
+    void countRatingsByCourse_ShouldGroupByCourseAndRating() {
+        LocalDateTime now = LocalDateTime.now();
+        int[][] reviews = {{1, 5}, {1, 5}, {1, 3}, {2, 4}};
+        long studentId = 1L;
+        for (int[] courseAndRating : reviews) {
+            entityManager.persist(Review.builder()
+                    .id(UUID.randomUUID())
+                    .courseId((long) courseAndRating[0])
+                    .studentId(studentId++)
+                    .rating(courseAndRating[1])
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+        entityManager.flush();
+
+        List<CourseRatingCount> counts = reviewRepository.countRatingsByCourse();
+
+        assertEquals(3, counts.size());
+        CourseRatingCount fiveStars = counts.stream()
+                .filter(count -> count.getCourseId() == 1L && count.getRating() == 5)
+                .findFirst()
+                .orElseThrow();
+        assertEquals(2, fiveStars.getReviewCount());
+    }
+
+    @Test
+    void findPageByCourseId_ShouldWalkAllReviewsWithoutGapsOrDuplicates() {
+        Long courseId = 321L;
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 12, 0);
+        int[] ratings = {5, 3, 5, 1, 4, 5, 2};
+        for (int i = 0; i < ratings.length; i++) {
+            LocalDateTime createdAt = base.plusMinutes(i / 2);
+            entityManager.persist(Review.builder()
+                    .id(UUID.randomUUID())
+                    .courseId(courseId)
+                    .studentId((long) i)
+                    .rating(ratings[i])
+                    .createdAt(createdAt)
+                    .updatedAt(createdAt)
+                    .build());
+        }
+        entityManager.persist(Review.builder()
+                .id(UUID.randomUUID())
+                .courseId(999L)
+                .studentId(100L)
+                .rating(5)
+                .createdAt(base)
+                .updatedAt(base)
+                .build());
+        entityManager.flush();
+
+        for (ReviewSort sort : ReviewSort.values()) {
+            List<ReviewView> walked = new ArrayList<>();
+            ReviewKeyset after = null;
+            List<ReviewView> page;
+            do {
+                page = reviewRepository.findPageByCourseId(courseId, sort, after, 3);
+                walked.addAll(page);
+                if (!page.isEmpty()) {
+                    after = ReviewKeyset.of(page.get(page.size() - 1));
+                }
+            } while (page.size() == 3);
+
+            List<ReviewView> expected = reviewRepository.findPageByCourseId(courseId, sort, null, 100);
+            assertEquals(ratings.length, expected.size());
+            assertEquals(expected, walked, "sort " + sort);
+        }
+
+        List<ReviewView> highest = reviewRepository.findPageByCourseId(courseId, ReviewSort.HIGHEST, null, 100);
+        assertEquals(5, highest.get(0).getRating());
+        assertEquals(1, highest.get(highest.size() - 1).getRating());
+        List<ReviewView> newest = reviewRepository.findPageByCourseId(courseId, ReviewSort.NEWEST, null, 100);
+        assertFalse(newest.get(0).getCreatedAt().isBefore(newest.get(1).getCreatedAt()));
+    }
+
+    @Test
+    void save_DuplicateCourseAndStudent_ShouldBeRejected() {
+        LocalDateTime now = LocalDateTime.now();
+        entityManager.persist(Review.builder()
+                .id(UUID.randomUUID())
+                .courseId(123L)
+                .studentId(456L)
+                .rating(5)
+                .createdAt(now)
+                .updatedAt(now)
+                .build());
+        entityManager.flush();
+
+        Review duplicate = Review.builder()
+                .id(UUID.randomUUID())
+                .courseId(123L)
+                .studentId(456L)
+                .rating(1)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+
+        assertThrows(DataIntegrityViolationException.class, () -> reviewRepository.saveAndFlush(duplicate));
+    }
+
+    @Test
+    void streamByCourseId_ShouldReturnNewestFirstWithoutManagingEntities() {
+        Long courseId = 555L;
+        LocalDateTime now = LocalDateTime.now();
+        for (long i = 0; i < 3; i++) {
+            entityManager.persist(Review.builder()
+                    .id(UUID.randomUUID())
+                    .courseId(courseId)
+                    .studentId(i)
+                    .rating(4)
+                    .createdAt(now.minusDays(i))
+                    .updatedAt(now.minusDays(i))
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        List<ReviewView> streamed;
+        try (Stream<ReviewView> reviews = reviewRepository.streamByCourseId(courseId, 2)) {
+            streamed = reviews.toList();
+        }
+
+        assertEquals(3, streamed.size());
+        assertEquals(0L, streamed.get(0).getStudentId());
+        assertEquals(2L, streamed.get(2).getStudentId());
+        assertTrue(isPersistenceContextEmpty());
+    }
+
+    @Test
+    void findCourseIdsWithStaleSnapshot_ShouldReturnCoursesWithMissingOrOldSnapshots() {
+        LocalDateTime now = LocalDateTime.now();
+        persistWithSnapshot(1L, 10L, null);
+        persistWithSnapshot(2L, 11L, now.minusDays(2));
+        persistWithSnapshot(3L, 12L, now);
+        entityManager.flush();
+
+        List<Long> stale = reviewRepository.findCourseIdsWithStaleSnapshot(now.minusDays(1), PageRequest.of(0, 10));
+
+        assertEquals(2, stale.size());
+        assertTrue(stale.containsAll(List.of(1L, 2L)));
+        assertEquals(1, reviewRepository.countByCourseIdIsNotNullAndCourseSnapshotAtIsNull());
+    }
+
+    @Test
+    void updateCourseSnapshot_ShouldRewriteEveryReviewOfTheCourse() {
+        LocalDateTime snapshotAt = LocalDateTime.now();
+        Review first = persistWithSnapshot(1L, 10L, null);
+        Review second = persistWithSnapshot(1L, 11L, null);
+        entityManager.flush();
+
+        int updated = reviewRepository.updateCourseSnapshot(1L, "Advanced Programming", snapshotAt);
+        entityManager.clear();
+
+        assertEquals(2, updated);
+        assertEquals("Advanced Programming", reviewRepository.findById(first.getId()).orElseThrow().getCourseTitle());
+        assertEquals("Advanced Programming", reviewRepository.findById(second.getId()).orElseThrow().getCourseTitle());
+    }
+
+    @Test
+    void updateCourseSnapshot_NullTitle_ShouldKeepPreviousTitle() {
+        Review review = persistWithSnapshot(1L, 10L, LocalDateTime.now().minusDays(2));
+        entityManager.flush();
+
+        reviewRepository.updateCourseSnapshot(1L, null, LocalDateTime.now());
+        entityManager.clear();
+
+        Review found = reviewRepository.findById(review.getId()).orElseThrow();
+        assertEquals("Course 1", found.getCourseTitle());
+        assertTrue(found.getCourseSnapshotAt().isAfter(LocalDateTime.now().minusDays(1)));
+    }
+
+    private Review persistWithSnapshot(Long courseId, Long studentId, LocalDateTime snapshotAt) {
+        LocalDateTime now = LocalDateTime.now();
+        Review review = Review.builder()
+                .id(UUID.randomUUID())
+                .courseId(courseId)
+                .studentId(studentId)
+                .reviewText("Snapshot review")
+                .rating(4)
+                .createdAt(now)
+                .updatedAt(now)
+                .courseTitle(snapshotAt == null ? null : "Course " + courseId)
+                .courseSnapshotAt(snapshotAt)
+                .build();
+        return entityManager.persist(review);
+    }
+
+    private boolean isPersistenceContextEmpty() {
+        return entityManager.getEntityManager().unwrap(SessionImplementor.class)
+                .getPersistenceContext().getNumberOfManagedEntities() == 0;
+    }
+}
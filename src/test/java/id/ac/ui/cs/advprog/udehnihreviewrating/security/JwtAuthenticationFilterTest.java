@@ -5,6 +5,7 @@ import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -12,16 +13,15 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.IOException;
 import java.security.Key;
+import java.time.Duration;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -30,8 +30,6 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class JwtAuthenticationFilterTest {
 
-    @Spy
-    @InjectMocks
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
     @Mock
@@ -48,7 +46,8 @@ class JwtAuthenticationFilterTest {
 
     @BeforeEach
     void setUp() {
-        ReflectionTestUtils.setField(jwtAuthenticationFilter, "secretKey", secretKey);
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(
+                secretKey, 100, Duration.ofMinutes(10), new SimpleMeterRegistry());
         SecurityContextHolder.clearContext();
     }
 
@@ -68,6 +67,22 @@ class JwtAuthenticationFilterTest {
         assertEquals(testId, ((StudentDetails) authentication.getPrincipal()).getId());
     }
 
+    @Test
+    void testDoFilterInternal_WithRolesClaim_ShouldGrantClaimedRoles() throws ServletException, IOException {
+        String token = generateValidToken();
+
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
+
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertNotNull(authentication);
+        List<String> authorities = authentication.getAuthorities().stream()
+                .map(authority -> authority.getAuthority())
+                .toList();
+        assertEquals(List.of("ROLE_STUDENT", "ROLE_USER"), authorities);
+    }
+
     @Test
     void testDoFilterInternal_WithInvalidToken() throws ServletException, IOException {
         when(request.getHeader("Authorization")).thenReturn("Bearer invalidtoken");
@@ -112,7 +127,66 @@ class JwtAuthenticationFilterTest {
         assertNull(SecurityContextHolder.getContext().getAuthentication());
     }
 
+    @Test
+    void authenticate_SameTokenTwice_ShouldReuseVerifiedPrincipal() {
+        String token = generateValidToken();
+
+        StudentDetails first = jwtAuthenticationFilter.authenticate(token);
+        StudentDetails second = jwtAuthenticationFilter.authenticate(token);
+
+        assertNotNull(first);
+        assertSame(first, second);
+    }
+
+    @Test
+    void authenticate_CacheDisabled_ShouldVerifyEveryTime() {
+        JwtAuthenticationFilter uncachedFilter = new JwtAuthenticationFilter(
+                secretKey, 0, Duration.ofMinutes(10), null);
+        String token = generateValidToken();
+
+        StudentDetails first = uncachedFilter.authenticate(token);
+        StudentDetails second = uncachedFilter.authenticate(token);
+
+        assertEquals(testId, first.getId());
+        assertEquals(testId, second.getId());
+        assertNotSame(first, second);
+    }
+
+    @Test
+    void authenticate_ExpiredToken_ShouldReject() {
+        String token = generateToken(System.currentTimeMillis() - 1000);
+
+        assertNull(jwtAuthenticationFilter.authenticate(token));
+    }
+
+    @Test
+    void authenticate_InvalidSecretKey_ShouldRejectWithoutThrowing() {
+        JwtAuthenticationFilter misconfiguredFilter = new JwtAuthenticationFilter(
+                "not-a-key", 100, Duration.ofMinutes(10), null);
+
+        assertNull(misconfiguredFilter.authenticate(generateValidToken()));
+    }
+
+    @Test
+    void shouldNotFilter_PublicRoutes_ShouldSkipTokenParsing() {
+        assertTrue(jwtAuthenticationFilter.shouldNotFilter(servletRequest("GET", "/api/reviews/course/1/average-rating")));
+        assertTrue(jwtAuthenticationFilter.shouldNotFilter(servletRequest("GET", "/api/reviews/course/average-ratings")));
+        assertTrue(jwtAuthenticationFilter.shouldNotFilter(servletRequest("GET", "/health")));
+        assertFalse(jwtAuthenticationFilter.shouldNotFilter(servletRequest("GET", "/api/reviews/course/1")));
+        assertFalse(jwtAuthenticationFilter.shouldNotFilter(servletRequest("POST", "/api/reviews")));
+    }
+
+    private MockHttpServletRequest servletRequest(String method, String path) {
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest(method, path);
+        servletRequest.setServletPath(path);
+        return servletRequest;
+    }
+
     private String generateValidToken() {
+        return generateToken(System.currentTimeMillis() + 3600000);
+    }
+
+    private String generateToken(long expiresAtMillis) {
         Map<String, Object> claims = new HashMap<>();
         List<String> roles = Arrays.asList("STUDENT", "USER");
         claims.put("roles", roles);
@@ -121,7 +195,7 @@ class JwtAuthenticationFilterTest {
                 .setClaims(claims)
                 .setSubject(testId.toString())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + 3600000))
+                .setExpiration(new Date(expiresAtMillis))
                 .signWith(getSigningKey(), SignatureAlgorithm.HS256)
                 .compact();
     }
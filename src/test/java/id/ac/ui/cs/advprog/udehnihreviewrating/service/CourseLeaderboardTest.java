@@ -0,0 +1,96 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.service;
+
+import id.ac.ui.cs.advprog.udehnihreviewrating.config.RatingStatsProperties;
+import id.ac.ui.cs.advprog.udehnihreviewrating.model.CourseRatingStats;
+import id.ac.ui.cs.advprog.udehnihreviewrating.repository.CourseRatingStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CourseLeaderboardTest {
+
+    @Mock
+    private CourseRatingStatsRepository courseRatingStatsRepository;
+
+    private CourseLeaderboard leaderboard;
+
+    @BeforeEach
+    void setUp() {
+        RatingStatsProperties properties = new RatingStatsProperties();
+        properties.getLeaderboard().setPriorMean(3.0);
+        properties.getLeaderboard().setPriorWeight(10);
+        leaderboard = new CourseLeaderboard(courseRatingStatsRepository, properties);
+    }
+
+    @Test
+    void singleFiveStarReview_ShouldNotOutrankManyGoodReviews() {
+        leaderboard.apply(1L, 1, 5);
+        leaderboard.apply(2L, 200, 900);
+
+        List<CourseLeaderboard.Entry> top = leaderboard.top(2);
+
+        assertEquals(2L, top.get(0).courseId());
+        assertEquals(1L, top.get(1).courseId());
+        assertEquals((10 * 3.0 + 5) / 11, top.get(1).bayesianRating(), 1e-9);
+        assertEquals(5.0, top.get(1).averageRating());
+    }
+
+    @Test
+    void apply_ShouldMoveCourseToItsNewPlace() {
+        leaderboard.apply(1L, 20, 80);
+        leaderboard.apply(2L, 20, 70);
+
+        leaderboard.apply(2L, 20, 100);
+
+        assertEquals(List.of(2L, 1L), courseIds(leaderboard.top(10)));
+        assertEquals(40, leaderboard.top(1).get(0).reviewCount());
+    }
+
+    @Test
+    void apply_LastReviewDeleted_ShouldDropCourse() {
+        leaderboard.apply(1L, 1, 4);
+        leaderboard.apply(2L, 1, 3);
+
+        leaderboard.apply(1L, -1, -4);
+
+        assertEquals(List.of(2L), courseIds(leaderboard.top(10)));
+    }
+
+    @Test
+    void top_ShouldReturnAtMostKCoursesWithTiesByReviewCountThenId() {
+        leaderboard.apply(3L, 10, 40);
+        leaderboard.apply(1L, 10, 40);
+        leaderboard.apply(2L, 10, 40);
+        leaderboard.apply(4L, 1, 3);
+
+        assertEquals(List.of(1L, 2L), courseIds(leaderboard.top(2)));
+        assertEquals(4, leaderboard.top(100).size());
+    }
+
+    @Test
+    void load_ShouldReplaceRankingWithStoredTotals() {
+        leaderboard.apply(9L, 5, 25);
+        CourseRatingStats good = CourseRatingStats.empty(1L);
+        good.addRating(5, 30);
+        CourseRatingStats noReviews = CourseRatingStats.empty(2L);
+        when(courseRatingStatsRepository.findAll()).thenReturn(List.of(good, noReviews));
+
+        leaderboard.load();
+
+        List<CourseLeaderboard.Entry> top = leaderboard.top(10);
+        assertEquals(List.of(1L), courseIds(top));
+        assertEquals(150, top.get(0).ratingSum());
+    }
+
+    private List<Long> courseIds(List<CourseLeaderboard.Entry> entries) {
+        return entries.stream().map(CourseLeaderboard.Entry::courseId).toList();
+    }
+}
@@ -0,0 +1,286 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.service;
+
+import id.ac.ui.cs.advprog.udehnihreviewrating.config.RatingStatsProperties;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.response.CourseRatingSummaryResponse;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.response.TopRatedCourseResponse;
+import id.ac.ui.cs.advprog.udehnihreviewrating.exception.InvalidRatingRequestException;
+import id.ac.ui.cs.advprog.udehnihreviewrating.model.CourseRatingStats;
+import id.ac.ui.cs.advprog.udehnihreviewrating.repository.CourseRatingCount;
+import id.ac.ui.cs.advprog.udehnihreviewrating.repository.CourseRatingStatsRepository;
+import id.ac.ui.cs.advprog.udehnihreviewrating.repository.ReviewRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CourseRatingStatsServiceImplTest {
+
+    @Mock
+    private CourseRatingStatsRepository courseRatingStatsRepository;
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private CourseLeaderboard courseLeaderboard;
+
+    private RatingStatsProperties properties;
+
+    private CourseRatingStatsServiceImpl courseRatingStatsService;
+
+    private final Long courseId = 1L;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RatingStatsProperties();
+        courseRatingStatsService = new CourseRatingStatsServiceImpl(
+                courseRatingStatsRepository, reviewRepository, properties, courseLeaderboard);
+    }
+
+    @Test
+    void recordUpdated_ShouldApplyDeltaToLeaderboardOnlyAfterCommit() {
+        when(courseRatingStatsRepository.applyDelta(eq(courseId), eq(0L), eq(3L),
+                eq(0L), eq(-1L), eq(0L), eq(0L), eq(1L), any())).thenReturn(1);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            courseRatingStatsService.recordUpdated(courseId, 2, 5);
+            verifyNoInteractions(courseLeaderboard);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(courseLeaderboard).apply(courseId, 0L, 3L);
+    }
+
+    @Test
+    void getTopRatedCourses_ShouldRankLeaderboardEntries() {
+        when(courseLeaderboard.top(10)).thenReturn(List.of(
+                new CourseLeaderboard.Entry(7L, 40, 180, 4.28),
+                new CourseLeaderboard.Entry(3L, 1, 5, 3.18)));
+
+        List<TopRatedCourseResponse> top = courseRatingStatsService.getTopRatedCourses(null);
+
+        assertEquals(2, top.size());
+        assertEquals(1, top.get(0).getRank());
+        assertEquals(7L, top.get(0).getCourseId());
+        assertEquals(4.5, top.get(0).getAverageRating());
+        assertEquals(2, top.get(1).getRank());
+        assertEquals(1, top.get(1).getReviewCount());
+    }
+
+    @Test
+    void getTopRatedCourses_OversizedRequest_ShouldBeCapped() {
+        when(courseLeaderboard.top(100)).thenReturn(List.of());
+
+        assertTrue(courseRatingStatsService.getTopRatedCourses(5_000).isEmpty());
+    }
+
+    @Test
+    void getTopRatedCourses_NonPositiveSize_ShouldThrow() {
+        assertThrows(InvalidRatingRequestException.class, () -> courseRatingStatsService.getTopRatedCourses(0));
+        verifyNoInteractions(courseLeaderboard);
+    }
+
+    @Test
+    void recordCreated_ExistingRow_ShouldApplySingleDelta() {
+        when(courseRatingStatsRepository.applyDelta(eq(courseId), eq(1L), eq(4L),
+                eq(0L), eq(0L), eq(0L), eq(1L), eq(0L), any())).thenReturn(1);
+
+        courseRatingStatsService.recordCreated(courseId, 4);
+
+        verify(courseRatingStatsRepository, never()).insertEmptyIfAbsent(anyLong(), any());
+    }
+
+    @Test
+    void recordCreated_FirstReview_ShouldCreateRowThenApplyDelta() {
+        when(courseRatingStatsRepository.applyDelta(eq(courseId), anyLong(), anyLong(),
+                anyLong(), anyLong(), anyLong(), anyLong(), anyLong(), any())).thenReturn(0, 1);
+        when(courseRatingStatsRepository.insertEmptyIfAbsent(eq(courseId), any())).thenReturn(1);
+
+        courseRatingStatsService.recordCreated(courseId, 5);
+
+        verify(courseRatingStatsRepository).insertEmptyIfAbsent(eq(courseId), any());
+        verify(courseRatingStatsRepository, times(2)).applyDelta(eq(courseId), eq(1L), eq(5L),
+                eq(0L), eq(0L), eq(0L), eq(0L), eq(1L), any());
+    }
+
+    @Test
+    void recordCreated_RowCreatedConcurrently_ShouldIgnoreDuplicate() {
+        when(courseRatingStatsRepository.applyDelta(eq(courseId), anyLong(), anyLong(),
+                anyLong(), anyLong(), anyLong(), anyLong(), anyLong(), any())).thenReturn(0, 1);
+        when(courseRatingStatsRepository.insertEmptyIfAbsent(eq(courseId), any())).thenReturn(0);
+
+        assertDoesNotThrow(() -> courseRatingStatsService.recordCreated(courseId, 3));
+        verify(courseRatingStatsRepository, times(2)).applyDelta(eq(courseId), eq(1L), eq(3L),
+                eq(0L), eq(0L), eq(1L), eq(0L), eq(0L), any());
+    }
+
+    @Test
+    void recordCreated_ManyRatings_ShouldApplyOneCombinedDelta() {
+        when(courseRatingStatsRepository.applyDelta(eq(courseId), eq(4L), eq(15L),
+                eq(1L), eq(0L), eq(0L), eq(1L), eq(2L), any())).thenReturn(1);
+
+        courseRatingStatsService.recordCreated(courseId, List.of(5, 1, 4, 5));
+
+        verify(courseRatingStatsRepository, times(1)).applyDelta(eq(courseId), anyLong(), anyLong(),
+                anyLong(), anyLong(), anyLong(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void recordCreated_NoRatings_ShouldNotTouchStats() {
+        courseRatingStatsService.recordCreated(courseId, List.of());
+
+        verifyNoInteractions(courseRatingStatsRepository);
+    }
+
+    @Test
+    void getRatingSummaries_ShouldReadAllCoursesAtOnceInRequestOrder() {
+        CourseRatingStats stats = CourseRatingStats.empty(2L);
+        stats.addRating(5, 3);
+        stats.addRating(2, 1);
+        when(courseRatingStatsRepository.findAllById(any())).thenReturn(List.of(stats));
+
+        List<CourseRatingSummaryResponse> summaries = courseRatingStatsService.getRatingSummaries(List.of(3L, 2L, 3L));
+
+        verify(courseRatingStatsRepository, times(1)).findAllById(any());
+        assertEquals(List.of(3L, 2L), summaries.stream().map(CourseRatingSummaryResponse::getCourseId).toList());
+        assertEquals(0, summaries.get(0).getReviewCount());
+        assertEquals(0.0, summaries.get(0).getAverageRating());
+        assertEquals(4, summaries.get(1).getReviewCount());
+        assertEquals(4.25, summaries.get(1).getAverageRating());
+        assertEquals(3L, summaries.get(1).getRatingDistribution().get(5));
+        assertEquals(1L, summaries.get(1).getRatingDistribution().get(2));
+        assertEquals(0L, summaries.get(1).getRatingDistribution().get(1));
+    }
+
+    @Test
+    void getRatingSummaries_TooManyCourses_ShouldThrow() {
+        properties.setMaxCoursesPerRequest(2);
+
+        assertThrows(InvalidRatingRequestException.class,
+                () -> courseRatingStatsService.getRatingSummaries(List.of(1L, 2L, 3L)));
+        assertThrows(InvalidRatingRequestException.class,
+                () -> courseRatingStatsService.getRatingSummaries(List.of()));
+        verifyNoInteractions(courseRatingStatsRepository);
+    }
+
+    @Test
+    void recordUpdated_ShouldMoveReviewBetweenStars() {
+        when(courseRatingStatsRepository.applyDelta(eq(courseId), eq(0L), eq(-3L),
+                eq(0L), eq(1L), eq(0L), eq(0L), eq(-1L), any())).thenReturn(1);
+
+        courseRatingStatsService.recordUpdated(courseId, 5, 2);
+
+        verify(courseRatingStatsRepository).applyDelta(eq(courseId), eq(0L), eq(-3L),
+                eq(0L), eq(1L), eq(0L), eq(0L), eq(-1L), any());
+    }
+
+    @Test
+    void recordUpdated_SameRating_ShouldNotTouchStats() {
+        courseRatingStatsService.recordUpdated(courseId, 4, 4);
+
+        verifyNoInteractions(courseRatingStatsRepository);
+    }
+
+    @Test
+    void recordDeleted_ShouldSubtractReview() {
+        when(courseRatingStatsRepository.applyDelta(eq(courseId), eq(-1L), eq(-2L),
+                eq(0L), eq(-1L), eq(0L), eq(0L), eq(0L), any())).thenReturn(1);
+
+        courseRatingStatsService.recordDeleted(courseId, 2);
+
+        verify(courseRatingStatsRepository).applyDelta(eq(courseId), eq(-1L), eq(-2L),
+                eq(0L), eq(-1L), eq(0L), eq(0L), eq(0L), any());
+    }
+
+    @Test
+    void recordCreated_InvalidRating_ShouldThrowException() {
+        Exception exception = assertThrows(IllegalArgumentException.class, () ->
+                courseRatingStatsService.recordCreated(courseId, 6));
+
+        assertEquals("Rating harus antara 1 and 5", exception.getMessage());
+        verifyNoInteractions(courseRatingStatsRepository);
+    }
+
+    @Test
+    void getAverageRating_ExistingStats_ShouldDivideSumByCount() {
+        CourseRatingStats stats = CourseRatingStats.builder()
+                .courseId(courseId)
+                .reviewCount(3)
+                .ratingSum(12)
+                .build();
+        when(courseRatingStatsRepository.findById(courseId)).thenReturn(Optional.of(stats));
+
+        assertEquals(4.0, courseRatingStatsService.getAverageRating(courseId), 0.001);
+    }
+
+    @Test
+    void getAverageRating_NoStats_ShouldReturnZero() {
+        when(courseRatingStatsRepository.findById(courseId)).thenReturn(Optional.empty());
+
+        assertEquals(0.0, courseRatingStatsService.getAverageRating(courseId));
+    }
+
+    @Test
+    void rebuildAll_ShouldReplaceStatsWithGroupedCounts() {
+        CourseRatingStats stale = CourseRatingStats.builder().courseId(courseId).reviewCount(10).ratingSum(10).build();
+        CourseRatingStats orphan = CourseRatingStats.builder().courseId(3L).reviewCount(1).ratingSum(5).build();
+        when(reviewRepository.countRatingsByCourse()).thenReturn(List.of(
+                ratingCount(courseId, 5, 2),
+                ratingCount(courseId, 3, 1),
+                ratingCount(2L, 4, 1)));
+        when(courseRatingStatsRepository.findAll()).thenReturn(new ArrayList<>(List.of(stale, orphan)));
+
+        int courses = courseRatingStatsService.rebuildAll();
+
+        assertEquals(2, courses);
+        assertEquals(3, stale.getReviewCount());
+        assertEquals(13, stale.getRatingSum());
+        assertEquals(2, stale.getFiveStarCount());
+        assertEquals(1, stale.getThreeStarCount());
+        verify(courseRatingStatsRepository).delete(orphan);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Iterable<CourseRatingStats>> saved = ArgumentCaptor.forClass(Iterable.class);
+        verify(courseRatingStatsRepository).saveAll(saved.capture());
+        CourseRatingStats created = saved.getValue().iterator().next();
+        assertEquals(2L, created.getCourseId());
+        assertEquals(1, created.getFourStarCount());
+    }
+
+    private CourseRatingCount ratingCount(Long courseId, int rating, long reviewCount) {
+        return new CourseRatingCount() {
+            @Override
+            public Long getCourseId() {
+                return courseId;
+            }
+
+            @Override
+            public int getRating() {
+                return rating;
+            }
+
+            @Override
+            public long getReviewCount() {
+                return reviewCount;
+            }
+        };
+    }
+}
@@ -0,0 +1,223 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.service;
+
+import id.ac.ui.cs.advprog.udehnihreviewrating.config.EnrichmentProperties;
+import id.ac.ui.cs.advprog.udehnihreviewrating.exception.EnrichmentTimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EnrichmentExecutorTest {
+
+    private EnrichmentProperties properties;
+    private EnrichmentExecutor enrichmentExecutor;
+
+    @BeforeEach
+    void setUp() {
+        properties = new EnrichmentProperties();
+        enrichmentExecutor = new EnrichmentExecutor(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        enrichmentExecutor.shutdown();
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void invokeAll_ShouldReturnResultsInTaskOrder() {
+        List<Callable<Integer>> tasks = List.of(
+                () -> {
+                    Thread.sleep(50);
+                    return 1;
+                },
+                () -> 2,
+                () -> 3
+        );
+
+        assertEquals(List.of(1, 2, 3), enrichmentExecutor.invokeAll(tasks));
+    }
+
+    @Test
+    void invokeAll_ShouldRunTasksOnVirtualThreads() {
+        List<Callable<Boolean>> tasks = List.of(() -> Thread.currentThread().isVirtual());
+
+        List<Boolean> result = enrichmentExecutor.invokeAll(tasks);
+
+        assertTrue(result.get(0));
+    }
+
+    @Test
+    void invokeAll_ShouldPropagateTokenButNotRequestAttributes() {
+        Authentication authentication = new UsernamePasswordAuthenticationToken("student", "jwt-token");
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer jwt-token");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        List<Callable<Object>> tasks = List.of(
+                () -> SecurityContextHolder.getContext().getAuthentication().getCredentials(),
+                () -> RequestContextHolder.getRequestAttributes() == null
+        );
+
+        List<Object> result = enrichmentExecutor.invokeAll(tasks);
+
+        assertEquals(List.of("jwt-token", true), result);
+    }
+
+    @Test
+    void invokeAll_WithoutAuthentication_ShouldCopyBearerTokenFromRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer jwt-token");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        List<Callable<Object>> tasks = List.of(
+                () -> SecurityContextHolder.getContext().getAuthentication().getCredentials());
+
+        assertEquals(List.of("jwt-token"), enrichmentExecutor.invokeAll(tasks));
+    }
+
+    @Test
+    void invokeAll_ShouldNotExceedMaxParallelism() {
+        properties.setMaxParallelism(2);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            tasks.add(() -> {
+                peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.sleep(20);
+                running.decrementAndGet();
+                return null;
+            });
+        }
+
+        enrichmentExecutor.invokeAll(tasks);
+
+        assertTrue(peak.get() <= 2);
+    }
+
+    @Test
+    void invokeAll_TaskFailure_ShouldRethrowOriginalException() {
+        List<Callable<String>> tasks = List.of(
+                () -> "ok",
+                () -> {
+                    throw new IllegalStateException("Course service error");
+                }
+        );
+
+        Exception exception = assertThrows(IllegalStateException.class, () -> enrichmentExecutor.invokeAll(tasks));
+
+        assertEquals("Course service error", exception.getMessage());
+    }
+
+    @Test
+    void invokeAll_DeadlineExceeded_ShouldThrowTimeoutException() {
+        properties.setDeadline(Duration.ofMillis(50));
+
+        List<Callable<String>> tasks = List.of(() -> {
+            Thread.sleep(5_000);
+            return "late";
+        });
+
+        long start = System.nanoTime();
+        EnrichmentTimeoutException exception = assertThrows(EnrichmentTimeoutException.class,
+                () -> enrichmentExecutor.invokeAll(tasks));
+        assertEquals("Review enrichment did not finish within 50 ms", exception.getMessage());
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 2_000);
+    }
+
+    @Test
+    void runAll_ShouldRunEveryTask() {
+        AtomicInteger counter = new AtomicInteger();
+
+        enrichmentExecutor.runAll(List.of(counter::incrementAndGet, counter::incrementAndGet));
+
+        assertEquals(2, counter.get());
+    }
+
+    @Test
+    void runAllWithinBudget_AllTasksFinish_ShouldReturnTrue() {
+        AtomicInteger counter = new AtomicInteger();
+
+        assertTrue(enrichmentExecutor.runAllWithinBudget(List.of(counter::incrementAndGet, counter::incrementAndGet)));
+        assertEquals(2, counter.get());
+    }
+
+    @Test
+    void runAllWithinBudget_BudgetExceeded_ShouldReturnFalseAndFinishInBackground() throws InterruptedException {
+        properties.setReadBudget(Duration.ofMillis(50));
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+
+        long start = System.nanoTime();
+        boolean completed = enrichmentExecutor.runAllWithinBudget(List.of(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            finished.countDown();
+        }));
+
+        assertFalse(completed);
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 2_000);
+
+        release.countDown();
+        assertTrue(finished.await(2, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void runAllWithinBudget_InFlightLimitReached_ShouldSkipTasksThatCannotStart() throws InterruptedException {
+        properties.setMaxInFlight(1);
+        properties.setReadBudget(Duration.ofMillis(50));
+        enrichmentExecutor = new EnrichmentExecutor(properties);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger started = new AtomicInteger();
+
+        assertFalse(enrichmentExecutor.runAllWithinBudget(List.of(() -> {
+            started.incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        })));
+        assertFalse(enrichmentExecutor.runAllWithinBudget(List.of(started::incrementAndGet)));
+        assertEquals(1, started.get());
+
+        release.countDown();
+        Thread.sleep(50);
+        assertTrue(enrichmentExecutor.runAllWithinBudget(List.of(started::incrementAndGet)));
+        assertEquals(2, started.get());
+    }
+
+    @Test
+    void runAllWithinBudget_TaskFailure_ShouldRethrowOriginalException() {
+        IllegalStateException failure = new IllegalStateException("course service down");
+
+        IllegalStateException thrown = assertThrows(IllegalStateException.class,
+                () -> enrichmentExecutor.runAllWithinBudget(List.of(() -> {
+                    throw failure;
+                })));
+        assertSame(failure, thrown);
+    }
+}
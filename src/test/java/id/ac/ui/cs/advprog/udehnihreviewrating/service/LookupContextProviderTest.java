@@ -0,0 +1,154 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.service;
+
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.course.CourseDetailDTO;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.student.StudentDTO;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LookupContextProviderTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private LookupContextProvider lookupContextProvider;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lookupContextProvider = new LookupContextProvider(meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void current_WithinRequest_ShouldReturnSameContext() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        assertSame(lookupContextProvider.current(), lookupContextProvider.current());
+    }
+
+    @Test
+    void current_OutsideRequest_ShouldReturnFreshContext() {
+        assertNotSame(lookupContextProvider.current(), lookupContextProvider.current());
+    }
+
+    @Test
+    void get_SameIdTwice_ShouldCallLoaderOnce() {
+        LookupContext lookups = lookupContextProvider.current();
+        AtomicInteger calls = new AtomicInteger();
+        CourseDetailDTO course = CourseDetailDTO.builder().id(1L).title("Advanced Programming").build();
+
+        lookups.courses().get(1L, id -> {
+            calls.incrementAndGet();
+            return course;
+        });
+        CourseDetailDTO cached = lookups.courses().get(1L, id -> {
+            calls.incrementAndGet();
+            return course;
+        });
+
+        assertSame(course, cached);
+        assertEquals(1, calls.get());
+        assertEquals(1, lookups.courses().getRemoteCalls());
+    }
+
+    @Test
+    void getAll_ShouldOnlyLoadUnknownIdsAndRememberMissingOnes() {
+        LookupContext lookups = lookupContextProvider.current();
+        StudentDTO first = StudentDTO.builder().studentId(1L).name("Jane Smith").build();
+        StudentDTO second = StudentDTO.builder().studentId(2L).name("John Doe").build();
+        lookups.students().get(1L, id -> first);
+
+        Map<Long, StudentDTO> result = lookups.students().getAll(List.of(1L, 2L, 3L), ids -> {
+            assertEquals(List.of(2L, 3L), ids);
+            return List.of(second);
+        });
+        Map<Long, StudentDTO> again = lookups.students().getAll(List.of(2L, 3L), ids -> fail("should be memoized"));
+
+        assertEquals(Map.of(1L, first, 2L, second), result);
+        assertEquals(Map.of(2L, second), again);
+        assertEquals(2, lookups.students().getRemoteCalls());
+    }
+
+    @Test
+    void get_ConcurrentCallersForSameId_ShouldShareOneLookup() throws Exception {
+        LookupContext lookups = lookupContextProvider.current();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CourseDetailDTO course = CourseDetailDTO.builder().id(1L).title("Advanced Programming").build();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<CourseDetailDTO> first = executor.submit(() -> lookups.courses().get(1L, id -> {
+                loading.countDown();
+                await(release);
+                return course;
+            }));
+            loading.await();
+            Future<Map<Long, CourseDetailDTO>> second = executor.submit(() ->
+                    lookups.courses().getAll(List.of(1L), ids -> fail("should wait for the running lookup")));
+            release.countDown();
+
+            assertSame(course, first.get(2, TimeUnit.SECONDS));
+            assertEquals(Map.of(1L, course), second.get(2, TimeUnit.SECONDS));
+        }
+        assertEquals(1, lookups.courses().getRemoteCalls());
+    }
+
+    @Test
+    void get_LoaderFails_ShouldRetryOnNextCall() {
+        LookupContext lookups = lookupContextProvider.current();
+        CourseDetailDTO course = CourseDetailDTO.builder().id(1L).title("Advanced Programming").build();
+
+        assertThrows(IllegalStateException.class, () -> lookups.courses().get(1L, id -> {
+            throw new IllegalStateException("course service down");
+        }));
+
+        assertSame(course, lookups.courses().get(1L, id -> course));
+        assertEquals(2, lookups.courses().getRemoteCalls());
+    }
+
+    @Test
+    void requestCompleted_ShouldRecordRemoteCallsPerRequest() {
+        ServletRequestAttributes attributes = new ServletRequestAttributes(new MockHttpServletRequest());
+        RequestContextHolder.setRequestAttributes(attributes);
+
+        LookupContext lookups = lookupContextProvider.current();
+        lookups.courses().get(1L, id -> null);
+        lookups.courses().get(1L, id -> null);
+        attributes.requestCompleted();
+
+        DistributionSummary courseCalls = meterRegistry.get("review.remote.calls.per.request")
+                .tag("client", "course-service").summary();
+        DistributionSummary studentCalls = meterRegistry.get("review.remote.calls.per.request")
+                .tag("client", "auth-service").summary();
+        assertEquals(1, courseCalls.count());
+        assertEquals(1.0, courseCalls.totalAmount());
+        assertEquals(0.0, studentCalls.totalAmount());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
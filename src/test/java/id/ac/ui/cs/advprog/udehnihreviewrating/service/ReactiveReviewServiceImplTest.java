@@ -0,0 +1,206 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.service;
+
+import id.ac.ui.cs.advprog.udehnihreviewrating.client.ReactiveCourseClient;
+import id.ac.ui.cs.advprog.udehnihreviewrating.client.ReactiveStudentClient;
+import id.ac.ui.cs.advprog.udehnihreviewrating.config.EnrichmentProperties;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.course.CourseDetailDTO;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.student.StudentDTO;
+import id.ac.ui.cs.advprog.udehnihreviewrating.exception.DownstreamUnavailableException;
+import id.ac.ui.cs.advprog.udehnihreviewrating.repository.ReactiveReviewRepository;
+import id.ac.ui.cs.advprog.udehnihreviewrating.repository.ReviewView;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveReviewServiceImplTest {
+
+    @Mock
+    private ReactiveReviewRepository reviewRepository;
+
+    @Mock
+    private ReactiveCourseClient courseClient;
+
+    @Mock
+    private ReactiveStudentClient studentClient;
+
+    private EnrichmentProperties enrichmentProperties;
+    private LastKnownLookups lastKnownLookups;
+    private ReactiveReviewServiceImpl reviewService;
+
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @BeforeEach
+    void setUp() {
+        enrichmentProperties = new EnrichmentProperties();
+        enrichmentProperties.setReadBudget(Duration.ofMillis(200));
+        lastKnownLookups = new LastKnownLookups(enrichmentProperties, new SimpleMeterRegistry());
+        reviewService = new ReactiveReviewServiceImpl(reviewRepository, courseClient, studentClient,
+                enrichmentProperties, lastKnownLookups);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void getReviewById_WithNameSnapshot_ShouldNotCallDownstream() {
+        ReviewView review = view(1L, 10L, "Advanced Programming", "Jane Smith");
+        when(reviewRepository.findViewById(review.getId())).thenReturn(Mono.just(review));
+
+        StepVerifier.create(reviewService.getReviewById(review.getId()))
+                .assertNext(response -> {
+                    assertEquals("Advanced Programming", response.getCourseName());
+                    assertEquals("Jane Smith", response.getStudentName());
+                    assertFalse(response.isDegraded());
+                })
+                .verifyComplete();
+
+        verifyNoInteractions(courseClient, studentClient);
+    }
+
+    @Test
+    void getReviewById_NotFound_ShouldFail() {
+        UUID reviewId = UUID.randomUUID();
+        when(reviewRepository.findViewById(reviewId)).thenReturn(Mono.empty());
+
+        StepVerifier.create(reviewService.getReviewById(reviewId))
+                .expectErrorMessage("Review not found")
+                .verify();
+    }
+
+    @Test
+    void getReviewById_ShouldForwardCallerToken() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("student", "token-123", List.of()));
+        ReviewView review = view(1L, 10L, null, null);
+        AtomicReference<String> forwarded = new AtomicReference<>();
+        when(reviewRepository.findViewById(review.getId())).thenReturn(Mono.just(review));
+        when(courseClient.getCourseById(1L)).thenReturn(Mono.just(course(1L)));
+        when(studentClient.getStudentById(10L)).thenReturn(Mono.deferContextual(context -> {
+            context.stream().forEach(entry -> forwarded.set(String.valueOf(entry.getValue())));
+            return Mono.just(student(10L));
+        }));
+
+        Mono<?> response = reviewService.getReviewById(review.getId());
+        SecurityContextHolder.clearContext();
+
+        StepVerifier.create(response).expectNextCount(1).verifyComplete();
+        assertEquals("Bearer token-123", forwarded.get());
+    }
+
+    @Test
+    void getReviewsByCourse_ShouldEnrichOnlyReviewsWithoutSnapshot() {
+        when(reviewRepository.findViewsByCourseId(1L)).thenReturn(Flux.just(
+                view(1L, 10L, "Advanced Programming", "Jane Smith"),
+                view(1L, 11L, null, null),
+                view(1L, 12L, null, null)));
+        when(courseClient.getCoursesByIds(List.of(1L))).thenReturn(Mono.just(Map.of(1L, course(1L))));
+        when(studentClient.getStudentsByIds(List.of(11L, 12L)))
+                .thenReturn(Mono.just(Map.of(11L, student(11L), 12L, student(12L))));
+
+        StepVerifier.create(reviewService.getReviewsByCourse(1L))
+                .assertNext(responses -> {
+                    assertEquals(3, responses.size());
+                    assertEquals("Student 11 name", responses.get(1).getStudentName());
+                    assertEquals("Course 1 title", responses.get(2).getCourseName());
+                    assertTrue(responses.stream().noneMatch(response -> response.isDegraded()));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getReviewsByStudent_CourseServiceUnavailable_ShouldServeLastKnownDetails() {
+        lastKnownLookups.rememberCourse(CourseDetailDTO.builder().id(1L).title("Remembered title").build());
+        when(reviewRepository.findViewsByStudentId(10L)).thenReturn(Flux.just(view(1L, 10L, null, null)));
+        when(courseClient.getCoursesByIds(anyList())).thenReturn(
+                Mono.error(new DownstreamUnavailableException("course-service", new RuntimeException("503"))));
+        when(studentClient.getStudentsByIds(List.of(10L))).thenReturn(Mono.just(Map.of(10L, student(10L))));
+
+        StepVerifier.create(reviewService.getReviewsByStudent(10L))
+                .assertNext(responses -> {
+                    assertEquals("Remembered title", responses.get(0).getCourseName());
+                    assertEquals("Student 10 name", responses.get(0).getStudentName());
+                    assertTrue(responses.get(0).isDegraded());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getReviewsByCourse_LookupOverReadBudget_ShouldRespondDegraded() {
+        when(reviewRepository.findViewsByCourseId(1L)).thenReturn(Flux.just(view(1L, 10L, null, null)));
+        when(courseClient.getCoursesByIds(List.of(1L))).thenReturn(Mono.just(Map.of(1L, course(1L))));
+        when(studentClient.getStudentsByIds(List.of(10L))).thenReturn(Mono.never());
+
+        StepVerifier.create(reviewService.getReviewsByCourse(1L))
+                .assertNext(responses -> {
+                    assertEquals("Course 1 title", responses.get(0).getCourseName());
+                    assertEquals("Student 10", responses.get(0).getStudentName());
+                    assertTrue(responses.get(0).isDegraded());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getReviewsByCourse_MissingStudentName_ShouldFail() {
+        when(reviewRepository.findViewsByCourseId(1L)).thenReturn(Flux.just(view(1L, 10L, null, null)));
+        when(courseClient.getCoursesByIds(List.of(1L))).thenReturn(Mono.just(Map.of(1L, course(1L))));
+        when(studentClient.getStudentsByIds(List.of(10L))).thenReturn(Mono.just(Map.of()));
+
+        StepVerifier.create(reviewService.getReviewsByCourse(1L))
+                .expectErrorMatches(e -> e.getMessage().startsWith("Failed to retrieve student information"))
+                .verify();
+    }
+
+    @Test
+    void getReviewsByCourse_NoReviews_ShouldReturnEmptyList() {
+        when(reviewRepository.findViewsByCourseId(1L)).thenReturn(Flux.empty());
+
+        StepVerifier.create(reviewService.getReviewsByCourse(1L))
+                .assertNext(responses -> assertTrue(responses.isEmpty()))
+                .verifyComplete();
+    }
+
+    @Test
+    void getAverageRatingForCourse_ShouldReturnRepositoryAverage() {
+        when(reviewRepository.findAverageRating(1L)).thenReturn(Mono.just(4.5));
+
+        StepVerifier.create(reviewService.getAverageRatingForCourse(1L))
+                .expectNext(4.5)
+                .verifyComplete();
+    }
+
+    private ReviewView view(Long courseId, Long studentId, String courseTitle, String studentName) {
+        return new ReviewView(UUID.randomUUID(), courseId, studentId, "Great course!", 5, now, now,
+                courseTitle, studentName);
+    }
+
+    private CourseDetailDTO course(Long courseId) {
+        return CourseDetailDTO.builder().id(courseId).title("Course " + courseId + " title").build();
+    }
+
+    private StudentDTO student(Long studentId) {
+        return StudentDTO.builder().studentId(studentId).name("Student " + studentId + " name").build();
+    }
+}
@@ -0,0 +1,206 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.service;
+
+import id.ac.ui.cs.advprog.udehnihreviewrating.client.CourseClient;
+import id.ac.ui.cs.advprog.udehnihreviewrating.client.StudentClient;
+import id.ac.ui.cs.advprog.udehnihreviewrating.config.EnrichmentProperties;
+import id.ac.ui.cs.advprog.udehnihreviewrating.config.ReviewImportProperties;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.course.CourseDetailDTO;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.request.ReviewImportItem;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.response.ReviewImportFailure;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.response.ReviewImportResponse;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.student.StudentDTO;
+import id.ac.ui.cs.advprog.udehnihreviewrating.exception.InvalidImportRequestException;
+import id.ac.ui.cs.advprog.udehnihreviewrating.factory.ReviewFactoryImpl;
+import id.ac.ui.cs.advprog.udehnihreviewrating.model.Review;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewImportServiceImplTest {
+
+    @Mock
+    private CourseClient courseClient;
+
+    @Mock
+    private StudentClient studentClient;
+
+    @Mock
+    private CourseRatingStatsService courseRatingStatsService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ReviewImportProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private ReviewImportServiceImpl reviewImportService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ReviewImportProperties();
+        properties.setChunkSize(2);
+        meterRegistry = new SimpleMeterRegistry();
+        reviewImportService = new ReviewImportServiceImpl(new ReviewFactoryImpl(), courseClient, studentClient,
+                new EnrichmentExecutor(new EnrichmentProperties()), courseRatingStatsService, entityManager,
+                transactionManager, properties, meterRegistry);
+    }
+
+    @Test
+    void importReviews_ValidRows_ShouldLookUpEachDistinctIdOnceAndPersistInChunks() {
+        when(courseClient.getCoursesByIds(anyList())).thenReturn(List.of(course(1L), course(2L)));
+        when(studentClient.getStudentsByIds(anyList())).thenReturn(List.of(student(10L), student(11L)));
+
+        ReviewImportResponse response = reviewImportService.importReviews(List.of(
+                item(1L, 10L, 5), item(1L, 11L, 4), item(2L, 10L, 3)));
+
+        assertEquals(3, response.getReceived());
+        assertEquals(3, response.getImported());
+        assertEquals(0, response.getFailed());
+        verify(courseClient).getCoursesByIds(List.of(1L, 2L));
+        verify(studentClient).getStudentsByIds(List.of(10L, 11L));
+        verify(entityManager, times(3)).persist(any(Review.class));
+        verify(entityManager, times(2)).flush();
+        verify(courseRatingStatsService).recordCreated(1L, List.of(5, 4));
+        verify(courseRatingStatsService).recordCreated(2L, List.of(3));
+        assertEquals(3.0, meterRegistry.get("review.import.rows").tag("outcome", "imported").counter().count());
+        assertEquals(2, meterRegistry.get("review.import.chunk.duration").timer().count());
+    }
+
+    @Test
+    void importReviews_InvalidRows_ShouldReportFailuresWithoutAbortingBatch() {
+        when(courseClient.getCoursesByIds(anyList())).thenReturn(List.of(course(1L)));
+        when(studentClient.getStudentsByIds(anyList())).thenReturn(List.of(student(10L), student(11L)));
+
+        List<ReviewImportItem> items = new ArrayList<>();
+        items.add(item(1L, 10L, 5));
+        items.add(item(99L, 10L, 5));
+        items.add(item(1L, 42L, 5));
+        items.add(item(1L, 10L, 4));
+        items.add(item(1L, 11L, 7));
+        items.add(item(null, 11L, 3));
+
+        ReviewImportResponse response = reviewImportService.importReviews(items);
+
+        assertEquals(6, response.getReceived());
+        assertEquals(1, response.getImported());
+        assertEquals(5, response.getFailed());
+        List<String> reasons = response.getFailures().stream().map(ReviewImportFailure::getReason).toList();
+        assertEquals(List.of("Course not found", "Student not found", "Duplicate review in request",
+                "Rating harus antara 1 and 5", "courseId and studentId are required"), reasons);
+        assertEquals(List.of(1, 2, 3, 4, 5),
+                response.getFailures().stream().map(ReviewImportFailure::getIndex).toList());
+        verify(entityManager, times(1)).persist(any(Review.class));
+    }
+
+    @Test
+    void importReviews_ChunkFails_ShouldRetryRowByRowAndKeepOtherRows() {
+        when(courseClient.getCoursesByIds(anyList())).thenReturn(List.of(course(1L)));
+        when(studentClient.getStudentsByIds(anyList())).thenReturn(List.of(student(10L), student(11L)));
+        doAnswer(invocation -> {
+            Review review = invocation.getArgument(0);
+            if (review.getStudentId().equals(11L)) {
+                throw new DataIntegrityViolationException(
+                        "duplicate key value violates unique constraint \"ux_reviews_course_student\"");
+            }
+            return null;
+        }).when(entityManager).persist(any(Review.class));
+
+        ReviewImportResponse response = reviewImportService.importReviews(List.of(
+                item(1L, 10L, 5), item(1L, 11L, 4)));
+
+        assertEquals(1, response.getImported());
+        assertEquals(1, response.getFailed());
+        ReviewImportFailure failure = response.getFailures().get(0);
+        assertEquals(1, failure.getIndex());
+        assertEquals(11L, failure.getStudentId());
+        assertEquals("Review already exists for this course and student", failure.getReason());
+        verify(courseRatingStatsService).recordCreated(1L, List.of(5));
+        verify(transactionManager, times(2)).rollback(any());
+    }
+
+    @Test
+    void importReviews_LookupsSlowerThanReadDeadline_ShouldUseValidationTimeout() {
+        EnrichmentProperties enrichmentProperties = new EnrichmentProperties();
+        enrichmentProperties.setDeadline(Duration.ofMillis(20));
+        properties.setValidationTimeout(Duration.ofSeconds(5));
+        reviewImportService = new ReviewImportServiceImpl(new ReviewFactoryImpl(), courseClient, studentClient,
+                new EnrichmentExecutor(enrichmentProperties), courseRatingStatsService, entityManager,
+                transactionManager, properties, meterRegistry);
+        when(courseClient.getCoursesByIds(anyList())).thenAnswer(invocation -> {
+            Thread.sleep(100);
+            return List.of(course(1L));
+        });
+        when(studentClient.getStudentsByIds(anyList())).thenReturn(List.of(student(10L)));
+
+        ReviewImportResponse response = reviewImportService.importReviews(List.of(item(1L, 10L, 5)));
+
+        assertEquals(1, response.getImported());
+    }
+
+    @Test
+    void importReviews_WithCreatedAt_ShouldKeepOriginalTimestamps() {
+        when(courseClient.getCoursesByIds(anyList())).thenReturn(List.of(course(1L)));
+        when(studentClient.getStudentsByIds(anyList())).thenReturn(List.of(student(10L)));
+        LocalDateTime createdAt = LocalDateTime.of(2023, 5, 1, 12, 0);
+        ReviewImportItem item = item(1L, 10L, 5);
+        item.setCreatedAt(createdAt);
+        item.setReviewText(" ");
+
+        reviewImportService.importReviews(List.of(item));
+
+        ArgumentCaptor<Review> persisted = ArgumentCaptor.forClass(Review.class);
+        verify(entityManager).persist(persisted.capture());
+        assertEquals(createdAt, persisted.getValue().getCreatedAt());
+        assertEquals(createdAt, persisted.getValue().getUpdatedAt());
+        assertEquals("", persisted.getValue().getReviewText());
+    }
+
+    @Test
+    void importReviews_EmptyOrTooLarge_ShouldRejectRequest() {
+        properties.setMaxRows(1);
+
+        assertThrows(InvalidImportRequestException.class, () -> reviewImportService.importReviews(List.of()));
+        assertThrows(InvalidImportRequestException.class, () -> reviewImportService.importReviews(
+                List.of(item(1L, 10L, 5), item(1L, 11L, 5))));
+        verifyNoInteractions(courseClient, studentClient, entityManager);
+        verify(courseRatingStatsService, never()).recordCreated(eq(1L), anyList());
+    }
+
+    private ReviewImportItem item(Long courseId, Long studentId, int rating) {
+        return ReviewImportItem.builder()
+                .courseId(courseId)
+                .studentId(studentId)
+                .reviewText("Imported review")
+                .rating(rating)
+                .build();
+    }
+
+    private CourseDetailDTO course(Long id) {
+        return CourseDetailDTO.builder().id(id).title("Course " + id).build();
+    }
+
+    private StudentDTO student(Long id) {
+        return StudentDTO.builder().studentId(id).name("Student " + id).build();
+    }
+}
@@ -2,28 +2,46 @@ package id.ac.ui.cs.advprog.udehnihreviewrating.service;
 
 import id.ac.ui.cs.advprog.udehnihreviewrating.client.CourseClient;
 import id.ac.ui.cs.advprog.udehnihreviewrating.client.StudentClient;
+import id.ac.ui.cs.advprog.udehnihreviewrating.config.EnrichmentProperties;
+import id.ac.ui.cs.advprog.udehnihreviewrating.config.ReviewPageProperties;
+import id.ac.ui.cs.advprog.udehnihreviewrating.config.ReviewStreamProperties;
 import id.ac.ui.cs.advprog.udehnihreviewrating.dto.course.CourseDetailDTO;
 import id.ac.ui.cs.advprog.udehnihreviewrating.dto.request.CreateReviewRequest;
 import id.ac.ui.cs.advprog.udehnihreviewrating.dto.request.UpdateReviewRequest;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.response.ReviewPageResponse;
 import id.ac.ui.cs.advprog.udehnihreviewrating.dto.response.ReviewResponse;
 import id.ac.ui.cs.advprog.udehnihreviewrating.factory.ReviewFactory;
 import id.ac.ui.cs.advprog.udehnihreviewrating.dto.student.StudentDTO;
 import id.ac.ui.cs.advprog.udehnihreviewrating.model.Review;
+import id.ac.ui.cs.advprog.udehnihreviewrating.model.ReviewSort;
+import id.ac.ui.cs.advprog.udehnihreviewrating.repository.ReviewKeyset;
 import id.ac.ui.cs.advprog.udehnihreviewrating.repository.ReviewRepository;
+import id.ac.ui.cs.advprog.udehnihreviewrating.repository.ReviewView;
 import id.ac.ui.cs.advprog.udehnihreviewrating.exception.CourseNotFoundException;
+import id.ac.ui.cs.advprog.udehnihreviewrating.exception.DownstreamUnavailableException;
+import id.ac.ui.cs.advprog.udehnihreviewrating.exception.InvalidPageRequestException;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -47,6 +65,27 @@ class ReviewServiceImplTest {
     @Mock
     private StudentClient studentClient;
 
+    @Spy
+    private EnrichmentExecutor enrichmentExecutor = new EnrichmentExecutor(new EnrichmentProperties());
+
+    @Spy
+    private LookupContextProvider lookupContextProvider = new LookupContextProvider(new SimpleMeterRegistry());
+
+    @Mock
+    private CourseRatingStatsService courseRatingStatsService;
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
+    @Spy
+    private ReviewPageProperties reviewPageProperties = new ReviewPageProperties();
+
+    @Spy
+    private ReviewStreamProperties reviewStreamProperties = new ReviewStreamProperties();
+
+    @Spy
+    private LastKnownLookups lastKnownLookups = new LastKnownLookups(new EnrichmentProperties(), new SimpleMeterRegistry());
+
     @InjectMocks
     private ReviewServiceImpl reviewService;
 
@@ -113,10 +152,15 @@ class ReviewServiceImplTest {
         assertEquals("Great course!", response.getReviewText());
         assertEquals(5, response.getRating());
 
-        verify(studentClient, times(2)).getStudentById(studentId);
-        verify(courseClient, times(2)).getCourseById(courseId);
+        verify(studentClient, times(1)).getStudentById(studentId);
+        verify(courseClient, times(1)).getCourseById(courseId);
         verify(reviewFactory).createBasicReview(courseId, studentId, "Great course!", 5);
         verify(reviewRepository).save(review);
+        verify(courseRatingStatsService).recordCreated(courseId, 5);
+        assertEquals("Advanced Programming", review.getCourseTitle());
+        assertEquals("Jane Smith", review.getStudentName());
+        assertNotNull(review.getCourseSnapshotAt());
+        assertNotNull(review.getStudentSnapshotAt());
     }
 
     @Test
@@ -217,13 +261,13 @@ class ReviewServiceImplTest {
                 .updatedAt(now)
                 .build();
 
-        List<Review> reviews = Arrays.asList(review, review2);
+        List<ReviewView> reviews = views(review, review2);
 
-        when(reviewRepository.findByCourseId(courseId)).thenReturn(reviews);
-        when(courseClient.getCourseById(courseId)).thenReturn(courseDetail);
-        when(studentClient.getStudentById(1L)).thenReturn(studentDTO);
-        when(studentClient.getStudentById(2L)).thenReturn(
-                StudentDTO.builder().studentId(2L).name("Bob Johnson").build());
+        when(reviewRepository.findViewsByCourseId(courseId)).thenReturn(reviews);
+        when(courseClient.getCoursesByIds(List.of(courseId))).thenReturn(List.of(courseDetail));
+        when(studentClient.getStudentsByIds(List.of(1L, 2L))).thenReturn(List.of(
+                studentDTO,
+                StudentDTO.builder().studentId(2L).name("Bob Johnson").build()));
 
         List<ReviewResponse> responses = reviewService.getReviewsByCourse(courseId);
 
@@ -231,25 +275,147 @@ class ReviewServiceImplTest {
         assertEquals(2, responses.size());
         assertEquals("Advanced Programming", responses.get(0).getCourseName());
         assertEquals("Advanced Programming", responses.get(1).getCourseName());
+        assertEquals("Jane Smith", responses.get(0).getStudentName());
+        assertEquals("Bob Johnson", responses.get(1).getStudentName());
+
+        verify(reviewRepository).findViewsByCourseId(courseId);
+        verify(courseClient).getCoursesByIds(List.of(courseId));
+        verify(studentClient).getStudentsByIds(List.of(1L, 2L));
+        verify(courseClient, never()).getCourseById(anyLong());
+        verify(studentClient, never()).getStudentById(anyLong());
+    }
+
+    @Test
+    void getReviewsByCourse_NoReviews_ShouldNotCallRemoteServices() {
+        when(reviewRepository.findViewsByCourseId(courseId)).thenReturn(Arrays.asList());
+
+        List<ReviewResponse> responses = reviewService.getReviewsByCourse(courseId);
+
+        assertTrue(responses.isEmpty());
+        verifyNoInteractions(courseClient, studentClient);
+    }
+
+    @Test
+    void getReviewsByCourse_StudentMissingFromBatch_ShouldThrowException() {
+        Review review2 = Review.builder()
+                .id(UUID.randomUUID())
+                .courseId(courseId)
+                .studentId(2L)
+                .reviewText("Good content")
+                .rating(4)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
 
-        verify(reviewRepository).findByCourseId(courseId);
+        when(reviewRepository.findViewsByCourseId(courseId)).thenReturn(views(review, review2));
+        when(courseClient.getCoursesByIds(List.of(courseId))).thenReturn(List.of(courseDetail));
+        when(studentClient.getStudentsByIds(List.of(1L, 2L))).thenReturn(List.of(studentDTO));
+
+        Exception exception = assertThrows(RuntimeException.class, () -> {
+            reviewService.getReviewsByCourse(courseId);
+        });
+
+        assertTrue(exception.getMessage().contains("studentId: 2"));
     }
 
     @Test
     void getReviewsByStudent_ExistingStudent_ShouldReturnListOfReviews() {
-        List<Review> reviews = Arrays.asList(review);
+        List<ReviewView> reviews = views(review);
 
-        when(reviewRepository.findByStudentId(studentId)).thenReturn(reviews);
-        when(courseClient.getCourseById(courseId)).thenReturn(courseDetail);
-        when(studentClient.getStudentById(studentId)).thenReturn(studentDTO);
+        when(reviewRepository.findViewsByStudentId(studentId)).thenReturn(reviews);
+        when(courseClient.getCoursesByIds(List.of(courseId))).thenReturn(List.of(courseDetail));
+        when(studentClient.getStudentsByIds(List.of(studentId))).thenReturn(List.of(studentDTO));
 
         List<ReviewResponse> responses = reviewService.getReviewsByStudent(studentId);
 
         assertNotNull(responses);
         assertEquals(1, responses.size());
         assertEquals(studentId, responses.get(0).getStudentId());
+        assertEquals("Advanced Programming", responses.get(0).getCourseName());
+
+        verify(reviewRepository).findViewsByStudentId(studentId);
+    }
+
+    @Test
+    void getReviewPageByCourse_MoreRowsThanPageSize_ShouldReturnCursor() {
+        Review review2 = Review.builder()
+                .id(UUID.randomUUID())
+                .courseId(courseId)
+                .studentId(studentId)
+                .rating(4)
+                .createdAt(now.minusDays(1))
+                .updatedAt(now.minusDays(1))
+                .build();
+
+        when(reviewRepository.findPageByCourseId(courseId, ReviewSort.NEWEST, null, 2))
+                .thenReturn(views(review, review2));
+        when(courseClient.getCoursesByIds(List.of(courseId))).thenReturn(List.of(courseDetail));
+        when(studentClient.getStudentsByIds(List.of(studentId))).thenReturn(List.of(studentDTO));
+
+        ReviewPageResponse page = reviewService.getReviewPageByCourse(courseId, ReviewSort.NEWEST, null, 1);
+
+        assertEquals(1, page.getSize());
+        assertEquals(reviewId, page.getReviews().get(0).getId());
+        assertTrue(page.isHasNext());
+        assertNotNull(page.getNextCursor());
+
+        when(reviewRepository.findPageByCourseId(courseId, ReviewSort.NEWEST, ReviewKeyset.of(ReviewView.of(review)), 2))
+                .thenReturn(views(review2));
 
-        verify(reviewRepository).findByStudentId(studentId);
+        ReviewPageResponse nextPage = reviewService.getReviewPageByCourse(
+                courseId, ReviewSort.NEWEST, page.getNextCursor(), 1);
+
+        assertEquals(1, nextPage.getSize());
+        assertFalse(nextPage.isHasNext());
+        assertNull(nextPage.getNextCursor());
+    }
+
+    @Test
+    void getReviewPageByStudent_OversizedPage_ShouldBeCapped() {
+        when(reviewRepository.findPageByStudentId(studentId, ReviewSort.LOWEST, null, 101))
+                .thenReturn(List.of());
+
+        ReviewPageResponse page = reviewService.getReviewPageByStudent(studentId, ReviewSort.LOWEST, null, 5000);
+
+        assertEquals(0, page.getSize());
+        assertFalse(page.isHasNext());
+        verify(reviewRepository).findPageByStudentId(studentId, ReviewSort.LOWEST, null, 101);
+    }
+
+    @Test
+    void getReviewPageByCourse_CursorFromOtherSort_ShouldThrowException() {
+        String cursor = ReviewCursors.encode(ReviewSort.NEWEST, ReviewKeyset.of(ReviewView.of(review)));
+
+        assertThrows(InvalidPageRequestException.class, () ->
+                reviewService.getReviewPageByCourse(courseId, ReviewSort.HIGHEST, cursor, 10));
+        assertThrows(InvalidPageRequestException.class, () ->
+                reviewService.getReviewPageByCourse(courseId, ReviewSort.NEWEST, "not-a-cursor", 10));
+        assertThrows(InvalidPageRequestException.class, () ->
+                reviewService.getReviewPageByCourse(courseId, ReviewSort.NEWEST, null, 0));
+        verify(reviewRepository, never()).findPageByCourseId(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void streamReviewsByCourse_ShouldEnrichAndEmitChunks() {
+        Review review2 = Review.builder().id(UUID.randomUUID()).courseId(courseId).studentId(studentId).rating(4).build();
+        Review review3 = Review.builder().id(UUID.randomUUID()).courseId(courseId).studentId(studentId).rating(3).build();
+        AtomicBoolean closed = new AtomicBoolean();
+
+        doReturn(2).when(enrichmentExecutor).getBatchSize();
+        when(reviewRepository.streamByCourseId(courseId, 500))
+                .thenReturn(views(review, review2, review3).stream().onClose(() -> closed.set(true)));
+        when(courseClient.getCoursesByIds(List.of(courseId))).thenReturn(List.of(courseDetail));
+        when(studentClient.getStudentsByIds(List.of(studentId))).thenReturn(List.of(studentDTO));
+
+        List<List<ReviewResponse>> chunks = new ArrayList<>();
+        reviewService.streamReviewsByCourse(courseId, chunks::add);
+
+        assertEquals(2, chunks.size());
+        assertEquals(2, chunks.get(0).size());
+        assertEquals(1, chunks.get(1).size());
+        assertEquals(3, chunks.get(1).get(0).getRating());
+        assertEquals("Jane Smith", chunks.get(1).get(0).getStudentName());
+        assertTrue(closed.get());
     }
 
     @Test
@@ -260,6 +426,7 @@ class ReviewServiceImplTest {
                 .build();
 
         when(reviewRepository.findById(reviewId)).thenReturn(Optional.of(review));
+        when(reviewRepository.findForUpdateById(reviewId)).thenReturn(Optional.of(review));
         when(courseClient.getCourseById(courseId)).thenReturn(courseDetail);
         when(reviewRepository.save(any(Review.class))).thenReturn(review);
         when(studentClient.getStudentById(studentId)).thenReturn(studentDTO);
@@ -268,7 +435,10 @@ class ReviewServiceImplTest {
 
         assertNotNull(response);
         verify(reviewRepository).findById(reviewId);
+        verify(reviewRepository).findForUpdateById(reviewId);
         verify(reviewRepository).save(any(Review.class));
+        verify(courseClient, times(1)).getCourseById(courseId);
+        verify(courseRatingStatsService).recordUpdated(courseId, 5, 4);
     }
 
     @Test
@@ -288,52 +458,103 @@ class ReviewServiceImplTest {
     }
 
     @Test
-    void deleteReview_ValidRequest_ShouldReturnTrue() {
+    void updateReview_RatingChangedConcurrently_ShouldTakeDeltaFromLockedRow() {
+        UpdateReviewRequest request = UpdateReviewRequest.builder()
+                .reviewText("Updated review text")
+                .rating(4)
+                .build();
+        Review locked = Review.builder()
+                .id(reviewId)
+                .courseId(courseId)
+                .studentId(studentId)
+                .reviewText("Changed meanwhile")
+                .rating(2)
+                .build();
+
         when(reviewRepository.findById(reviewId)).thenReturn(Optional.of(review));
+        when(reviewRepository.findForUpdateById(reviewId)).thenReturn(Optional.of(locked));
+        when(courseClient.getCourseById(courseId)).thenReturn(courseDetail);
+        when(reviewRepository.save(locked)).thenReturn(locked);
+        when(studentClient.getStudentById(studentId)).thenReturn(studentDTO);
+
+        reviewService.updateReview(reviewId, studentId, request);
+
+        verify(courseRatingStatsService).recordUpdated(courseId, 2, 4);
+    }
+
+    @Test
+    void deleteReview_ValidRequest_ShouldReturnTrue() {
+        when(reviewRepository.findForUpdateById(reviewId)).thenReturn(Optional.of(review));
+        when(reviewRepository.deleteReviewById(reviewId)).thenReturn(1);
 
         boolean result = reviewService.deleteReview(reviewId, studentId);
 
         assertTrue(result);
-        verify(reviewRepository).findById(reviewId);
-        verify(reviewRepository).deleteById(reviewId);
+        verify(reviewRepository).findForUpdateById(reviewId);
+        verify(reviewRepository).deleteReviewById(reviewId);
+        verify(courseRatingStatsService).recordDeleted(courseId, 5);
+    }
+
+    @Test
+    void deleteReview_NoRowDeleted_ShouldNotAdjustStats() {
+        when(reviewRepository.findForUpdateById(reviewId)).thenReturn(Optional.of(review));
+        when(reviewRepository.deleteReviewById(reviewId)).thenReturn(0);
+
+        reviewService.deleteReview(reviewId, studentId);
+
+        verify(courseRatingStatsService, never()).recordDeleted(anyLong(), anyInt());
     }
 
     @Test
     void deleteReview_UnauthorizedUser_ShouldThrowException() {
-        when(reviewRepository.findById(reviewId)).thenReturn(Optional.of(review));
+        when(reviewRepository.findForUpdateById(reviewId)).thenReturn(Optional.of(review));
 
         Exception exception = assertThrows(RuntimeException.class, () -> {
             reviewService.deleteReview(reviewId, 999L);
         });
 
         assertTrue(exception.getMessage().contains("Unauthorized to modify this review"));
+        verify(reviewRepository, never()).deleteReviewById(any());
     }
 
     @Test
     void getAverageRatingForCourse_WithReviews_ShouldReturnCorrectAverage() {
-        Review review1 = Review.builder().rating(4).build();
-        Review review2 = Review.builder().rating(5).build();
-        Review review3 = Review.builder().rating(3).build();
-
-        List<Review> reviews = Arrays.asList(review1, review2, review3);
-
-        when(reviewRepository.findByCourseId(courseId)).thenReturn(reviews);
+        when(courseRatingStatsService.getAverageRating(courseId)).thenReturn(4.0);
 
         double averageRating = reviewService.getAverageRatingForCourse(courseId);
 
         assertEquals(4.0, averageRating, 0.001);
-        verify(reviewRepository).findByCourseId(courseId);
+        verify(courseRatingStatsService).getAverageRating(courseId);
+        verify(reviewRepository, never()).findViewsByCourseId(anyLong());
     }
 
     @Test
     void getAverageRatingForCourse_NoReviews_ShouldReturnZero() {
-        when(reviewRepository.findByCourseId(courseId)).thenReturn(Arrays.asList());
+        when(courseRatingStatsService.getAverageRating(courseId)).thenReturn(0.0);
 
         double averageRating = reviewService.getAverageRatingForCourse(courseId);
 
         assertEquals(0.0, averageRating);
     }
 
+    @Test
+    void reviewServiceMethods_ShouldBeTimedByMethodAndException() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(reviewService);
+        proxyFactory.addAspect(new TimedAspect(meterRegistry));
+        ReviewService timedService = proxyFactory.getProxy();
+        when(courseRatingStatsService.getAverageRating(courseId)).thenReturn(4.0);
+        when(reviewRepository.findById(reviewId)).thenReturn(Optional.empty());
+
+        timedService.getAverageRatingForCourse(courseId);
+        assertThrows(RuntimeException.class, () -> timedService.getReviewById(reviewId));
+
+        assertEquals(1, meterRegistry.get("review.service")
+                .tags("method", "getAverageRatingForCourse", "exception", "none").timer().count());
+        assertEquals(1, meterRegistry.get("review.service")
+                .tags("method", "getReviewById").timer().count());
+    }
+
     @Test
     void convertToResponse_StudentNotFound_ShouldThrowException() {
         when(reviewRepository.findById(reviewId)).thenReturn(Optional.of(review));
@@ -413,4 +634,134 @@ class ReviewServiceImplTest {
 
         verify(reviewRepository, never()).save(any());
     }
+
+    @Test
+    void getReviewsByCourse_AuthServiceUnavailable_ShouldUsePlaceholderNames() {
+        when(reviewRepository.findViewsByCourseId(courseId)).thenReturn(views(review));
+        when(courseClient.getCoursesByIds(List.of(courseId))).thenReturn(List.of(courseDetail));
+        when(studentClient.getStudentsByIds(List.of(studentId)))
+                .thenThrow(new DownstreamUnavailableException("auth-service", new RuntimeException("open")));
+
+        List<ReviewResponse> responses = reviewService.getReviewsByCourse(courseId);
+
+        assertEquals(1, responses.size());
+        assertEquals("Student " + studentId, responses.get(0).getStudentName());
+        assertEquals("Advanced Programming", responses.get(0).getCourseName());
+        assertTrue(responses.get(0).isDegraded());
+    }
+
+    @Test
+    void getReviewById_CourseServiceUnavailable_ShouldUsePlaceholderCourseName() {
+        when(reviewRepository.findById(reviewId)).thenReturn(Optional.of(review));
+        when(courseClient.getCourseById(courseId))
+                .thenThrow(new DownstreamUnavailableException("course-service", new RuntimeException("open")));
+        when(studentClient.getStudentById(studentId)).thenReturn(studentDTO);
+
+        ReviewResponse response = reviewService.getReviewById(reviewId);
+
+        assertEquals("Course " + courseId, response.getCourseName());
+        assertEquals("Jane Smith", response.getStudentName());
+        assertTrue(response.isDegraded());
+    }
+
+    @Test
+    void getReviewById_CourseServiceUnavailable_ShouldServeLastKnownCourseTitle() {
+        lastKnownLookups.rememberCourse(courseDetail);
+        when(reviewRepository.findById(reviewId)).thenReturn(Optional.of(review));
+        when(courseClient.getCourseById(courseId))
+                .thenThrow(new DownstreamUnavailableException("course-service", new RuntimeException("open")));
+        when(studentClient.getStudentById(studentId)).thenReturn(studentDTO);
+
+        ReviewResponse response = reviewService.getReviewById(reviewId);
+
+        assertEquals("Advanced Programming", response.getCourseName());
+        assertTrue(response.isDegraded());
+    }
+
+    @Test
+    void getReviewsByStudent_LookupExceedsReadBudget_ShouldServeLastKnownNameWithoutWaiting() {
+        EnrichmentProperties properties = new EnrichmentProperties();
+        properties.setReadBudget(Duration.ofMillis(50));
+        doAnswer(invocation -> new EnrichmentExecutor(properties).runAllWithinBudget(invocation.getArgument(0)))
+                .when(enrichmentExecutor).runAllWithinBudget(any());
+        lastKnownLookups.rememberStudentName(studentId, "Jane Smith");
+
+        when(reviewRepository.findViewsByStudentId(studentId)).thenReturn(views(review));
+        when(courseClient.getCoursesByIds(List.of(courseId))).thenReturn(List.of(courseDetail));
+        when(studentClient.getStudentsByIds(List.of(studentId))).thenAnswer(invocation -> {
+            Thread.sleep(1_000);
+            return List.of(studentDTO);
+        });
+
+        long start = System.nanoTime();
+        List<ReviewResponse> responses = reviewService.getReviewsByStudent(studentId);
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 900);
+        assertEquals("Jane Smith", responses.get(0).getStudentName());
+        assertEquals("Advanced Programming", responses.get(0).getCourseName());
+        assertTrue(responses.get(0).isDegraded());
+    }
+
+    @Test
+    void getReviewById_AllLookupsSucceed_ShouldNotBeDegraded() {
+        when(reviewRepository.findById(reviewId)).thenReturn(Optional.of(review));
+        when(courseClient.getCourseById(courseId)).thenReturn(courseDetail);
+        when(studentClient.getStudentById(studentId)).thenReturn(studentDTO);
+
+        assertFalse(reviewService.getReviewById(reviewId).isDegraded());
+    }
+
+    @Test
+    void createReview_AuthServiceUnavailable_ShouldFailFastWithUnavailable() {
+        CreateReviewRequest request = CreateReviewRequest.builder()
+                .courseId(courseId)
+                .reviewText("Great course!")
+                .rating(5)
+                .build();
+
+        when(studentClient.getStudentById(studentId))
+                .thenThrow(new DownstreamUnavailableException("auth-service", new RuntimeException("open")));
+
+        assertThrows(DownstreamUnavailableException.class, () -> reviewService.createReview(studentId, request));
+        verify(reviewRepository, never()).save(any());
+    }
+
+    @Test
+    void getReviewsByCourse_WithNameSnapshots_ShouldNotCallRemoteServices() {
+        review.setCourseTitle("Advanced Programming");
+        review.setStudentName("Jane Smith");
+        when(reviewRepository.findViewsByCourseId(courseId)).thenReturn(views(review));
+
+        List<ReviewResponse> responses = reviewService.getReviewsByCourse(courseId);
+
+        assertEquals("Advanced Programming", responses.get(0).getCourseName());
+        assertEquals("Jane Smith", responses.get(0).getStudentName());
+        assertFalse(responses.get(0).isDegraded());
+        verifyNoInteractions(courseClient, studentClient);
+    }
+
+    @Test
+    void getReviewsByStudent_MixedSnapshots_ShouldOnlyLookUpReviewsWithoutSnapshot() {
+        Review snapshotted = Review.builder()
+                .id(UUID.randomUUID())
+                .courseId(2L)
+                .studentId(studentId)
+                .rating(4)
+                .courseTitle("Data Structures")
+                .studentName("Jane Smith")
+                .build();
+        when(reviewRepository.findViewsByStudentId(studentId)).thenReturn(views(review, snapshotted));
+        when(courseClient.getCoursesByIds(List.of(courseId))).thenReturn(List.of(courseDetail));
+        when(studentClient.getStudentsByIds(List.of(studentId))).thenReturn(List.of(studentDTO));
+
+        List<ReviewResponse> responses = reviewService.getReviewsByStudent(studentId);
+
+        assertEquals("Advanced Programming", responses.get(0).getCourseName());
+        assertEquals("Data Structures", responses.get(1).getCourseName());
+        verify(courseClient).getCoursesByIds(List.of(courseId));
+    }
+
+    private List<ReviewView> views(Review... reviews) {
+        return Arrays.stream(reviews).map(ReviewView::of).toList();
+    }
 }
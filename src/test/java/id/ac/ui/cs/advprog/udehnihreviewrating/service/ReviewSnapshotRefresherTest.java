@@ -0,0 +1,148 @@
+package id.ac.ui.cs.advprog.udehnihreviewrating.service;
+
+import feign.FeignException;
+import feign.Request;
+import feign.Response;
+import id.ac.ui.cs.advprog.udehnihreviewrating.client.CourseClient;
+import id.ac.ui.cs.advprog.udehnihreviewrating.client.StudentClient;
+import id.ac.ui.cs.advprog.udehnihreviewrating.config.ReviewSnapshotProperties;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.course.CourseDetailDTO;
+import id.ac.ui.cs.advprog.udehnihreviewrating.dto.student.StudentDTO;
+import id.ac.ui.cs.advprog.udehnihreviewrating.exception.DownstreamUnavailableException;
+import id.ac.ui.cs.advprog.udehnihreviewrating.repository.ReviewRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewSnapshotRefresherTest {
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private CourseClient courseClient;
+
+    @Mock
+    private StudentClient studentClient;
+
+    private ReviewSnapshotProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private ReviewSnapshotRefresher refresher;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ReviewSnapshotProperties();
+        properties.setServiceToken("service-token");
+        meterRegistry = new SimpleMeterRegistry();
+        refresher = new ReviewSnapshotRefresher(reviewRepository, courseClient, studentClient,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void refreshStaleSnapshots_ShouldRewriteTitlesAndNamesOfStaleIds() {
+        when(reviewRepository.findCourseIdsWithStaleSnapshot(any(), any())).thenReturn(List.of(1L, 2L));
+        when(reviewRepository.findStudentIdsWithStaleSnapshot(any(), any())).thenReturn(List.of(10L));
+        when(courseClient.getCoursesByIds(List.of(1L, 2L))).thenReturn(List.of(
+                CourseDetailDTO.builder().id(1L).title("Advanced Programming").build()));
+        when(studentClient.getStudentsByIds(List.of(10L))).thenAnswer(invocation -> {
+            assertEquals("service-token", SecurityContextHolder.getContext().getAuthentication().getCredentials());
+            return List.of(StudentDTO.builder().studentId(10L).name("Jane Smith").build());
+        });
+
+        refresher.refreshStaleSnapshots();
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(reviewRepository).updateCourseSnapshot(eq(1L), eq("Advanced Programming"), any(LocalDateTime.class));
+        verify(reviewRepository).updateCourseSnapshot(eq(2L), isNull(), any(LocalDateTime.class));
+        verify(reviewRepository).updateStudentSnapshot(eq(10L), eq("Jane Smith"), any(LocalDateTime.class));
+        assertEquals(2.0, meterRegistry.get("review.snapshot.refreshed").tag("snapshot", "course").counter().count());
+    }
+
+    @Test
+    void refreshStaleSnapshots_FullBatch_ShouldFetchNextBatch() {
+        properties.setBatchSize(1);
+        when(reviewRepository.findCourseIdsWithStaleSnapshot(any(), any()))
+                .thenReturn(List.of(1L), List.of(2L), List.of());
+        when(reviewRepository.findStudentIdsWithStaleSnapshot(any(), any())).thenReturn(List.of());
+        when(courseClient.getCoursesByIds(any())).thenReturn(List.of());
+
+        refresher.refreshStaleSnapshots();
+
+        verify(reviewRepository, times(3)).findCourseIdsWithStaleSnapshot(any(), any());
+        verify(reviewRepository).updateCourseSnapshot(eq(1L), isNull(), any(LocalDateTime.class));
+        verify(reviewRepository).updateCourseSnapshot(eq(2L), isNull(), any(LocalDateTime.class));
+    }
+
+    @Test
+    void refreshStaleSnapshots_ServiceUnavailable_ShouldStopAndStillPublishStaleness() {
+        when(reviewRepository.findCourseIdsWithStaleSnapshot(any(), any())).thenReturn(List.of(1L));
+        when(courseClient.getCoursesByIds(List.of(1L)))
+                .thenThrow(new DownstreamUnavailableException("course-service", new RuntimeException("open")));
+        when(reviewRepository.findOldestCourseSnapshot()).thenReturn(LocalDateTime.now().minusHours(2));
+        when(reviewRepository.countByCourseIdIsNotNullAndCourseSnapshotAtIsNull()).thenReturn(5L);
+
+        refresher.refreshStaleSnapshots();
+
+        verify(reviewRepository, never()).updateCourseSnapshot(any(), any(), any());
+        verifyNoInteractions(studentClient);
+        double staleness = meterRegistry.get("review.snapshot.staleness").tag("snapshot", "course").gauge().value();
+        assertTrue(staleness >= 7_200 && staleness < 7_300);
+        assertEquals(5.0, meterRegistry.get("review.snapshot.missing").tag("snapshot", "course").gauge().value());
+    }
+
+    @Test
+    void refreshStaleSnapshots_NoServiceToken_ShouldSkipStudents() {
+        properties.setServiceToken(null);
+        when(reviewRepository.findCourseIdsWithStaleSnapshot(any(), any())).thenReturn(List.of());
+
+        refresher.refreshStaleSnapshots();
+
+        verify(reviewRepository, never()).findStudentIdsWithStaleSnapshot(any(), any());
+        verifyNoInteractions(studentClient);
+    }
+
+    @Test
+    void refreshStaleSnapshots_CourseLookupRejected_ShouldStillRefreshStudents() {
+        when(reviewRepository.findCourseIdsWithStaleSnapshot(any(), any())).thenReturn(List.of(1L));
+        when(courseClient.getCoursesByIds(List.of(1L))).thenThrow(FeignException.errorStatus("getCoursesByIds",
+                Response.builder()
+                        .status(401)
+                        .reason("Unauthorized")
+                        .request(Request.create(Request.HttpMethod.GET, "/api/courses", Map.of(), null,
+                                StandardCharsets.UTF_8, null))
+                        .headers(Map.of())
+                        .build()));
+        when(reviewRepository.findStudentIdsWithStaleSnapshot(any(), any())).thenReturn(List.of(10L));
+        when(studentClient.getStudentsByIds(List.of(10L))).thenReturn(List.of(
+                StudentDTO.builder().studentId(10L).name("Jane Smith").build()));
+
+        assertDoesNotThrow(() -> refresher.refreshStaleSnapshots());
+
+        verify(reviewRepository, never()).updateCourseSnapshot(any(), any(), any());
+        verify(reviewRepository).updateStudentSnapshot(eq(10L), eq("Jane Smith"), any(LocalDateTime.class));
+    }
+}